@@ -0,0 +1,29 @@
+package com.nhnacademy.library.batch.embedding.scheduler;
+
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "snapshot.embedding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class EmbeddingSnapshotScheduler {
+
+    private final EmbeddingSnapshotService embeddingSnapshotService;
+
+    @Scheduled(fixedDelayString = "${snapshot.embedding.export-interval-ms:3600000}",
+            initialDelayString = "${snapshot.embedding.export-interval-ms:3600000}")
+    public void runSnapshotExport() {
+        log.info("Embedding snapshot export started.");
+        try {
+            int exportedCount = embeddingSnapshotService.export();
+            log.info("Embedding snapshot export finished: {} embeddings.", exportedCount);
+        } catch (Exception e) {
+            log.error("Error occurred during embedding snapshot export: {}", e.getMessage(), e);
+        }
+    }
+}
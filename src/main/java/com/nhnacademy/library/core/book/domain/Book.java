@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.LazyGroup;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
@@ -21,7 +22,7 @@ import java.time.OffsetDateTime;
 
 @Getter
 @NoArgsConstructor
-@ToString(exclude = "reviewSummary")
+@ToString(exclude = {"reviewSummary", "embedding"})
 public class Book {
 
     @Id
@@ -81,6 +82,12 @@ public class Book {
     @Column(name="updated_at")
     private OffsetDateTime updatedAt;
 
+    /**
+     * 1024차원 임베딩은 검색/배치 전용 프로젝션 쿼리에서만 사용하므로, 도서 상세 조회나 리뷰 작성 시
+     * 불필요하게 읽고 파싱하지 않도록 지연 로딩합니다. (바이트코드 향상 필요, pom.xml 참고)
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("embedding")
     @Convert(converter = VectorConverter.class)
     @Column(name = "embedding", columnDefinition = "vector(1024)")
     @JdbcTypeCode(SqlTypes.VARCHAR)
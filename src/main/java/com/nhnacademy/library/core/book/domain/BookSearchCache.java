@@ -1,12 +1,19 @@
 package com.nhnacademy.library.core.book.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
-import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 
 import java.util.List;
 
+/**
+ * 시맨틱 캐시 항목
+ *
+ * <p>도서 상세 정보는 저장하지 않고 LLM 검증 순위의 도서 ID와 점수, AI 추천 사유만 저장합니다.
+ * 조회 시 도서 카드 캐시에서 상세 정보(리뷰 통계 포함)를 채우므로, 여러 항목에 같은 도서 정보가 중복되지 않고 리뷰 통계도 최신으로 유지됩니다.</p>
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,8 +26,25 @@ public class BookSearchCache {
 
     private float[] vector;
 
-    private List<BookSearchResponse> books;
+    /**
+     * LLM 검증 순위의 도서 ID와 점수 (순위 순)
+     */
+    private List<HybridSearchHit> hits;
     private List<BookAiRecommendationResponse> aiResponse;
 
     private long createdAt;
+
+    /**
+     * 만료 전 갱신을 요청한 시각 (epoch millis, 요청 전이면 0)
+     * 노드 안에서만 사용하므로 다른 노드와 공유하지 않습니다.
+     */
+    @JsonIgnore
+    private volatile long refreshRequestedAt;
+
+    /**
+     * 포함한 도서의 정보, 임베딩 또는 리뷰가 바뀌어 무효화된 시각 (epoch millis, 무효화 전이면 0)
+     * 무효화된 항목은 soft TTL과 관계없이 오래된 항목으로 보고 백그라운드 갱신합니다.
+     */
+    @JsonIgnore
+    private volatile long invalidatedAt;
 }
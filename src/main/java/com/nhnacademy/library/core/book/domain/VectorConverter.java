@@ -1,5 +1,6 @@
 package com.nhnacademy.library.core.book.domain;
 
+import com.nhnacademy.library.core.book.util.VectorTextCodec;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
@@ -11,15 +12,7 @@ public class VectorConverter implements AttributeConverter<float[], String> {
         if (attribute == null || attribute.length == 0) {
             return null;
         }
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < attribute.length; i++) {
-            sb.append(attribute[i]);
-            if (i < attribute.length - 1) {
-                sb.append(",");
-            }
-        }
-        sb.append("]");
-        return sb.toString();
+        return VectorTextCodec.encode(attribute);
     }
 
     @Override
@@ -27,16 +20,6 @@ public class VectorConverter implements AttributeConverter<float[], String> {
         if (dbData == null || dbData.isEmpty()) {
             return null;
         }
-        // Remove brackets "[" and "]"
-        String cleanData = dbData.substring(1, dbData.length() - 1);
-        if (cleanData.isEmpty()) {
-            return new float[0];
-        }
-        String[] parts = cleanData.split(",");
-        float[] vector = new float[parts.length];
-        for (int i = 0; i < parts.length; i++) {
-            vector[i] = Float.parseFloat(parts[i]);
-        }
-        return vector;
+        return VectorTextCodec.decode(dbData);
     }
 }
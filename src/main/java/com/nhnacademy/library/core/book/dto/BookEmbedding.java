@@ -0,0 +1,10 @@
+package com.nhnacademy.library.core.book.dto;
+
+/**
+ * 도서 ID와 임베딩 벡터 조회 결과
+ *
+ * @param id        도서 ID
+ * @param embedding 임베딩 벡터 (float[1024])
+ */
+public record BookEmbedding(Long id, float[] embedding) {
+}
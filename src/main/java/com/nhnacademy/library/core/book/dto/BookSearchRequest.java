@@ -10,6 +10,7 @@ import java.util.Objects;
  *
  * @param keyword 검색 키워드 (제목, 저자, 출판사 등)
  * @param isbn    도서 ISBN (13자리)
+ * @param cursor  이전 검색이 반환한 순위 커서 (같은 질의의 다른 페이지를 검색 없이 조회)
  */
 public record BookSearchRequest(
     @Size(max = 100)
@@ -20,7 +21,10 @@ public record BookSearchRequest(
 
     SearchType searchType,
     float[] vector,
-    Boolean isWarmUp
+    Boolean isWarmUp,
+
+    @Size(max = 64)
+    String cursor
 ) {
     public BookSearchRequest {
         if (searchType == null) {
@@ -35,6 +39,24 @@ public record BookSearchRequest(
         this(keyword, isbn, searchType, vector, false);
     }
 
+    public BookSearchRequest(String keyword, String isbn, SearchType searchType, float[] vector, Boolean isWarmUp) {
+        this(keyword, isbn, searchType, vector, isWarmUp, null);
+    }
+
+    /**
+     * 임베딩 벡터만 바꾼 요청을 반환합니다.
+     */
+    public BookSearchRequest withVector(float[] vector) {
+        return new BookSearchRequest(keyword, isbn, searchType, vector, isWarmUp, cursor);
+    }
+
+    /**
+     * 순위 커서만 바꾼 요청을 반환합니다.
+     */
+    public BookSearchRequest withCursor(String cursor) {
+        return new BookSearchRequest(keyword, isbn, searchType, vector, isWarmUp, cursor);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -44,12 +66,13 @@ public record BookSearchRequest(
                 Objects.equals(keyword, that.keyword) &&
                 Objects.equals(isbn, that.isbn) &&
                 Objects.equals(searchType, that.searchType) &&
-                Arrays.equals(vector, that.vector);
+                Arrays.equals(vector, that.vector) &&
+                Objects.equals(cursor, that.cursor);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(keyword, isbn, searchType, isWarmUp);
+        int result = Objects.hash(keyword, isbn, searchType, isWarmUp, cursor);
         result = 31 * result + Arrays.hashCode(vector);
         return result;
     }
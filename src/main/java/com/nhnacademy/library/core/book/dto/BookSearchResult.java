@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -18,19 +20,47 @@ public class BookSearchResult {
     private final List<BookAiRecommendationResponse> aiResponse;
     private final long createdAt;
 
+    /**
+     * 같은 질의의 다른 페이지를 검색 없이 조회할 수 있는 순위 커서 (없으면 null)
+     */
+    private final String cursor;
+
     public BookSearchResult(Page<BookSearchResponse> books, List<BookAiRecommendationResponse> aiResponse) {
-        this.books = books;
-        this.aiResponse = aiResponse;
-        this.createdAt = System.currentTimeMillis();
+        this(books, aiResponse, 0, null);
+    }
+
+    public BookSearchResult(Page<BookSearchResponse> books, List<BookAiRecommendationResponse> aiResponse,
+                            long createdAt) {
+        this(books, aiResponse, createdAt, null);
     }
 
     @JsonCreator
     public BookSearchResult(
             @JsonProperty("books") Page<BookSearchResponse> books,
             @JsonProperty("aiResponse") List<BookAiRecommendationResponse> aiResponse,
-            @JsonProperty("createdAt") long createdAt) {
+            @JsonProperty("createdAt") long createdAt,
+            @JsonProperty("cursor") String cursor) {
         this.books = books;
         this.aiResponse = aiResponse;
         this.createdAt = createdAt == 0 ? System.currentTimeMillis() : createdAt;
+        this.cursor = cursor;
+    }
+
+    /**
+     * 전체 순위를 담은 결과(RAG 캐시 항목, 워밍업 결과)에서 요청한 페이지만 잘라 반환합니다.
+     * 전체 건수는 순위 목록의 크기입니다.
+     *
+     * @param pageable 페이징 정보
+     * @return 해당 페이지의 검색 결과
+     */
+    public BookSearchResult slice(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return this;
+        }
+        List<BookSearchResponse> ranking = books.getContent();
+        int start = (int) Math.min(pageable.getOffset(), ranking.size());
+        int end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ranking.size());
+        return new BookSearchResult(new PageImpl<>(ranking.subList(start, end), pageable, ranking.size()),
+                aiResponse, createdAt, cursor);
     }
 }
@@ -0,0 +1,53 @@
+package com.nhnacademy.library.core.book.dto;
+
+import java.util.List;
+
+/**
+ * 스트리밍 검색에서 단계별로 전송하는 검색 결과
+ *
+ * @param stage      결과를 만든 검색 단계
+ * @param books      해당 단계의 요청 페이지 도서 목록
+ * @param totalCount 해당 단계의 전체 후보 수
+ * @param aiResponse AI 추천 응답 (RECOMMENDATION, AI 단계에서만 포함)
+ */
+public record BookSearchStreamEvent(
+        Stage stage,
+        List<BookSearchResponse> books,
+        long totalCount,
+        List<BookAiRecommendationResponse> aiResponse
+) {
+
+    public static BookSearchStreamEvent of(Stage stage, BookSearchResult result) {
+        return new BookSearchStreamEvent(stage, result.getBooks().getContent(),
+                result.getBooks().getTotalElements(), result.getAiResponse());
+    }
+
+    /**
+     * LLM 응답에서 완성된 추천 항목 하나와 그 도서로 RECOMMENDATION 이벤트를 만듭니다.
+     */
+    public static BookSearchStreamEvent recommendation(BookSearchResponse book,
+                                                       BookAiRecommendationResponse recommendation) {
+        return new BookSearchStreamEvent(Stage.RECOMMENDATION, List.of(book), 1, List.of(recommendation));
+    }
+
+    /**
+     * 검색 단계 (전송 순서)
+     */
+    public enum Stage {
+        /** 키워드 검색 결과 */
+        KEYWORD,
+        /** 키워드/벡터 RRF 병합 결과 */
+        HYBRID,
+        /** LLM 응답에서 완성된 추천 항목 (검증 통과 항목마다 하나씩) */
+        RECOMMENDATION,
+        /** LLM 검증을 거친 RAG 추천 결과 */
+        AI;
+
+        /**
+         * @return SSE 이벤트 이름
+         */
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+}
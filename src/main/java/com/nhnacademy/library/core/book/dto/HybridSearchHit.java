@@ -0,0 +1,11 @@
+package com.nhnacademy.library.core.book.dto;
+
+/**
+ * SQL에서 병합한 하이브리드 검색 결과 (도서 ID와 점수만 포함)
+ *
+ * @param id         도서 ID
+ * @param rrfScore   키워드/벡터 순위로 계산한 RRF 점수
+ * @param similarity 벡터 후보에 포함된 경우 코사인 유사도, 아니면 null
+ */
+public record HybridSearchHit(Long id, double rrfScore, Double similarity) {
+}
@@ -0,0 +1,11 @@
+package com.nhnacademy.library.core.book.dto;
+
+/**
+ * 검색 후보 (도서 상세 정보 없이 순위와 점수만 포함)
+ *
+ * @param id    도서 ID
+ * @param rank  후보 목록 내 순위 (1부터 시작)
+ * @param score 벡터 후보는 코사인 유사도, 키워드 후보는 관련도 점수가 없으므로 null
+ */
+public record SearchCandidate(Long id, int rank, Double score) {
+}
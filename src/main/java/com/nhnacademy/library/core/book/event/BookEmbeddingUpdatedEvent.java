@@ -0,0 +1,15 @@
+package com.nhnacademy.library.core.book.event;
+
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
+
+import java.util.List;
+
+/**
+ * 도서 임베딩이 생성(갱신)되었을 때 발생하는 이벤트
+ *
+ * @param embeddings 갱신된 도서 ID와 임베딩 목록
+ */
+public record BookEmbeddingUpdatedEvent(
+    List<BookEmbedding> embeddings
+) {
+}
@@ -1,11 +1,21 @@
 package com.nhnacademy.library.core.book.event;
 
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
 import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
+import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.cache.WarmUpCoordinator;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
+import com.nhnacademy.library.core.review.event.ReviewAiSummaryEvent;
+import com.nhnacademy.library.core.review.event.ReviewCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
 
 @Slf4j
 @Component
@@ -13,11 +23,49 @@ import org.springframework.stereotype.Component;
 public class BookSearchEventListener {
 
     private final BookSearchCacheService bookSearchCacheService;
+    private final BookCardCache bookCardCache;
+    private final SemanticCacheService semanticCacheService;
+    private final WarmUpCoordinator warmUpCoordinator;
 
-    @Async
+    @Async("eventExecutor")
     @EventListener
     public void handleBookSearchEvent(BookSearchEvent event) {
         log.info("[EVENT_LISTENER] Received search event for keyword: {}", event.getKeyword());
+        // 자주 검색되는 질의만 LLM 워밍업을 시작합니다. (허용 필터는 워밍업 진입점에서 적용)
         bookSearchCacheService.warmUpRagCache(event.getKeyword());
     }
+
+    @Async("eventExecutor")
+    @EventListener
+    public void handleSemanticCacheRefreshEvent(SemanticCacheRefreshEvent event) {
+        log.info("[EVENT_LISTENER] Received cache refresh event for keyword: {}", event.getKeyword());
+        bookSearchCacheService.refreshRagCache(event.getKeyword());
+    }
+
+    /**
+     * 리뷰 통계가 갱신되면(트랜잭션 커밋 후) 해당 도서의 카드를 제거하여 다음 검색에서 최신 통계를 조회합니다.
+     * 다른 노드의 도서 카드도 제거되도록 무효화를 알립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewStatsUpdated(ReviewAiSummaryEvent event) {
+        log.debug("[EVENT_LISTENER] Invalidating book card for book id: {}", event.bookId());
+        bookCardCache.invalidate(event.bookId());
+        warmUpCoordinator.broadcastCardInvalidation(List.of(event.bookId()));
+    }
+
+    /**
+     * 리뷰가 등록되면(트랜잭션 커밋 후) 해당 도서를 포함하는 시맨틱 캐시 항목을 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleReviewCreated(ReviewCreatedEvent event) {
+        semanticCacheService.invalidateBooks(List.of(event.bookId()));
+    }
+
+    /**
+     * 도서 임베딩이 갱신되면(트랜잭션 커밋 후) 해당 도서를 포함하는 시맨틱 캐시 항목을 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBookEmbeddingUpdated(BookEmbeddingUpdatedEvent event) {
+        semanticCacheService.invalidateBooks(event.embeddings().stream().map(BookEmbedding::id).toList());
+    }
 }
@@ -0,0 +1,17 @@
+package com.nhnacademy.library.core.book.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 갱신 시점(soft TTL)이 지난 시맨틱 캐시 항목을 반환했을 때 발행되는 이벤트
+ */
+@Getter
+public class SemanticCacheRefreshEvent extends ApplicationEvent {
+    private final String keyword;
+
+    public SemanticCacheRefreshEvent(Object source, String keyword) {
+        super(source);
+        this.keyword = keyword;
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 카드(검색 결과 표시용 도서 정보) 캐시 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "cache.book-card")
+public class BookCardCacheProperties {
+
+    /**
+     * 최대 캐시 항목 수 (도서 수)
+     */
+    private long maxEntries = 20_000;
+
+    /**
+     * 저장 이후 만료 시간 (분)
+     *
+     * <p>리뷰 통계는 갱신 이벤트로 바로 반영되며, 이 시간은 그 밖의 변경(리뷰 요약 등)이 반영되기까지의 최대 지연입니다.</p>
+     */
+    private long expireAfterWriteMinutes = 10;
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질의 임베딩 캐시 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "cache.embedding")
+public class EmbeddingCacheProperties {
+
+    /**
+     * 최대 캐시 항목 수
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 마지막 접근 이후 만료 시간 (분)
+     */
+    private long expireAfterAccessMinutes = 60;
+}
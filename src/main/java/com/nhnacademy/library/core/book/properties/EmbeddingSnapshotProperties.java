@@ -0,0 +1,38 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임베딩 스냅샷 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "snapshot.embedding")
+public class EmbeddingSnapshotProperties {
+
+    /**
+     * 스냅샷 내보내기 및 시작 시 스냅샷 적재 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    private String path = "data/snapshot/book-embeddings.bin";
+
+    /**
+     * 스냅샷 내보내기 주기 (밀리초)
+     */
+    private long exportIntervalMs = 3_600_000;
+
+    /**
+     * 내보내기 시 한 번에 읽을 임베딩 수
+     */
+    private int exportBatchSize = 1_000;
+}
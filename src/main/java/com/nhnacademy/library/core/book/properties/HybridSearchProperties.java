@@ -0,0 +1,43 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하이브리드 검색 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "search.hybrid")
+public class HybridSearchProperties {
+
+    /**
+     * 키워드/벡터 결과 병합 방식
+     *
+     * <ul>
+     *     <li>{@code application}: 두 검색을 각각 실행하고 애플리케이션에서 RRF로 병합 (선택한 벡터 검색 엔진 사용)</li>
+     *     <li>{@code sql}: 한 번의 SQL로 순위와 RRF 점수를 계산하고, 최종 페이지의 도서만 조회 (항상 pgvector 사용)</li>
+     * </ul>
+     */
+    private String mode = "application";
+
+    /**
+     * RRF 점수 계산을 위해 키워드/벡터 검색에서 각각 가져올 상위 후보 수
+     */
+    private int candidateSize = 100;
+
+    /**
+     * 키워드 검색 순위의 RRF 가중치
+     */
+    private double keywordWeight = 1.0;
+
+    /**
+     * 벡터 검색 순위의 RRF 가중치
+     */
+    private double vectorWeight = 1.0;
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * RAG 검색 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "search.rag")
+public class RagSearchProperties {
+
+    /**
+     * 캐시 미스 시 AI 추천 생성을 즉시 시작하고 기다리는 최대 시간 (ms)
+     *
+     * <p>시간 안에 끝나면 AI 검증 결과를, 넘기면 하이브리드 결과를 반환하며 진행 중인 생성 작업이 캐시를 채웁니다.
+     * 0 이하면 기다리지 않고 하이브리드 결과를 반환한 뒤 이벤트로 워밍업을 요청합니다.</p>
+     */
+    private long inlineWaitMs = 0;
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 시간 예산 설정 프로퍼티
+ *
+ * <p>예산을 넘기면 DB 쿼리는 타임아웃되고, 검색은 그때까지 준비된 결과(예: 키워드 후보만)로 응답합니다.
+ * 0 이하면 제한하지 않습니다.</p>
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "search.timeout")
+public class SearchTimeoutProperties {
+
+    /**
+     * 웹 검색 요청 하나의 시간 예산 (ms)
+     */
+    private long requestMs = 3_000;
+
+    /**
+     * RAG 캐시 워밍업(LLM 호출 포함) 하나의 시간 예산 (ms)
+     */
+    private long warmUpMs = 60_000;
+
+    /**
+     * 스트리밍 검색 응답 하나의 시간 예산 (ms, AI 추천 결과를 기다리는 시간 포함)
+     */
+    private long streamMs = 30_000;
+}
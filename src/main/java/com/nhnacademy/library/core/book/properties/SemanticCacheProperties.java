@@ -0,0 +1,36 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시맨틱 캐시 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "cache.semantic")
+public class SemanticCacheProperties {
+
+    /**
+     * 최대 캐시 항목 수
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 최대 캐시 크기 (추정 바이트)
+     */
+    private long maxWeightBytes = 256L * 1024 * 1024;
+
+    /**
+     * 항목을 삭제하는 최대 보관 시간 (분)
+     *
+     * <p>{@code cache.ttl.minutes}가 지난 항목은 이 시간까지 그대로 반환하면서 백그라운드 갱신을 한 번 요청합니다.
+     * {@code cache.ttl.minutes}보다 작으면 {@code cache.ttl.minutes}에 바로 삭제합니다.</p>
+     */
+    private long hardTtlMinutes = 1_440;
+}
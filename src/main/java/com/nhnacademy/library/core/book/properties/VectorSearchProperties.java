@@ -0,0 +1,31 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 벡터 검색 엔진 설정 프로퍼티
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "search.vector")
+public class VectorSearchProperties {
+
+    /**
+     * 벡터 검색 엔진 ({@code pgvector} 또는 {@code hnsw})
+     *
+     * <p>{@code hnsw}는 모든 도서 임베딩을 힙 메모리에 적재하므로,
+     * 도서 10만 건 기준 약 400MB(1024차원 float) 이상의 힙이 필요합니다.</p>
+     */
+    private String engine = "pgvector";
+
+    /**
+     * 인메모리 인덱스 적재 시 한 번에 읽을 임베딩 수
+     */
+    private int loadBatchSize = 1_000;
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 미스 이벤트로 시작하는 RAG 워밍업의 빈도 기반 허용(admission) 설정 프로퍼티
+ *
+ * <p>한 번만 검색되는 질의(오타 등)로 LLM을 호출하지 않도록, 정규화된 질의가 최근 창 안에서
+ * {@code minFrequency}번 이상 검색된 경우에만 워밍업을 시작합니다.</p>
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "cache.warm-up.admission")
+public class WarmUpAdmissionProperties {
+
+    /**
+     * 허용 필터 사용 여부 (false면 모든 캐시 미스에서 워밍업)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워밍업을 시작하는 최소 검색 횟수 (이번 검색 포함)
+     */
+    private int minFrequency = 2;
+
+    /**
+     * 빈도 스케치의 행당 카운터 수 (최근 창의 서로 다른 질의 수 이상 권장)
+     */
+    private int sketchWidth = 16_384;
+
+    /**
+     * 카운터를 절반으로 줄이는 검색 횟수 (빈도를 세는 창의 크기)
+     */
+    private int sampleSize = 100_000;
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.library.core.book.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * RAG 캐시 워밍업 리스(노드 간 중복 생성 방지) 설정 프로퍼티
+ *
+ * <p>Redis가 설정된 경우에만 사용하며, 리스를 가진 노드 하나만 같은 질의의 AI 추천을 생성하고
+ * 나머지 노드는 공유된 결과를 기다립니다.</p>
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "cache.warm-up.lease")
+public class WarmUpLeaseProperties {
+
+    /**
+     * 리스 만료 시간 (ms, 노드 장애 시 다른 노드가 이어받을 수 있도록 워밍업 시간 예산보다 약간 길게)
+     */
+    private long ttlMs = 90_000;
+
+    /**
+     * 다른 노드의 워밍업 결과를 확인하는 간격 (ms)
+     */
+    private long pollIntervalMs = 250;
+
+    /**
+     * 공유된 워밍업 결과의 보관 시간 (ms, 시맨틱 캐시 TTL과 같게)
+     */
+    private long resultTtlMs = 1_800_000;
+}
@@ -1,6 +1,7 @@
 package com.nhnacademy.library.core.book.repository;
 
 import com.nhnacademy.library.core.book.domain.Book;
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,4 +30,40 @@ public interface BookRepository extends JpaRepository<Book, Long>, BookRepositor
      */
     @Query("SELECT b.embedding FROM Book b WHERE b.id IN :bookIds AND b.embedding IS NOT NULL")
     List<float[]> findEmbeddingsByIds(@Param("bookIds") List<Long> bookIds);
+
+    /**
+     * 도서 ID 목록으로 도서 ID와 임베딩 벡터를 함께 조회합니다.
+     *
+     * <p>개인화 점수를 계산할 때, 검색 결과 도서들의 임베딩을
+     * 한 번의 쿼리로 가져오기 위해 사용됩니다.</p>
+     *
+     * @param bookIds 도서 ID 목록
+     * @return 임베딩이 있는 도서의 ID와 임베딩 목록
+     */
+    @Query("SELECT new com.nhnacademy.library.core.book.dto.BookEmbedding(b.id, b.embedding) "
+            + "FROM Book b WHERE b.id IN :bookIds AND b.embedding IS NOT NULL")
+    List<BookEmbedding> findBookEmbeddingsByIds(@Param("bookIds") List<Long> bookIds);
+
+    /**
+     * 지정한 ID보다 큰 도서들의 ID와 임베딩 벡터를 ID 순으로 조회합니다.
+     *
+     * <p>인메모리 벡터 인덱스를 구성할 때, 전체 임베딩을 키셋 페이징으로 나누어 읽기 위해 사용됩니다.</p>
+     *
+     * @param lastId   이전 배치의 마지막 도서 ID
+     * @param pageable 배치 크기
+     * @return 도서 ID와 임베딩 목록
+     */
+    @Query("SELECT new com.nhnacademy.library.core.book.dto.BookEmbedding(b.id, b.embedding) "
+            + "FROM Book b WHERE b.id > :lastId AND b.embedding IS NOT NULL ORDER BY b.id")
+    List<BookEmbedding> findBookEmbeddingsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 임베딩이 있는 모든 도서의 ID를 조회합니다.
+     *
+     * <p>임베딩 스냅샷을 적재한 뒤, 스냅샷 이후에 임베딩이 생성된 도서를 찾기 위해 사용됩니다.</p>
+     *
+     * @return 임베딩이 있는 도서 ID 목록
+     */
+    @Query("SELECT b.id FROM Book b WHERE b.embedding IS NOT NULL")
+    List<Long> findEmbeddedBookIds();
 }
@@ -2,12 +2,56 @@ package com.nhnacademy.library.core.book.repository;
 
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.List;
+
 @NoRepositoryBean
 public interface BookRepositoryCustom {
     Page<BookSearchResponse> search(Pageable pageable, BookSearchRequest request);
     Page<BookSearchResponse> vectorSearch(Pageable pageable, BookSearchRequest request);
+
+    /**
+     * 도서 ID 목록으로 검색 결과 DTO를 조회합니다. (리뷰 요약 포함)
+     *
+     * @param bookIds 도서 ID 목록 (결과는 이 순서를 따르며, 존재하지 않는 ID는 제외됩니다)
+     * @return 검색 결과 DTO 목록
+     */
+    List<BookSearchResponse> findSearchResponsesByIds(List<Long> bookIds);
+
+    /**
+     * 키워드 검색 후보를 도서 ID와 순위만으로 조회합니다. ({@link #search(Pageable, BookSearchRequest)}와 같은 조건)
+     *
+     * @param request 검색 요청 (키워드/ISBN 필터)
+     * @param limit   최대 후보 수
+     * @return ID 순으로 순위가 매겨진 후보 목록 (점수는 null)
+     */
+    List<SearchCandidate> findKeywordCandidates(BookSearchRequest request, int limit);
+
+    /**
+     * 벡터 검색 후보를 도서 ID, 순위, 코사인 유사도만으로 조회합니다.
+     *
+     * @param vector 질의 벡터 (null이면 빈 목록)
+     * @param limit  최대 후보 수
+     * @return 유사도 내림차순 후보 목록
+     */
+    List<SearchCandidate> findVectorCandidates(float[] vector, int limit);
+
+    /**
+     * 키워드 검색 순위, 벡터 검색 순위, RRF 점수를 한 번의 SQL로 계산합니다.
+     * 도서 상세 정보는 조회하지 않으므로, 필요한 페이지만 {@link #findSearchResponsesByIds(List)}로 조회합니다.
+     *
+     * @param request       검색 요청 (키워드/ISBN 필터와 질의 벡터, 벡터가 null이면 키워드 순위만 사용)
+     * @param candidateSize 키워드/벡터 검색에서 각각 가져올 상위 후보 수
+     * @param rrfK          RRF 상수 k
+     * @param keywordWeight 키워드 순위의 RRF 가중치
+     * @param vectorWeight  벡터 순위의 RRF 가중치
+     * @return RRF 점수 내림차순으로 정렬된 도서 ID와 점수 목록
+     */
+    List<HybridSearchHit> findHybridSearchHits(BookSearchRequest request, int candidateSize, int rrfK,
+                                               double keywordWeight, double vectorWeight);
 }
@@ -1,11 +1,49 @@
 package com.nhnacademy.library.core.book.repository;
 
 import com.nhnacademy.library.core.book.domain.BookSearchCache;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface BookSearchCacheRepository {
     BookSearchCache save(BookSearchCache cache);
     Iterable<BookSearchCache> findAll();
+
+    /**
+     * 질의 벡터와 코사인 유사도가 임계값 이상인 캐시 항목을 조회합니다.
+     *
+     * @param vector    질의 벡터
+     * @param threshold 최소 코사인 유사도
+     * @param limit     조회할 최대 항목 수
+     * @return 유사도 내림차순으로 정렬된 캐시 항목 목록
+     */
+    List<BookSearchCache> findSimilar(float[] vector, double threshold, int limit);
+
+    /**
+     * 정규화된 키워드가 같은 캐시 항목을 조회합니다.
+     * 키워드는 {@link com.nhnacademy.library.core.book.util.TextPreprocessor}와 같은 방식으로 정규화됩니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 정규화된 키워드가 일치하는 캐시 항목
+     */
+    Optional<BookSearchCache> findByKeyword(String keyword);
+
+    /**
+     * 도서를 포함하는(검증 순위 또는 AI 추천 사유) 캐시 항목을 조회합니다.
+     *
+     * @param bookId 도서 ID
+     * @return 해당 도서를 포함하는 캐시 항목 목록
+     */
+    List<BookSearchCache> findByBookId(Long bookId);
+
+    /**
+     * 생성 시각이 기준 시각보다 이전인 캐시 항목을 삭제합니다.
+     *
+     * @param createdAt 기준 시각 (epoch millis)
+     * @return 삭제된 캐시 항목 목록
+     */
+    List<BookSearchCache> deleteCreatedBefore(long createdAt);
+
     void delete(BookSearchCache cache);
     void deleteAll();
 }
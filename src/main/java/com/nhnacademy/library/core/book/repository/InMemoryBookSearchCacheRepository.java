@@ -1,39 +1,231 @@
 package com.nhnacademy.library.core.book.repository;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.properties.SemanticCacheProperties;
+import com.nhnacademy.library.core.book.util.HnswIndex;
+import com.nhnacademy.library.core.book.util.TextPreprocessor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 시맨틱 캐시 인메모리 저장소
+ *
+ * <p>캐시 항목의 벡터를 HNSW 인덱스에 함께 저장하여,
+ * 전체 항목을 순회하지 않고 유사한 캐시 항목을 조회합니다.</p>
+ *
+ * <p>정규화된 키워드로도 색인하여, 동일한 질의는 임베딩 없이 바로 조회할 수 있습니다.</p>
+ *
+ * <p>Caffeine(W-TinyLFU)으로 항목 수와 추정 바이트 크기를 함께 제한합니다.
+ * Caffeine은 두 기준을 동시에 설정할 수 없으므로, 항목당 가중치의 하한을
+ * {@code maxWeightBytes / maxEntries}로 두어 항목 수 제한도 함께 보장합니다.</p>
+ */
+@Slf4j
 @Repository
 public class InMemoryBookSearchCacheRepository implements BookSearchCacheRepository {
-    private final Map<String, BookSearchCache> cache = new ConcurrentHashMap<>();
+
+    /** 객체 헤더, 참조 필드 등 항목별 고정 오버헤드 추정치 */
+    private static final int OBJECT_OVERHEAD_BYTES = 64;
+
+    /** 순위 항목의 도서 ID(Long)와 점수(double, Double) 필드 크기 추정치 */
+    private static final int HIT_FIELDS_BYTES = 3 * Long.BYTES;
+
+    private final Cache<String, BookSearchCache> cache;
+    private final HnswIndex<String> vectorIndex = new HnswIndex<>();
+    private final Map<String, String> keywordIndex = new ConcurrentHashMap<>();
+
+    /** 도서 ID → 그 도서를 포함하는 캐시 항목 ID (역색인) */
+    private final Map<Long, Set<String>> bookIndex = new ConcurrentHashMap<>();
+
+    public InMemoryBookSearchCacheRepository(SemanticCacheProperties properties) {
+        if (properties.getMaxEntries() <= 0 || properties.getMaxWeightBytes() <= 0) {
+            throw new IllegalArgumentException("Semantic cache bounds must be positive: " + properties);
+        }
+        long minWeight = Math.max(1, Math.ceilDiv(properties.getMaxWeightBytes(), properties.getMaxEntries()));
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher((String id, BookSearchCache entry) ->
+                        (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, estimateWeight(entry))))
+                .evictionListener((String id, BookSearchCache entry, RemovalCause cause) -> {
+                    if (id != null) {
+                        unindex(id, entry);
+                    }
+                    log.debug("[SEMANTIC_CACHE] Evicted cache entry: {} (cause: {})", id, cause);
+                })
+                .build();
+    }
 
     @Override
     public BookSearchCache save(BookSearchCache entry) {
         if (entry.getId() == null) {
             entry.setId(UUID.randomUUID().toString());
         }
-        cache.put(entry.getId(), entry);
+        BookSearchCache replaced = cache.asMap().put(entry.getId(), entry);
+        vectorIndex.add(entry.getId(), entry.getVector());
+        if (replaced != null && replaced != entry) {
+            unindexBooks(entry.getId(), replaced);
+        }
+        indexBooks(entry.getId(), entry);
+        String normalizedKeyword = TextPreprocessor.preprocess(entry.getKeyword());
+        if (!normalizedKeyword.isEmpty()) {
+            // 같은 질의를 새로 생성한 항목은 이전 항목을 대체합니다. (만료 전 갱신)
+            String previousId = keywordIndex.put(normalizedKeyword, entry.getId());
+            if (previousId != null && !previousId.equals(entry.getId())) {
+                BookSearchCache previous = cache.getIfPresent(previousId);
+                cache.invalidate(previousId);
+                vectorIndex.remove(previousId);
+                unindexBooks(previousId, previous);
+            }
+        }
         return entry;
     }
 
     @Override
     public Iterable<BookSearchCache> findAll() {
-        return cache.values();
+        return cache.asMap().values();
+    }
+
+    @Override
+    public List<BookSearchCache> findSimilar(float[] vector, double threshold, int limit) {
+        List<BookSearchCache> result = new ArrayList<>();
+        for (HnswIndex.Neighbor<String> neighbor : vectorIndex.search(vector, limit)) {
+            if (neighbor.similarity() < threshold) {
+                break;
+            }
+            BookSearchCache entry = cache.getIfPresent(neighbor.key());
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<BookSearchCache> findByKeyword(String keyword) {
+        String normalizedKeyword = TextPreprocessor.preprocess(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return Optional.empty();
+        }
+        String id = keywordIndex.get(normalizedKeyword);
+        return id == null ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    @Override
+    public List<BookSearchCache> findByBookId(Long bookId) {
+        Set<String> ids = bookIndex.get(bookId);
+        if (ids == null) {
+            return List.of();
+        }
+        List<BookSearchCache> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            BookSearchCache entry = cache.getIfPresent(id);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<BookSearchCache> deleteCreatedBefore(long createdAt) {
+        List<BookSearchCache> expired = cache.asMap().values().stream()
+                .filter(entry -> entry.getCreatedAt() < createdAt)
+                .toList();
+        expired.forEach(this::delete);
+        return expired;
     }
 
     @Override
     public void delete(BookSearchCache entry) {
         if (entry.getId() != null) {
-            cache.remove(entry.getId());
+            cache.invalidate(entry.getId());
+            unindex(entry.getId(), entry);
         }
     }
 
     @Override
     public void deleteAll() {
-        cache.clear();
+        cache.invalidateAll();
+        vectorIndex.clear();
+        keywordIndex.clear();
+        bookIndex.clear();
+    }
+
+    private void unindex(String id, BookSearchCache entry) {
+        vectorIndex.remove(id);
+        if (entry != null) {
+            keywordIndex.remove(TextPreprocessor.preprocess(entry.getKeyword()), id);
+        }
+        unindexBooks(id, entry);
+    }
+
+    private void indexBooks(String id, BookSearchCache entry) {
+        for (Long bookId : bookIdsOf(entry)) {
+            bookIndex.computeIfAbsent(bookId, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void unindexBooks(String id, BookSearchCache entry) {
+        for (Long bookId : bookIdsOf(entry)) {
+            bookIndex.computeIfPresent(bookId, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * @return 캐시 항목이 포함하는 도서 ID (검증 순위와 AI 추천 사유의 도서)
+     */
+    private static Set<Long> bookIdsOf(BookSearchCache entry) {
+        if (entry == null) {
+            return Set.of();
+        }
+        Set<Long> bookIds = new HashSet<>();
+        if (entry.getHits() != null) {
+            entry.getHits().forEach(hit -> bookIds.add(hit.id()));
+        }
+        if (entry.getAiResponse() != null) {
+            entry.getAiResponse().forEach(response -> bookIds.add(response.getId()));
+        }
+        bookIds.remove(null);
+        return bookIds;
+    }
+
+    /**
+     * 캐시 항목이 차지하는 힙 크기를 추정합니다.
+     * 문자열은 UTF-16 기준(문자당 2바이트)으로 계산합니다.
+     */
+    private static long estimateWeight(BookSearchCache entry) {
+        long weight = OBJECT_OVERHEAD_BYTES + sizeOf(entry.getKeyword());
+        if (entry.getVector() != null) {
+            weight += (long) entry.getVector().length * Float.BYTES;
+        }
+        if (entry.getHits() != null) {
+            weight += (long) entry.getHits().size() * (OBJECT_OVERHEAD_BYTES + HIT_FIELDS_BYTES);
+        }
+        if (entry.getAiResponse() != null) {
+            for (BookAiRecommendationResponse response : entry.getAiResponse()) {
+                weight += OBJECT_OVERHEAD_BYTES + sizeOf(response.getWhy());
+            }
+        }
+        return weight;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD_BYTES / 2 + (long) value.length() * Character.BYTES;
     }
 }
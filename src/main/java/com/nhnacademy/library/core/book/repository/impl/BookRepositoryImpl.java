@@ -4,25 +4,37 @@ import com.nhnacademy.library.core.book.domain.SearchType;
 import com.nhnacademy.library.core.book.domain.QBook;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
 import com.nhnacademy.library.core.book.repository.BookRepositoryCustom;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import com.nhnacademy.library.core.book.util.VectorTextCodec;
 import com.nhnacademy.library.core.review.domain.QBookReviewSummary;
 import com.nhnacademy.library.core.review.domain.BookReviewSummary;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.AbstractJPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,7 +42,40 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepositoryCustom {
 
+    /**
+     * 키워드 후보와 벡터 후보를 각각 순위화하고 FULL OUTER JOIN으로 RRF 점수를 합산하는 쿼리.
+     * 키워드 조건({@code %1$s})은 {@link #commonWhere(BookSearchRequest)}와 같은 조건의 네이티브 SQL이며,
+     * 키워드 검색에는 관련도 정렬이 없으므로 ID 순으로 순위를 매깁니다.
+     */
+    private static final String HYBRID_SEARCH_SQL = """
+            WITH keyword_hits AS (
+                SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rank
+                FROM (SELECT b.id FROM books b WHERE %1$s ORDER BY b.id LIMIT :candidateSize) k
+            ),
+            vector_hits AS (
+                %2$s
+            )
+            SELECT COALESCE(k.id, v.id) AS id,
+                   CAST(COALESCE(:keywordWeight / (:rrfK + k.rank), 0) + COALESCE(:vectorWeight / (:rrfK + v.rank), 0) AS double precision) AS rrf_score,
+                   v.similarity
+            FROM keyword_hits k
+            FULL OUTER JOIN vector_hits v ON k.id = v.id
+            ORDER BY rrf_score DESC, id
+            """;
+
+    private static final String VECTOR_HITS_SQL = """
+            SELECT id, 1.0 - distance AS similarity, ROW_NUMBER() OVER (ORDER BY distance) AS rank
+                FROM (SELECT b.id, b.embedding <=> CAST(:vector AS vector) AS distance
+                      FROM books b
+                      WHERE b.embedding IS NOT NULL
+                      ORDER BY distance
+                      LIMIT :candidateSize) v""";
+
+    private static final String EMPTY_VECTOR_HITS_SQL =
+            "SELECT CAST(NULL AS bigint) AS id, CAST(NULL AS double precision) AS similarity, CAST(NULL AS bigint) AS rank WHERE FALSE";
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
     QBook book = QBook.book;
     QBookReviewSummary bookReviewSummary = QBookReviewSummary.bookReviewSummary;
 
@@ -42,7 +87,7 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         }
 
         // 1. Book 조회 (BookSearchResponse.from() 사용)
-        List<BookSearchResponse> bookSearchResponseList = queryFactory
+        List<BookSearchResponse> bookSearchResponseList = withTimeout(queryFactory
                 .from(book)
                 .select(
                         Projections.constructor(
@@ -61,38 +106,16 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 )
                 .where(commonWhere(request))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize()))
                 .fetch();
 
-        // 2. 리뷰 정보 조회 (N+1 문제 방지 - IN 절 사용)
-        if (!bookSearchResponseList.isEmpty()) {
-            List<Long> bookIds = bookSearchResponseList.stream()
-                    .map(BookSearchResponse::getId)
-                    .collect(Collectors.toList());
-
-            List<BookReviewSummary> summaries = queryFactory
-                    .selectFrom(bookReviewSummary)
-                    .where(bookReviewSummary.bookId.in(bookIds))
-                    .fetch();
-
-            Map<Long, BookReviewSummary> reviewMap = summaries.stream()
-                    .collect(Collectors.toMap(BookReviewSummary::getBookId, s -> s));
+        // 2. 리뷰 정보 조회 및 조합 (N+1 문제 방지 - IN 절 사용)
+        attachReviewSummaries(bookSearchResponseList);
 
-            // 3. 리뷰 정보 조합
-            bookSearchResponseList.forEach(response -> {
-                BookReviewSummary summary = reviewMap.get(response.getId());
-                if (summary != null) {
-                    response.setAverageRating(summary.getAverageRating());
-                    response.setReviewCount(summary.getReviewCount());
-                    response.setReviewSummary(summary.getReviewSummary());
-                }
-            });
-        }
-
-        long totalCount = queryFactory
+        long totalCount = withTimeout(queryFactory
                 .select(book.count())
                 .from(book)
-                .where(commonWhere(request))
+                .where(commonWhere(request)))
                 .fetchOne();
 
         return new PageImpl<>(bookSearchResponseList, pageable, totalCount);
@@ -105,12 +128,10 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
             return new PageImpl<>(List.of(), pageable, 0);
         }
 
-        String vectorString = arrayToVectorString(request.vector());
-
-        NumberTemplate<Double> similarityTemplate = Expressions.numberTemplate(Double.class, "function('vector_cosine_similarity', {0})", vectorString);
+        NumberTemplate<Double> similarityTemplate = similarityTemplate(request.vector());
 
         // 1. Book 벡터 검색
-        List<BookSearchResponse> bookSearchResponseList = queryFactory
+        List<BookSearchResponse> bookSearchResponseList = withTimeout(queryFactory
                 .from(book)
                 .select(
                         Projections.constructor(
@@ -131,57 +152,218 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
                 .where(Expressions.booleanTemplate("embedding is not null"))
                 .orderBy(similarityTemplate.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize()))
                 .fetch();
 
-        // 2. 리뷰 정보 조회 (N+1 문제 방지 - IN 절 사용)
-        if (!bookSearchResponseList.isEmpty()) {
-            List<Long> bookIds = bookSearchResponseList.stream()
-                    .map(BookSearchResponse::getId)
-                    .collect(Collectors.toList());
+        // 2. 리뷰 정보 조회 및 조합 (N+1 문제 방지 - IN 절 사용)
+        attachReviewSummaries(bookSearchResponseList);
 
-            List<BookReviewSummary> summaries = queryFactory
-                    .selectFrom(bookReviewSummary)
-                    .where(bookReviewSummary.bookId.in(bookIds))
-                    .fetch();
+        long totalCount = withTimeout(queryFactory
+                .select(book.count())
+                .from(book)
+                .where(Expressions.booleanTemplate("embedding is not null")))
+                .fetchOne();
 
-            Map<Long, BookReviewSummary> reviewMap = summaries.stream()
-                    .collect(Collectors.toMap(BookReviewSummary::getBookId, s -> s));
+        return new PageImpl<>(bookSearchResponseList, pageable, totalCount);
+    }
 
-            // 3. 리뷰 정보 조합
-            bookSearchResponseList.forEach(response -> {
-                BookReviewSummary summary = reviewMap.get(response.getId());
-                if (summary != null) {
-                    response.setAverageRating(summary.getAverageRating());
-                    response.setReviewCount(summary.getReviewCount());
-                    response.setReviewSummary(summary.getReviewSummary());
-                }
-            });
+    @Override
+    public List<BookSearchResponse> findSearchResponsesByIds(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return List.of();
         }
 
-        long totalCount = queryFactory
-                .select(book.count())
+        // 1. Book + 리뷰 요약 조회 (IN 절 + LEFT JOIN, 한 번의 쿼리)
+        List<Tuple> rows = withTimeout(queryFactory
+                .select(
+                        Projections.constructor(
+                                BookSearchResponse.class,
+                                book.id,
+                                book.isbn,
+                                book.title,
+                                book.volumeTitle,
+                                book.authorName,
+                                book.publisherName,
+                                book.price,
+                                book.editionPublishDate,
+                                book.imageUrl,
+                                book.bookContent
+                        ),
+                        bookReviewSummary.averageRating,
+                        bookReviewSummary.reviewCount,
+                        bookReviewSummary.reviewSummary
+                )
                 .from(book)
-                .where(Expressions.booleanTemplate("embedding is not null"))
-                .fetchOne();
+                .leftJoin(bookReviewSummary).on(bookReviewSummary.bookId.eq(book.id))
+                .where(book.id.in(bookIds)))
+                .fetch();
 
-        return new PageImpl<>(bookSearchResponseList, pageable, totalCount);
+        Map<Long, BookSearchResponse> responseMap = new HashMap<>(rows.size() * 2);
+        for (Tuple row : rows) {
+            BookSearchResponse response = row.get(0, BookSearchResponse.class);
+            if (row.get(bookReviewSummary.reviewCount) != null) {
+                response.setAverageRating(row.get(bookReviewSummary.averageRating));
+                response.setReviewCount(row.get(bookReviewSummary.reviewCount));
+                response.setReviewSummary(row.get(bookReviewSummary.reviewSummary));
+            }
+            responseMap.put(response.getId(), response);
+        }
+
+        // 2. 요청한 ID 순서대로 정렬 (조회되지 않은 ID는 제외)
+        return bookIds.stream()
+                .map(responseMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-    private String arrayToVectorString(float[] vector) {
+    @Override
+    public List<SearchCandidate> findKeywordCandidates(BookSearchRequest request, int limit) {
+        List<Long> bookIds = withTimeout(queryFactory
+                .select(book.id)
+                .from(book)
+                .where(commonWhere(request))
+                .orderBy(book.id.asc())
+                .limit(limit))
+                .fetch();
+
+        List<SearchCandidate> candidates = new ArrayList<>(bookIds.size());
+        for (int i = 0; i < bookIds.size(); i++) {
+            candidates.add(new SearchCandidate(bookIds.get(i), i + 1, null));
+        }
+        return candidates;
+    }
+
+    @Override
+    public List<SearchCandidate> findVectorCandidates(float[] vector, int limit) {
         if (vector == null) {
-            throw new IllegalArgumentException("Vector cannot be null");
+            log.warn("[VECTOR_SEARCH] Vector is null, returning empty candidates");
+            return List.of();
         }
 
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < vector.length; i++) {
-            sb.append(vector[i]);
-            if (i < vector.length - 1) {
-                sb.append(",");
-            }
+        NumberTemplate<Double> similarityTemplate = similarityTemplate(vector);
+        List<Tuple> rows = withTimeout(queryFactory
+                .select(book.id, similarityTemplate)
+                .from(book)
+                .where(Expressions.booleanTemplate("embedding is not null"))
+                .orderBy(similarityTemplate.desc())
+                .limit(limit))
+                .fetch();
+
+        List<SearchCandidate> candidates = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Tuple row = rows.get(i);
+            candidates.add(new SearchCandidate(row.get(book.id), i + 1, row.get(similarityTemplate)));
         }
-        sb.append("]");
-        return sb.toString();
+        return candidates;
+    }
+
+    @Override
+    public List<HybridSearchHit> findHybridSearchHits(BookSearchRequest request, int candidateSize, int rrfK,
+                                                      double keywordWeight, double vectorWeight) {
+        Map<String, Object> parameters = new HashMap<>();
+        String keywordWhere = nativeKeywordWhere(request, parameters);
+        String vectorHits = EMPTY_VECTOR_HITS_SQL;
+        if (request.vector() != null) {
+            vectorHits = VECTOR_HITS_SQL;
+            parameters.put("vector", VectorTextCodec.encode(request.vector()));
+        }
+
+        Query query = entityManager.createNativeQuery(HYBRID_SEARCH_SQL.formatted(keywordWhere, vectorHits));
+        query.setParameter("candidateSize", candidateSize);
+        query.setParameter("rrfK", rrfK);
+        query.setParameter("keywordWeight", keywordWeight);
+        query.setParameter("vectorWeight", vectorWeight);
+        parameters.forEach(query::setParameter);
+        SearchDeadline deadline = SearchDeadline.current();
+        if (deadline.isBounded()) {
+            query.setHint(HibernateHints.HINT_TIMEOUT, deadline.queryTimeoutSeconds());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        List<HybridSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new HybridSearchHit(
+                    ((Number) row[0]).longValue(),
+                    ((Number) row[1]).doubleValue(),
+                    row[2] == null ? null : ((Number) row[2]).doubleValue()
+            ));
+        }
+        return hits;
+    }
+
+    /**
+     * 현재 검색 요청의 남은 시간({@link SearchDeadline#current()})을 쿼리 타임아웃으로 설정합니다.
+     */
+    private static <Q extends AbstractJPAQuery<?, Q>> Q withTimeout(Q query) {
+        SearchDeadline deadline = SearchDeadline.current();
+        if (deadline.isBounded()) {
+            query.setHint(HibernateHints.HINT_TIMEOUT, deadline.queryTimeoutSeconds());
+        }
+        return query;
+    }
+
+    private NumberTemplate<Double> similarityTemplate(float[] vector) {
+        return Expressions.numberTemplate(Double.class, "function('vector_cosine_similarity', {0})",
+                VectorTextCodec.encode(vector));
+    }
+
+    /**
+     * {@link #commonWhere(BookSearchRequest)}와 같은 키워드/ISBN 조건을 네이티브 SQL로 만듭니다.
+     * LIKE 조건은 QueryDSL {@code containsIgnoreCase}와 같이 {@code lower()}와 {@code '!'} 이스케이프를 사용합니다.
+     */
+    private String nativeKeywordWhere(BookSearchRequest request, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+
+        if (StringUtils.isNotEmpty(request.keyword())) {
+            conditions.add("""
+                    (lower(b.title) LIKE lower(:pattern) ESCAPE '!'
+                     OR lower(b.author_name) LIKE lower(:pattern) ESCAPE '!'
+                     OR lower(b.publisher_name) LIKE lower(:pattern) ESCAPE '!'
+                     OR lower(b.subtitle) LIKE lower(:pattern) ESCAPE '!'
+                     OR lower(b.volume_title) LIKE lower(:pattern) ESCAPE '!'
+                     OR to_tsvector('korean', b.book_content) @@ plainto_tsquery('korean', :keyword))""");
+            parameters.put("pattern", "%" + escapeLike(request.keyword()) + "%");
+            parameters.put("keyword", request.keyword());
+        }
+
+        if (StringUtils.isNotEmpty(request.isbn())) {
+            conditions.add("b.isbn = :isbn");
+            parameters.put("isbn", request.isbn());
+        }
+
+        return conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private void attachReviewSummaries(List<BookSearchResponse> bookSearchResponseList) {
+        if (bookSearchResponseList.isEmpty()) {
+            return;
+        }
+
+        List<Long> bookIds = bookSearchResponseList.stream()
+                .map(BookSearchResponse::getId)
+                .collect(Collectors.toList());
+
+        List<BookReviewSummary> summaries = withTimeout(queryFactory
+                .selectFrom(bookReviewSummary)
+                .where(bookReviewSummary.bookId.in(bookIds)))
+                .fetch();
+
+        Map<Long, BookReviewSummary> reviewMap = summaries.stream()
+                .collect(Collectors.toMap(BookReviewSummary::getBookId, s -> s));
+
+        bookSearchResponseList.forEach(response -> {
+            BookReviewSummary summary = reviewMap.get(response.getId());
+            if (summary != null) {
+                response.setAverageRating(summary.getAverageRating());
+                response.setReviewCount(summary.getReviewCount());
+                response.setReviewSummary(summary.getReviewSummary());
+            }
+        });
     }
 
     private BooleanBuilder commonWhere(BookSearchRequest request) {
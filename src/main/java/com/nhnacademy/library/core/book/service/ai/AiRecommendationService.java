@@ -5,12 +5,21 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * AI 도서 추천 서비스
@@ -25,20 +34,108 @@ public class AiRecommendationService {
 
     private static final int MAX_REVIEW_SUMMARY_LENGTH = 100;
 
+    /**
+     * 마감 시각이 있는 LLM 호출은 호출마다 가상 스레드에서 실행하고 남은 시간만큼만 기다립니다.
+     * 시간을 넘기면 호출 스레드를 인터럽트하여 진행 중인 HTTP 요청을 중단합니다.
+     * (동시 호출 수는 호출자인 워밍업 Executor가 제한합니다)
+     */
+    private static final ExecutorService LLM_CALL_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("llm-call-", 0).factory());
+
+    /**
+     * 질문과 관련 도서 목록을 바탕으로 AI 추천 응답을 생성합니다. (시간 제한 없음)
+     *
+     * @see #recommend(String, List, SearchDeadline)
+     */
+    public List<BookAiRecommendationResponse> recommend(String question, List<BookSearchResponse> books) {
+        return recommend(question, books, SearchDeadline.none());
+    }
+
     /**
      * 질문과 관련 도서 목록을 바탕으로 AI 추천 응답을 생성합니다.
      *
      * @param question 사용자의 질문
      * @param books    관련 도서 목록 (RRF 점수 기반 정렬됨)
+     * @param deadline 마감 시각 (그때까지 LLM 응답이 없으면 빈 목록을 반환)
      * @return AI 추천 응답 리스트
      */
-    public List<BookAiRecommendationResponse> recommend(String question, List<BookSearchResponse> books) {
+    public List<BookAiRecommendationResponse> recommend(String question, List<BookSearchResponse> books,
+                                                        SearchDeadline deadline) {
         if (books == null || books.isEmpty()) {
             return List.of();
         }
 
         log.info("[AI 추천] 시작, 질문: {}, 도서 수: {}", question, books.size());
 
+        String renderedPrompt = buildPrompt(question, books);
+
+        String rawResponse = callWithin(renderedPrompt, deadline);
+        if (rawResponse == null) {
+            log.warn("[DEADLINE] LLM did not respond within the budget. Skipping AI recommendation.");
+            return List.of();
+        }
+        log.debug("AI Raw Response: {}", rawResponse);
+
+        try {
+            // JSON 응답에서 마크다운 코드 블록 제거
+            String jsonPart = rawResponse.replaceAll("```json", "").replaceAll("```", "").trim();
+            List<BookAiRecommendationResponse> recommendations = objectMapper.readValue(jsonPart, new TypeReference<List<BookAiRecommendationResponse>>() {});
+            
+            // 검색된 도서 리스트에서 유사도 및 RRF 점수 매핑
+            recommendations.forEach(rec -> enrich(rec, books));
+            return recommendations;
+        } catch (Exception e) {
+            log.error("Failed to parse AI response: {}", rawResponse, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 질문과 관련 도서 목록을 바탕으로 AI 추천 응답을 스트리밍으로 생성합니다. (시간 제한 없음)
+     *
+     * @see #recommendStream(String, List, SearchDeadline)
+     */
+    public Flux<BookAiRecommendationResponse> recommendStream(String question, List<BookSearchResponse> books) {
+        return recommendStream(question, books, SearchDeadline.none());
+    }
+
+    /**
+     * 질문과 관련 도서 목록을 바탕으로 AI 추천 응답을 스트리밍으로 생성합니다.
+     * LLM 응답을 토큰 단위로 받아 JSON 배열을 점진적으로 파싱하고, 추천 항목 하나가 완성되는 즉시 방출하므로
+     * 첫 추천까지의 시간이 전체 응답 완료 시간보다 짧습니다.
+     *
+     * <p>방출 순서는 LLM 출력 순서(relevance 내림차순 요청)이며, 유사도와 RRF 점수는 후보 도서에서 채웁니다.
+     * 형식이 맞지 않는 항목은 건너뛰고, JSON 문법 오류 이후의 응답은 무시합니다.</p>
+     *
+     * @param question 사용자의 질문
+     * @param books    관련 도서 목록 (RRF 점수 기반 정렬됨)
+     * @param deadline 마감 시각 (넘기면 그때까지 방출한 항목으로 스트림을 종료)
+     * @return AI 추천 응답 스트림
+     */
+    public Flux<BookAiRecommendationResponse> recommendStream(String question, List<BookSearchResponse> books,
+                                                              SearchDeadline deadline) {
+        if (books == null || books.isEmpty() || deadline.isExpired()) {
+            return Flux.empty();
+        }
+
+        log.info("[AI 추천] 스트리밍 시작, 질문: {}, 도서 수: {}", question, books.size());
+        String renderedPrompt = buildPrompt(question, books);
+
+        Flux<BookAiRecommendationResponse> recommendations = Flux.defer(() -> {
+            StreamingRecommendationParser parser = new StreamingRecommendationParser(objectMapper);
+            return chatModel.stream(renderedPrompt).concatMapIterable(parser::feed);
+        }).doOnNext(rec -> enrich(rec, books));
+
+        if (deadline.isBounded()) {
+            recommendations = recommendations.take(Duration.ofMillis(deadline.remainingMillis()));
+        }
+        return recommendations;
+    }
+
+    /**
+     * RRF 점수 내림차순으로 정렬한 도서 컨텍스트로 추천 프롬프트를 만듭니다.
+     */
+    private String buildPrompt(String question, List<BookSearchResponse> books) {
         // Context 구성: RRF 점수 내림차순으로 정렬하여 가장 중요한 정보가 컨텍스트의 앞부분에 오도록 함
         List<BookSearchResponse> sortedBooks = new ArrayList<>(books);
         sortedBooks.sort((b1, b2) -> {
@@ -135,32 +232,54 @@ public class AiRecommendationService {
             {context}
             """;
 
-        String renderedPrompt = template
+        return template
                 .replace("{question}", question)
                 .replace("{context}", context.toString());
+    }
 
-        String rawResponse = chatModel.call(renderedPrompt);
-        log.debug("AI Raw Response: {}", rawResponse);
+    /**
+     * 검색된 도서 목록에서 추천 항목의 유사도와 RRF 점수를 채웁니다.
+     */
+    private static void enrich(BookAiRecommendationResponse rec, List<BookSearchResponse> books) {
+        books.stream()
+                .filter(b -> b.getId().equals(rec.getId()))
+                .findFirst()
+                .ifPresent(b -> {
+                    rec.setSimilarity(b.getSimilarity());
+                    rec.setRrfScore(b.getRrfScore());
+                });
+    }
 
+    /**
+     * 남은 시간({@link SearchDeadline#remainingMillis()})만큼만 LLM 응답을 기다립니다.
+     * 시간을 넘기면 호출을 인터럽트로 취소하므로, 응답하지 않는 LLM 호출이 백그라운드에 쌓이지 않습니다.
+     * ({@code spring.http.client.read-timeout}은 시간 제한이 없는 호출의 상한입니다)
+     *
+     * @return LLM 응답 (마감 시각까지 응답이 없으면 null)
+     */
+    private String callWithin(String prompt, SearchDeadline deadline) {
+        if (!deadline.isBounded()) {
+            return chatModel.call(prompt);
+        }
+        if (deadline.isExpired()) {
+            return null;
+        }
+        Future<String> response = LLM_CALL_EXECUTOR.submit(() -> chatModel.call(prompt));
         try {
-            // JSON 응답에서 마크다운 코드 블록 제거
-            String jsonPart = rawResponse.replaceAll("```json", "").replaceAll("```", "").trim();
-            List<BookAiRecommendationResponse> recommendations = objectMapper.readValue(jsonPart, new TypeReference<List<BookAiRecommendationResponse>>() {});
-            
-            // 검색된 도서 리스트에서 유사도 및 RRF 점수 매핑
-            for (BookAiRecommendationResponse rec : recommendations) {
-                books.stream()
-                        .filter(b -> b.getId().equals(rec.getId()))
-                        .findFirst()
-                        .ifPresent(b -> {
-                            rec.setSimilarity(b.getSimilarity());
-                            rec.setRrfScore(b.getRrfScore());
-                        });
+            return response.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 응답을 더 기다리지 않으므로 HTTP 요청도 중단합니다.
+            response.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            return recommendations;
-        } catch (Exception e) {
-            log.error("Failed to parse AI response: {}", rawResponse, e);
-            return List.of();
+            throw new IllegalStateException(e.getCause());
         }
     }
 
@@ -0,0 +1,120 @@
+package com.nhnacademy.library.core.book.service.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LLM이 토큰 단위로 보내는 추천 JSON 배열을 점진적으로 파싱합니다.
+ *
+ * <p>Jackson 논블로킹 파서에 응답 조각을 이어서 넣고, 배열 안의 객체 하나가 닫히는 즉시 추천 항목으로 변환합니다.
+ * 배열 시작({@code [}) 이전의 텍스트(마크다운 코드 블록 표시 등)와 배열이 닫힌 이후의 텍스트는 무시하며,
+ * JSON 문법 오류를 만나면 그때까지 변환한 항목만 남기고 파싱을 멈춥니다.
+ * 상태를 가지므로 응답 스트림 하나마다 새로 생성합니다.</p>
+ */
+@Slf4j
+class StreamingRecommendationParser {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    /**
+     * 최상위 배열 기준 중첩 깊이 (배열 안이면 1, 추천 객체 안이면 2 이상)
+     */
+    private int depth;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * 현재 읽고 있는 추천 객체의 토큰 (객체 밖이면 null)
+     */
+    private TokenBuffer current;
+
+    StreamingRecommendationParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각을 이어서 파싱합니다.
+     *
+     * @param chunk LLM 응답 조각
+     * @return 이번 조각으로 완성된 추천 항목 (없으면 빈 목록)
+     */
+    List<BookAiRecommendationResponse> feed(String chunk) {
+        if (finished || chunk == null || chunk.isEmpty()) {
+            return List.of();
+        }
+        if (!started) {
+            int start = chunk.indexOf('[');
+            if (start < 0) {
+                return List.of();
+            }
+            started = true;
+            chunk = chunk.substring(start);
+        }
+
+        List<BookAiRecommendationResponse> completed = new ArrayList<>();
+        try {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            feeder.feedInput(bytes, 0, bytes.length);
+
+            JsonToken token;
+            while (!finished && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token, completed);
+            }
+        } catch (IOException e) {
+            log.warn("[AI 추천] 스트리밍 응답 파싱 실패, 이후 응답 무시: {}", e.getMessage());
+            finished = true;
+        }
+        return completed;
+    }
+
+    private void onToken(JsonToken token, List<BookAiRecommendationResponse> completed) throws IOException {
+        if (current == null) {
+            if (token == JsonToken.START_ARRAY && depth == 0) {
+                depth = 1;
+            } else if (token == JsonToken.START_OBJECT && depth == 1) {
+                current = new TokenBuffer(parser);
+                current.copyCurrentEvent(parser);
+                depth = 2;
+            } else if (token == JsonToken.END_ARRAY && depth == 1) {
+                depth = 0;
+                finished = true;
+            }
+            return;
+        }
+
+        current.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd() && --depth == 1) {
+            toRecommendation(current, completed);
+            current = null;
+        }
+    }
+
+    private void toRecommendation(TokenBuffer tokens, List<BookAiRecommendationResponse> completed) {
+        try (JsonParser item = tokens.asParser(objectMapper)) {
+            completed.add(objectMapper.readValue(item, BookAiRecommendationResponse.class));
+        } catch (IOException e) {
+            log.warn("[AI 추천] 형식이 맞지 않는 추천 항목 무시: {}", e.getMessage());
+        }
+    }
+}
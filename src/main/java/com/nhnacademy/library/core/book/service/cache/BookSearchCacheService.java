@@ -1,19 +1,30 @@
 package com.nhnacademy.library.core.book.service.cache;
 
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
 import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.properties.SearchTimeoutProperties;
+import com.nhnacademy.library.core.book.properties.WarmUpLeaseProperties;
 import com.nhnacademy.library.core.book.service.embedding.EmbeddingService;
-import com.nhnacademy.library.core.book.service.search.BookSearchService;
+import com.nhnacademy.library.core.book.service.search.strategy.RagSearchStrategy;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import com.nhnacademy.library.core.book.util.TextPreprocessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -22,43 +33,229 @@ public class BookSearchCacheService {
 
     private final ApplicationContext applicationContext;
     private final SemanticCacheService semanticCacheService;
-    private final Set<String> inFlightWarmUps = ConcurrentHashMap.newKeySet();
+    private final SearchTimeoutProperties searchTimeoutProperties;
+    private final Executor warmUpExecutor;
+    private final WarmUpCoordinator warmUpCoordinator;
+    private final WarmUpLeaseProperties warmUpLeaseProperties;
+    private final WarmUpAdmissionFilter warmUpAdmissionFilter;
 
-    @Async
+    /**
+     * 정규화된 질의별로 진행 중인 워밍업 (사용자 요청과 이벤트 경로가 같은 LLM 호출 결과를 공유)
+     *
+     * <p>노드 간 리스와 같은 키({@link TextPreprocessor#preprocess})를 사용하므로 공백, 대소문자만 다른 질의도 한 작업을 공유합니다.</p>
+     */
+    private final ConcurrentMap<String, InFlightWarmUp> inFlightWarmUps = new ConcurrentHashMap<>();
+
+    /**
+     * 워밍업 결과와, 워밍업이 LLM 응답을 받는 동안 생성하는 추천 항목 스트림
+     *
+     * @param result          캐시에 저장된(또는 이미 있던) RAG 결과 future ({@link #warmUp(String)}와 같음)
+     * @param recommendations LLM 검증(relevance ≥ 50)을 통과한 추천 항목 (완성 순서)
+     *                        늦게 구독해도 이미 생성된 항목부터 전달하며, 워밍업이 끝나면 완료됩니다.
+     *                        캐시나 다른 노드의 결과를 사용한 워밍업은 항목 없이 완료되므로 최종 결과는 {@code result}로 받습니다.
+     */
+    public record StreamingWarmUp(CompletableFuture<BookSearchResult> result,
+                                  Flux<BookAiRecommendationResponse> recommendations) {
+    }
+
+    /**
+     * 진행 중인 워밍업 (합류한 요청이 구독할 수 있도록 생성된 추천 항목을 보관)
+     */
+    private record InFlightWarmUp(CompletableFuture<BookSearchResult> result,
+                                  Sinks.Many<BookAiRecommendationResponse> recommendations) {
+
+        static InFlightWarmUp create() {
+            return new InFlightWarmUp(new CompletableFuture<>(), Sinks.many().replay().all());
+        }
+
+        StreamingWarmUp view() {
+            return new StreamingWarmUp(result, recommendations.asFlux());
+        }
+    }
+
+    /**
+     * RAG 캐시 워밍업을 백그라운드에서 요청합니다. (결과를 기다리지 않음, 허용 필터를 통과한 질의만)
+     */
     public void warmUpRagCache(String keyword) {
         if (keyword == null || keyword.isBlank()) return;
-        if (!inFlightWarmUps.add(keyword)) {
+        warmUp(keyword);
+    }
+
+    /**
+     * 갱신 시점이 지난 RAG 캐시를 백그라운드에서 다시 생성합니다. (결과를 기다리지 않음)
+     * 기존 캐시 항목은 새 항목이 저장될 때까지 계속 반환됩니다.
+     */
+    public void refreshRagCache(String keyword) {
+        if (keyword == null || keyword.isBlank()) return;
+        start(keyword, TextPreprocessor.preprocess(keyword), true);
+    }
+
+    /**
+     * RAG 캐시 워밍업을 시작하거나, 같은 키워드의 워밍업이 이미 진행 중이면 그 작업을 반환합니다.
+     *
+     * <p>반환된 future는 캐시에 저장된(또는 이미 있던) RAG 결과로 완료됩니다.
+     * 다른 노드가 같은 질의를 워밍업 중이면 그 노드가 공유한 결과로 완료되며, 시간 안에 공유되지 않으면 null로 완료됩니다.
+     * 워밍업 Executor가 포화되어 작업을 받지 못하면 예외로 완료됩니다.</p>
+     *
+     * <p>캐시 미스 워밍업의 유일한 진입점이므로 {@link WarmUpAdmissionFilter}를 여기서 적용합니다.
+     * 진행 중인 작업에 합류하는 요청은 LLM을 새로 호출하지 않으므로 필터를 거치지 않고,
+     * 새 작업은 자주 검색되는 질의만 시작하며 거부되면 null로 완료됩니다.</p>
+     *
+     * @param keyword 검색 키워드
+     * @return RAG 결과 future
+     */
+    public CompletableFuture<BookSearchResult> warmUp(String keyword) {
+        return warmUpStreaming(keyword).result();
+    }
+
+    /**
+     * {@link #warmUp(String)}와 같은 단일 실행 워밍업을 시작하거나 합류하고, 워밍업이 생성하는 추천 항목 스트림을 함께 반환합니다.
+     * 스트리밍 응답은 추천 항목을 완성되는 대로 전달하고, 최종 결과는 워밍업이 시맨틱 캐시를 채운 뒤 받습니다.
+     *
+     * <p>허용 필터가 거부한 질의는 null로 완료된 결과와 빈 스트림을 반환합니다.</p>
+     *
+     * @param keyword 검색 키워드
+     * @return RAG 결과 future와 추천 항목 스트림
+     */
+    public StreamingWarmUp warmUpStreaming(String keyword) {
+        String sharedKey = TextPreprocessor.preprocess(keyword);
+        InFlightWarmUp inFlight = inFlightWarmUps.get(sharedKey);
+        if (inFlight != null) {
             log.info("[STRATEGIC_CACHE] Warm-up already in progress for keyword: {}", keyword);
-            return;
+            return inFlight.view();
+        }
+        if (!warmUpAdmissionFilter.admit(keyword)) {
+            return new StreamingWarmUp(CompletableFuture.completedFuture(null), Flux.empty());
         }
+        return start(keyword, sharedKey, false).view();
+    }
 
-        log.info("[STRATEGIC_CACHE] Warming up RAG cache for keyword: {}", keyword);
-        
+    /**
+     * @param sharedKey 정규화된 질의 (진행 중인 작업, 노드 간 리스와 공유 결과의 키)
+     * @param refresh   기존 캐시 항목을 무시하고 다시 생성할지 여부 (다른 노드가 새로 공유한 결과는 사용)
+     */
+    private InFlightWarmUp start(String keyword, String sharedKey, boolean refresh) {
+        InFlightWarmUp warmUp = InFlightWarmUp.create();
+        InFlightWarmUp inFlight = inFlightWarmUps.putIfAbsent(sharedKey, warmUp);
+        if (inFlight != null) {
+            log.info("[STRATEGIC_CACHE] Warm-up already in progress for keyword: {}", keyword);
+            return inFlight;
+        }
+
+        CompletableFuture<BookSearchResult> future = warmUp.result();
         try {
-            // BookSearchService를 ApplicationContext에서 지연 조회하여 순환 참조 해결
-            BookSearchService bookSearchService = applicationContext.getBean(BookSearchService.class);
-            EmbeddingService embeddingService = applicationContext.getBean(EmbeddingService.class);
-            
-            // 1. 임베딩 생성 (유사도 비교를 위해)
-            float[] vector = embeddingService.getEmbedding(keyword);
-            BookSearchRequest ragRequest = new BookSearchRequest(keyword, null, SearchType.RAG, vector, true);
-            Pageable pageable = PageRequest.of(0, 24);
-
-
-            // 2. 이미 캐시되어 있는지 확인 (의미적 캐싱 적용)
-            if (semanticCacheService.findSimilarResult(ragRequest).isPresent()) {
+            warmUpExecutor.execute(() -> {
+                try {
+                    future.complete(doWarmUp(keyword, sharedKey, refresh, warmUp.recommendations()::tryEmitNext));
+                } catch (Exception e) {
+                    log.error("[STRATEGIC_CACHE] Failed to warm up RAG cache for keyword: {}", keyword, e);
+                    future.completeExceptionally(e);
+                } finally {
+                    warmUp.recommendations().tryEmitComplete();
+                    inFlightWarmUps.remove(sharedKey, warmUp);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightWarmUps.remove(sharedKey, warmUp);
+            warmUp.recommendations().tryEmitComplete();
+            future.completeExceptionally(e);
+        }
+        return warmUp;
+    }
+
+    /**
+     * @param sharedKey        정규화된 질의 (진행 중인 작업, 노드 간 리스와 공유 결과의 키)
+     * @param onRecommendation 이 노드가 LLM을 호출할 때 검증을 통과한 추천 항목을 받을 리스너
+     */
+    private BookSearchResult doWarmUp(String keyword, String sharedKey, boolean refresh,
+                                      Consumer<BookAiRecommendationResponse> onRecommendation) {
+        log.info("[STRATEGIC_CACHE] {} RAG cache for keyword: {}", refresh ? "Refreshing" : "Warming up", keyword);
+
+        // 동일한 키워드의 캐시가 이미 있으면 임베딩 생성 없이 종료 (갱신 시에는 기존 항목을 사용하지 않음)
+        if (!refresh) {
+            Optional<BookSearchResult> exact = semanticCacheService.findExactResult(keyword);
+            if (exact.isPresent()) {
+                log.info("[STRATEGIC_CACHE] Exact cache already exists for keyword: {}", keyword);
+                return exact.get();
+            }
+        }
+
+        // 다른 노드가 이미 생성하여 공유한 결과가 있으면 가져옵니다. (갱신 시에는 갱신 시점이 지나지 않은 결과만)
+        Optional<BookSearchResult> shared = warmUpCoordinator.findShared(sharedKey)
+                .filter(entry -> !refresh || semanticCacheService.isFresh(entry))
+                .flatMap(semanticCacheService::adopt);
+        if (shared.isPresent()) {
+            log.info("[STRATEGIC_CACHE] Shared warm-up result found for keyword: {}", keyword);
+            return shared.get();
+        }
+
+        // RagSearchStrategy를 ApplicationContext에서 지연 조회하여 순환 참조 해결
+        RagSearchStrategy ragSearchStrategy = applicationContext.getBean(RagSearchStrategy.class);
+        EmbeddingService embeddingService = applicationContext.getBean(EmbeddingService.class);
+
+        // 1. 임베딩 생성 (유사도 비교를 위해)
+        float[] vector = embeddingService.getEmbedding(keyword);
+        BookSearchRequest ragRequest = new BookSearchRequest(keyword, null, SearchType.RAG, vector, true);
+
+        // 2. 이미 캐시되어 있는지 확인 (의미적 캐싱 적용)
+        if (!refresh) {
+            Optional<BookSearchResult> similar = semanticCacheService.findSimilarResult(ragRequest);
+            if (similar.isPresent()) {
                 log.info("[STRATEGIC_CACHE] Similar cache already exists for keyword: {}", keyword);
-                return;
+                return similar.get();
             }
-            
-            // 3. RAG 검색 수행 (이 과정에서 LLM 호출 등이 발생하며 Redis에 저장됨)
-            bookSearchService.searchBooks(pageable, ragRequest);
-            
+        }
+
+        // 3. 노드 간 리스를 획득한 노드만 생성하고, 나머지는 공유된 결과를 기다립니다.
+        Optional<String> lease = warmUpCoordinator.tryAcquire(sharedKey);
+        if (lease.isEmpty()) {
+            log.info("[STRATEGIC_CACHE] Another node is warming up keyword: {}. Waiting for shared result.", keyword);
+            return awaitShared(sharedKey, refresh).orElse(null);
+        }
+
+        try {
+            // 4. RAG 추천 생성 (LLM 응답을 스트리밍으로 받아 추천 항목을 전달하고, 끝나면 시맨틱 캐시에 저장됨)
+            BookSearchResult result = ragSearchStrategy.warmUp(ragRequest,
+                    SearchDeadline.ofMillis(searchTimeoutProperties.getWarmUpMs()), onRecommendation);
+
+            // 5. 캐시에 저장된 항목을 다른 노드와 공유 (시간 예산을 넘겨 저장되지 않은 결과는 공유하지 않음)
+            semanticCacheService.findExactEntry(keyword)
+                    .filter(semanticCacheService::isFresh)
+                    .ifPresent(entry -> warmUpCoordinator.publish(sharedKey, entry));
+
             log.info("[STRATEGIC_CACHE] Successfully warmed up RAG cache for keyword: {}", keyword);
-        } catch (Exception e) {
-            log.error("[STRATEGIC_CACHE] Failed to warm up RAG cache for keyword: {}", keyword, e);
+            return result;
         } finally {
-            inFlightWarmUps.remove(keyword);
+            warmUpCoordinator.release(sharedKey, lease.get());
+        }
+    }
+
+    /**
+     * 다른 노드가 공유할 결과를 워밍업 시간 예산 안에서 주기적으로 확인합니다.
+     * 리스가 사라졌는데(생성 실패 또는 만료) 결과가 없으면 기다리지 않습니다.
+     *
+     * @param refresh 갱신 중이면 갱신 시점이 지나지 않은 결과만 사용
+     */
+    private Optional<BookSearchResult> awaitShared(String sharedKey, boolean refresh) {
+        SearchDeadline deadline = SearchDeadline.ofMillis(searchTimeoutProperties.getWarmUpMs());
+        while (!deadline.isExpired()) {
+            boolean held = warmUpCoordinator.isHeld(sharedKey);
+            Optional<BookSearchCache> entry = warmUpCoordinator.findShared(sharedKey)
+                    .filter(shared -> !refresh || semanticCacheService.isFresh(shared));
+            if (entry.isPresent()) {
+                return semanticCacheService.adopt(entry.get());
+            }
+            if (!held) {
+                log.warn("[STRATEGIC_CACHE] Warm-up lease released without a shared result: {}", sharedKey);
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(warmUpLeaseProperties.getPollIntervalMs(), deadline.remainingMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
         }
+        return Optional.empty();
     }
 }
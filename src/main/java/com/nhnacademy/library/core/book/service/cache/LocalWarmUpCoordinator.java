@@ -0,0 +1,52 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 단일 노드용 워밍업 조율 (Redis가 설정되지 않은 경우)
+ *
+ * <p>리스를 항상 허용하고 결과와 무효화를 공유하지 않습니다.
+ * 같은 JVM 안의 중복 워밍업은 {@link BookSearchCacheService}의 진행 중 작업 목록이 막습니다.</p>
+ */
+public class LocalWarmUpCoordinator implements WarmUpCoordinator {
+
+    private static final String LOCAL_TOKEN = "local";
+
+    @Override
+    public Optional<String> tryAcquire(String key) {
+        return Optional.of(LOCAL_TOKEN);
+    }
+
+    @Override
+    public void release(String key, String token) {
+    }
+
+    @Override
+    public boolean isHeld(String key) {
+        return false;
+    }
+
+    @Override
+    public void publish(String key, BookSearchCache entry) {
+    }
+
+    @Override
+    public Optional<BookSearchCache> findShared(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void discardShared(String key) {
+    }
+
+    @Override
+    public void broadcastInvalidation(Collection<Long> bookIds) {
+    }
+
+    @Override
+    public void broadcastCardInvalidation(Collection<Long> bookIds) {
+    }
+}
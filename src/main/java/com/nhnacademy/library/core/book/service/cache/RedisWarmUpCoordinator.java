@@ -0,0 +1,187 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.properties.WarmUpLeaseProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 워밍업 조율
+ *
+ * <p>리스는 {@code SET key token NX PX ttl}로 획득하고, 토큰이 일치할 때만 삭제하는 스크립트로 반납합니다.
+ * 생성된 캐시 항목은 JSON으로 저장하여 다른 노드가 조회합니다.
+ * 도서 무효화는 {@link #INVALIDATION_CHANNEL} 채널에 {@code 노드ID:범위:도서ID,도서ID...} 형식으로 발행하며,
+ * 각 노드는 자신이 발행한 메시지를 제외하고 받은 도서 ID로 범위({@link InvalidationScope})에 해당하는 로컬 캐시를 무효화합니다.
+ * Redis 장애 시에는 리스를 허용하여(각 노드가 직접 생성) 검색이 막히지 않도록 합니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisWarmUpCoordinator implements WarmUpCoordinator {
+
+    private static final String LEASE_PREFIX = "warm-up:lease:";
+    private static final String RESULT_PREFIX = "warm-up:result:";
+    private static final String FALLBACK_TOKEN = "redis-unavailable";
+
+    /** 도서 무효화를 노드 간에 전달하는 Pub/Sub 채널 */
+    public static final String INVALIDATION_CHANNEL = "semantic-cache:invalidate";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WarmUpLeaseProperties properties;
+
+    /** 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자 */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public Optional<String> tryAcquire(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + key, token, Duration.ofMillis(properties.getTtlMs()));
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("[WARM_UP_LEASE] Redis unavailable. Warming up locally for '{}': {}", key, e.getMessage());
+            return Optional.of(FALLBACK_TOKEN);
+        }
+    }
+
+    @Override
+    public void release(String key, String token) {
+        if (FALLBACK_TOKEN.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + key), token);
+        } catch (DataAccessException e) {
+            // 반납에 실패해도 리스는 TTL이 지나면 만료됩니다.
+            log.warn("[WARM_UP_LEASE] Failed to release lease for '{}': {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isHeld(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(LEASE_PREFIX + key));
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void publish(String key, BookSearchCache entry) {
+        try {
+            redisTemplate.opsForValue().set(RESULT_PREFIX + key, objectMapper.writeValueAsString(entry),
+                    Duration.ofMillis(properties.getResultTtlMs()));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[WARM_UP_LEASE] Failed to publish warm-up result for '{}': {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<BookSearchCache> findShared(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(RESULT_PREFIX + key);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, BookSearchCache.class));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[WARM_UP_LEASE] Failed to read shared warm-up result for '{}': {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void discardShared(String key) {
+        try {
+            redisTemplate.delete(RESULT_PREFIX + key);
+        } catch (DataAccessException e) {
+            // 제거에 실패해도 가져간 노드는 무효화 이후에 생성된 항목만 최신으로 보고 갱신합니다.
+            log.warn("[WARM_UP_LEASE] Failed to discard shared warm-up result for '{}': {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void broadcastInvalidation(Collection<Long> bookIds) {
+        broadcast(InvalidationScope.SEARCH_RESULTS, bookIds);
+    }
+
+    @Override
+    public void broadcastCardInvalidation(Collection<Long> bookIds) {
+        broadcast(InvalidationScope.BOOK_CARDS, bookIds);
+    }
+
+    private void broadcast(InvalidationScope scope, Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        String ids = String.join(",", bookIds.stream().map(String::valueOf).toList());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + ":" + scope.code + ":" + ids);
+        } catch (DataAccessException e) {
+            log.warn("[WARM_UP_LEASE] Failed to broadcast {} invalidation for books {}: {}", scope, ids, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지에서 도서 ID를 읽습니다.
+     *
+     * @param message {@link #INVALIDATION_CHANNEL} 채널로 받은 메시지
+     * @return 무효화 범위와 도서 ID (이 노드가 발행했거나 형식이 잘못된 메시지면 빈 값)
+     */
+    public Optional<Invalidation> parseInvalidation(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return Optional.empty();
+        }
+        Optional<InvalidationScope> scope = Arrays.stream(InvalidationScope.values())
+                .filter(candidate -> candidate.code.equals(parts[1]))
+                .findFirst();
+        try {
+            List<Long> bookIds = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+            if (scope.isPresent()) {
+                return Optional.of(new Invalidation(scope.get(), bookIds));
+            }
+        } catch (NumberFormatException e) {
+            // 아래에서 잘못된 메시지로 기록합니다.
+        }
+        log.warn("[WARM_UP_LEASE] Ignoring malformed invalidation message: {}", message);
+        return Optional.empty();
+    }
+
+    /**
+     * 무효화 메시지가 가리키는 로컬 캐시
+     */
+    public enum InvalidationScope {
+        /** 도서를 포함하는 시맨틱 캐시 항목 */
+        SEARCH_RESULTS("results"),
+        /** 도서 카드 (리뷰 통계와 요약 포함) */
+        BOOK_CARDS("cards");
+
+        private final String code;
+
+        InvalidationScope(String code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * 다른 노드가 알린 무효화
+     */
+    public record Invalidation(InvalidationScope scope, List<Long> bookIds) {
+    }
+}
@@ -3,21 +3,44 @@ package com.nhnacademy.library.core.book.service.cache;
 import com.nhnacademy.library.core.book.domain.BookSearchCache;
 import com.nhnacademy.library.core.book.domain.SearchType;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.event.SemanticCacheRefreshEvent;
+import com.nhnacademy.library.core.book.properties.SemanticCacheProperties;
 import com.nhnacademy.library.core.book.repository.BookSearchCacheRepository;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
+import com.nhnacademy.library.core.book.util.TextPreprocessor;
 import com.nhnacademy.library.core.book.util.VectorUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 의미적 캐싱 서비스
+ *
+ * <p>항목은 두 단계로 만료됩니다. {@code cache.ttl.minutes}(soft TTL)가 지난 항목은 그대로 반환하면서
+ * 백그라운드 갱신을 한 번 요청하고, {@code cache.semantic.hard-ttl-minutes}(hard TTL)가 지나면 삭제합니다.
+ * 자주 조회되는 질의는 삭제되기 전에 갱신되므로 만료 때문에 AI 추천을 잃지 않습니다.</p>
+ *
+ * <p>항목에는 LLM 검증을 거친 전체 순위를 도서 ID와 점수로만 저장하며, 조회 시 {@link BookCardCache}에서
+ * 도서 상세 정보를 채웁니다. 조회 결과는 페이징하지 않은 전체 순위이며,
+ * 호출자는 {@link BookSearchResult#slice}로 요청 페이지를 잘라 반환합니다.</p>
+ *
+ * <p>도서 임베딩 또는 리뷰가 바뀌면 {@link #invalidateBooks}가 도서 ID 역색인으로 해당 도서를 포함하는 항목을 찾아
+ * 오래된 항목으로 표시하고, {@link WarmUpCoordinator}로 다른 노드에도 무효화를 알리며 해당 질의의 공유 항목을 제거합니다.
+ * 표시된 항목은 TTL과 관계없이 다음 조회에서 백그라운드 갱신되므로 긴 TTL을 사용할 수 있습니다.</p>
  */
 @Slf4j
 @Service
@@ -25,51 +48,100 @@ import java.util.Optional;
 public class SemanticCacheService {
 
     private final BookSearchCacheRepository cacheRepository;
-    private final CacheManager cacheManager;
+    private final SemanticCacheProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookCardCache bookCardCache;
+    private final WarmUpCoordinator warmUpCoordinator;
 
+    /** 갱신 시점 (soft TTL, 분) */
     @Value("${cache.ttl.minutes:30}")
     private int cacheTtlMinutes;
 
     private static final double SIMILARITY_THRESHOLD = 0.98;
     private static final long MILLIS_PER_MINUTE = 60 * 1000L;
 
+    /** 갱신을 요청한 항목에 다시 요청하기까지의 최소 간격 (갱신 실패 시 재시도 간격) */
+    private static final long REFRESH_RETRY_MILLIS = 60 * 1000L;
+
+    /** 만료된 항목을 건너뛰기 위해 한 번에 조회할 유사 캐시 후보 수 */
+    private static final int MAX_SIMILAR_CANDIDATES = 5;
+
+    /**
+     * 정규화된 키워드 일치 기반 캐시 조회
+     *
+     * <p>공백, 대소문자만 다른 동일한 질의는 임베딩 생성과 벡터 비교 없이 바로 캐시에서 반환합니다.
+     * 정규화는 {@link com.nhnacademy.library.core.book.util.TextPreprocessor}와 동일한 방식을 사용합니다.</p>
+     */
+    public Optional<BookSearchResult> findExactResult(String keyword) {
+        Optional<BookSearchCache> cached = findExactEntry(keyword);
+        cached.ifPresent(entry -> log.info("[SEMANTIC_CACHE] Found exact keyword match in cache: '{}'", entry.getKeyword()));
+        return cached.map(this::toResult);
+    }
+
+    /**
+     * 정규화된 키워드가 일치하는 만료되지 않은 캐시 항목을 조회합니다. (다른 노드와 공유용)
+     */
+    public Optional<BookSearchCache> findExactEntry(String keyword) {
+        if (keyword == null || keyword.isBlank()) return Optional.empty();
+
+        Optional<BookSearchCache> cached = cacheRepository.findByKeyword(keyword);
+        if (cached.isEmpty()) return Optional.empty();
+
+        long now = System.currentTimeMillis();
+        if (isExpired(cached.get(), now)) {
+            evictCache(cached.get());
+            return Optional.empty();
+        }
+        refreshIfStale(cached.get(), now);
+        return cached;
+    }
+
+    /**
+     * 다른 노드가 생성한 캐시 항목을 이 노드의 캐시에 저장하고 검색 결과로 반환합니다.
+     *
+     * @return 검색 결과 (이미 만료된 항목이면 빈 값)
+     */
+    public Optional<BookSearchResult> adopt(BookSearchCache entry) {
+        if (isExpired(entry, System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        log.info("[SEMANTIC_CACHE] Adopting shared cache entry for keyword: {}", entry.getKeyword());
+        cacheRepository.save(entry);
+        return Optional.of(toResult(entry));
+    }
+
     /**
      * 벡터 유사도 기반 캐시 조회
+     *
+     * <p>HNSW 인덱스에서 임계값 이상의 유사 항목을 유사도 순으로 조회하며,
+     * hard TTL이 지난 항목은 제거하고 다음 후보를 확인합니다.</p>
      */
     public Optional<BookSearchResult> findSimilarResult(BookSearchRequest request) {
         if (request.vector() == null) return Optional.empty();
 
-        long ttlMillis = (long) cacheTtlMinutes * MILLIS_PER_MINUTE;
         long now = System.currentTimeMillis();
 
-        Iterable<BookSearchCache> allCached = cacheRepository.findAll();
-
-        for (BookSearchCache cached : allCached) {
-            double similarity = VectorUtils.calculateCosineSimilarity(request.vector(), cached.getVector());
-            if (similarity < SIMILARITY_THRESHOLD) continue;
+        List<BookSearchCache> candidates = cacheRepository.findSimilar(request.vector(), SIMILARITY_THRESHOLD, MAX_SIMILAR_CANDIDATES);
 
-            long age = now - cached.getCreatedAt();
-            if (age > ttlMillis || age < 0) {
-                log.info("[SEMANTIC_CACHE] Cache expired for keyword: '{}' (Age: {}ms, TTL: {}ms)",
-                        cached.getKeyword(), age, ttlMillis);
+        for (BookSearchCache cached : candidates) {
+            if (isExpired(cached, now)) {
                 evictCache(cached);
                 continue;
             }
+            refreshIfStale(cached, now);
 
             log.info("[SEMANTIC_CACHE] Found similar request in cache: '{}' (Similarity: {})",
-                    cached.getKeyword(), similarity);
+                    cached.getKeyword(), VectorUtils.calculateCosineSimilarity(request.vector(), cached.getVector()));
             
-            return Optional.of(BookSearchResult.builder()
-                    .books(new PageImpl<>(cached.getBooks()))
-                    .aiResponse(cached.getAiResponse())
-                    .createdAt(cached.getCreatedAt())
-                    .build());
+            return Optional.of(toResult(cached));
         }
         return Optional.empty();
     }
 
     /**
      * 캐시 저장
+     *
+     * @param result 페이징하지 않은 전체 순위 결과
      */
     public void save(BookSearchRequest request, BookSearchResult result) {
         if (request.searchType() != SearchType.RAG) return;
@@ -78,30 +150,145 @@ public class SemanticCacheService {
         BookSearchCache cacheEntry = BookSearchCache.builder()
                 .keyword(request.keyword())
                 .vector(request.vector())
-                .books(result.getBooks().getContent())
+                .hits(toHits(result.getBooks().getContent()))
                 .aiResponse(result.getAiResponse())
                 .createdAt(result.getCreatedAt())
                 .build();
         
         log.info("[SEMANTIC_CACHE] Putting result into Redis for keyword: {}", request.keyword());
         cacheRepository.save(cacheEntry);
+    }
+
+    /**
+     * 갱신 시점(soft TTL)이 지나지 않았고 무효화되지 않은 항목인지 확인합니다.
+     *
+     * <p>다른 노드에서 받은 항목은 이 노드에서 같은 질의의 항목이 무효화된 뒤에 생성된 경우에만 최신으로 봅니다.</p>
+     *
+     * @return 최신 항목인지 여부
+     */
+    public boolean isFresh(BookSearchCache cached) {
+        long age = System.currentTimeMillis() - cached.getCreatedAt();
+        if (age < 0 || age > softTtlMillis() || cached.getInvalidatedAt() != 0) {
+            return false;
+        }
+        return cacheRepository.findByKeyword(cached.getKeyword())
+                .filter(local -> local != cached && local.getInvalidatedAt() >= cached.getCreatedAt())
+                .isEmpty();
+    }
+
+    /**
+     * 도서를 포함하는 캐시 항목을 오래된 항목으로 표시하고, 다른 노드에도 무효화를 알립니다.
+     *
+     * <p>항목은 삭제하지 않고 다음 조회에서 그대로 반환하면서 백그라운드 갱신하므로, 무효화 직후에도 AI 추천을 잃지 않습니다.</p>
+     *
+     * @param bookIds 임베딩 또는 리뷰가 바뀐 도서 ID
+     * @return 이 노드에서 무효화한 캐시 항목 수
+     */
+    public int invalidateBooks(Collection<Long> bookIds) {
+        int invalidated = invalidateLocalBooks(bookIds);
+        warmUpCoordinator.broadcastInvalidation(bookIds);
+        return invalidated;
+    }
+
+    /**
+     * 이 노드의 캐시에서 도서를 포함하는 항목을 오래된 항목으로 표시하고, 해당 질의의 공유 항목을 제거합니다.
+     * (다른 노드가 알린 무효화를 반영할 때 사용)
+     *
+     * @return 무효화한 캐시 항목 수
+     */
+    public int invalidateLocalBooks(Collection<Long> bookIds) {
+        long now = System.currentTimeMillis();
+        Set<BookSearchCache> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Long bookId : bookIds) {
+            affected.addAll(cacheRepository.findByBookId(bookId));
+        }
+        for (BookSearchCache cached : affected) {
+            if (cached.getInvalidatedAt() == 0) {
+                cached.setInvalidatedAt(now);
+            }
+            warmUpCoordinator.discardShared(TextPreprocessor.preprocess(cached.getKeyword()));
+        }
+        if (!affected.isEmpty()) {
+            log.info("[SEMANTIC_CACHE] Invalidated {} cache entries for {} changed books", affected.size(), bookIds.size());
+        }
+        return affected.size();
+    }
 
-        // Spring Cache(Local) 저장
-        Cache cache = cacheManager.getCache("bookSearchCache");
-        if (cache != null) {
-            cache.put(request, result);
+    /**
+     * hard TTL이 지난 캐시 항목을 주기적으로 정리합니다.
+     *
+     * <p>조회 시점의 만료 처리만으로는 다시 조회되지 않는 항목이 남아 있으므로,
+     * 트래픽과 관계없이 hard TTL을 기준으로 만료 항목을 제거합니다.
+     * 정리 주기는 {@code cache.semantic.sweep-interval-ms}(밀리초)로 설정합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${cache.semantic.sweep-interval-ms:60000}")
+    public void sweepExpiredEntries() {
+        long ttlMillis = hardTtlMillis();
+        List<BookSearchCache> expired = cacheRepository.deleteCreatedBefore(System.currentTimeMillis() - ttlMillis);
+        if (expired.isEmpty()) {
+            return;
+        }
+        expired.forEach(this::evictCache);
+        log.info("[SEMANTIC_CACHE] Swept {} expired cache entries (TTL: {}ms)", expired.size(), ttlMillis);
+    }
+
+    /**
+     * soft TTL이 지났거나 무효화된 항목이면 백그라운드 갱신을 요청합니다.
+     * 갱신 중에는 같은 항목으로 다시 요청하지 않으며, 갱신이 끝나면 새 항목이 이 항목을 대체합니다.
+     */
+    private void refreshIfStale(BookSearchCache cached, long now) {
+        long age = now - cached.getCreatedAt();
+        if (age <= softTtlMillis() && cached.getInvalidatedAt() == 0) {
+            return;
+        }
+        long requestedAt = cached.getRefreshRequestedAt();
+        if (requestedAt != 0 && now - requestedAt < REFRESH_RETRY_MILLIS) {
+            return;
         }
+        cached.setRefreshRequestedAt(now);
+        log.info("[SEMANTIC_CACHE] Serving stale entry for keyword: '{}' (Age: {}ms). Requesting background refresh.",
+                cached.getKeyword(), age);
+        eventPublisher.publishEvent(new SemanticCacheRefreshEvent(this, cached.getKeyword()));
+    }
+
+    private long softTtlMillis() {
+        return (long) cacheTtlMinutes * MILLIS_PER_MINUTE;
+    }
+
+    private long hardTtlMillis() {
+        return Math.max(softTtlMillis(), properties.getHardTtlMinutes() * MILLIS_PER_MINUTE);
+    }
+
+    private boolean isExpired(BookSearchCache cached, long now) {
+        long ttlMillis = hardTtlMillis();
+        long age = now - cached.getCreatedAt();
+        if (age > ttlMillis || age < 0) {
+            log.info("[SEMANTIC_CACHE] Cache expired for keyword: '{}' (Age: {}ms, TTL: {}ms)",
+                    cached.getKeyword(), age, ttlMillis);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 검색 결과에서 도서 ID와 점수만 추출합니다.
+     */
+    private static List<HybridSearchHit> toHits(List<BookSearchResponse> books) {
+        return books.stream()
+                .map(book -> new HybridSearchHit(book.getId(),
+                        book.getRrfScore() != null ? book.getRrfScore() : 0.0, book.getSimilarity()))
+                .toList();
+    }
+
+    private BookSearchResult toResult(BookSearchCache cached) {
+        return BookSearchResult.builder()
+                .books(new PageImpl<>(bookCardCache.hydrate(cached.getHits())))
+                .aiResponse(cached.getAiResponse())
+                .createdAt(cached.getCreatedAt())
+                .build();
     }
 
     private void evictCache(BookSearchCache cached) {
         cacheRepository.delete(cached);
-        Cache cache = cacheManager.getCache("bookSearchCache");
-        if (cache != null) {
-            // Warm-up 및 일반 유저 키 모두 만료 처리
-            BookSearchRequest warmUpKey = new BookSearchRequest(cached.getKeyword(), null, SearchType.RAG, cached.getVector(), true);
-            cache.evict(warmUpKey);
-            BookSearchRequest userKey = new BookSearchRequest(cached.getKeyword(), null, SearchType.RAG, cached.getVector(), false);
-            cache.evict(userKey);
-        }
     }
 }
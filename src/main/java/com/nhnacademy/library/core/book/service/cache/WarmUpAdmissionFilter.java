@@ -0,0 +1,69 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.properties.WarmUpAdmissionProperties;
+import com.nhnacademy.library.core.book.util.CountMinSketch;
+import com.nhnacademy.library.core.book.util.TextPreprocessor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * RAG 워밍업 허용 필터
+ *
+ * <p>캐시 미스 워밍업 요청({@link BookSearchCacheService#warmUp})마다 정규화된 질의의 빈도를 카운트-민 스케치에 기록하고,
+ * 최근 창 안에서 {@code cache.warm-up.admission.min-frequency}번 이상 검색된 질의만 워밍업을 허용합니다.
+ * 허용/거부 횟수는 {@code warm-up.admission} 지표({@code result} 태그)로 노출합니다.</p>
+ */
+@Slf4j
+@Component
+public class WarmUpAdmissionFilter {
+
+    private static final String METRIC_NAME = "warm-up.admission";
+
+    private final WarmUpAdmissionProperties properties;
+    private final CountMinSketch sketch;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    public WarmUpAdmissionFilter(WarmUpAdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.getSketchWidth(), properties.getSampleSize());
+        this.admitted = Counter.builder(METRIC_NAME)
+                .description("Cache-miss warm-ups admitted or rejected by query frequency")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_NAME)
+                .description("Cache-miss warm-ups admitted or rejected by query frequency")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 질의의 검색 횟수를 기록하고 워밍업 허용 여부를 반환합니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 워밍업을 시작해도 되는지 여부
+     */
+    public boolean admit(String keyword) {
+        if (!properties.isEnabled()) {
+            admitted.increment();
+            return true;
+        }
+        String normalized = TextPreprocessor.preprocess(keyword);
+        if (normalized.isEmpty()) {
+            rejected.increment();
+            return false;
+        }
+
+        int frequency = sketch.increment(normalized);
+        if (frequency >= properties.getMinFrequency()) {
+            admitted.increment();
+            return true;
+        }
+        log.debug("[WARM_UP_ADMISSION] Rejected warm-up for keyword: '{}' (Frequency: {}, Required: {})",
+                keyword, frequency, properties.getMinFrequency());
+        rejected.increment();
+        return false;
+    }
+}
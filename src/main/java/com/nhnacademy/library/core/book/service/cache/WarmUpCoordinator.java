@@ -0,0 +1,63 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 여러 애플리케이션 노드 사이에서 RAG 캐시 워밍업을 조율합니다.
+ *
+ * <p>정규화된 질의마다 만료 시간이 있는 리스를 두어 한 노드만 AI 추천을 생성하게 하고,
+ * 생성된 캐시 항목을 공유하여 다른 노드가 LLM을 다시 호출하지 않고 가져가도록 합니다.
+ * 도서가 바뀌면 캐시 항목과 도서 카드의 무효화를 다른 노드에 알리고, 해당 도서를 포함하는 공유 항목을 제거합니다.</p>
+ */
+public interface WarmUpCoordinator {
+
+    /**
+     * 질의의 워밍업 리스를 획득합니다.
+     *
+     * @param key 정규화된 질의
+     * @return 리스 토큰 (다른 노드가 리스를 가지고 있으면 빈 값)
+     */
+    Optional<String> tryAcquire(String key);
+
+    /**
+     * 획득한 리스를 반납합니다. (토큰이 일치할 때만, 이미 만료되어 다른 노드가 가진 리스는 유지)
+     */
+    void release(String key, String token);
+
+    /**
+     * @return 어떤 노드든 질의의 리스를 가지고 있는지 여부
+     */
+    boolean isHeld(String key);
+
+    /**
+     * 워밍업으로 생성한 캐시 항목을 다른 노드와 공유합니다.
+     */
+    void publish(String key, BookSearchCache entry);
+
+    /**
+     * @return 다른 노드가 공유한 캐시 항목
+     */
+    Optional<BookSearchCache> findShared(String key);
+
+    /**
+     * 공유된 캐시 항목을 제거합니다. (항목에 포함된 도서가 바뀌어 다른 노드가 가져가면 안 되는 경우)
+     */
+    void discardShared(String key);
+
+    /**
+     * 도서 무효화를 다른 노드에 알립니다. 받은 노드는 자신의 캐시에서 해당 도서를 포함하는 항목을 무효화합니다.
+     *
+     * @param bookIds 정보, 임베딩 또는 리뷰가 바뀐 도서 ID
+     */
+    void broadcastInvalidation(Collection<Long> bookIds);
+
+    /**
+     * 도서 카드 무효화를 다른 노드에 알립니다. 받은 노드는 자신의 도서 카드 캐시에서 해당 도서를 제거합니다.
+     *
+     * @param bookIds 리뷰 통계 또는 요약이 바뀐 도서 ID
+     */
+    void broadcastCardInvalidation(Collection<Long> bookIds);
+}
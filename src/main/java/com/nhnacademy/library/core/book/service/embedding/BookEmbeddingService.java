@@ -1,10 +1,13 @@
 package com.nhnacademy.library.core.book.service.embedding;
 
 import com.nhnacademy.library.core.book.domain.Book;
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
+import com.nhnacademy.library.core.book.event.BookEmbeddingUpdatedEvent;
 import com.nhnacademy.library.core.book.repository.BookRepository;
 import com.nhnacademy.library.core.book.util.TextPreprocessor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +23,7 @@ public class BookEmbeddingService {
 
     private final BookRepository bookRepository;
     private final EmbeddingService embeddingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public int processEmptyEmbeddings(int batchSize) {
@@ -58,10 +62,16 @@ public class BookEmbeddingService {
             List<float[]> embeddings = embeddingService.getEmbeddings(combinedTexts);
 
             // 4. 결과 매핑 및 업데이트 (Dirty Checking 활용)
+            List<BookEmbedding> updated = new ArrayList<>(validBooks.size());
             for (int i = 0; i < validBooks.size(); i++) {
-                validBooks.get(i).updateEmbedding(embeddings.get(i));
+                Book book = validBooks.get(i);
+                book.updateEmbedding(embeddings.get(i));
+                updated.add(new BookEmbedding(book.getId(), embeddings.get(i)));
             }
 
+            // 5. 커밋 후 인메모리 벡터 인덱스 등이 갱신할 수 있도록 이벤트 발행
+            eventPublisher.publishEvent(new BookEmbeddingUpdatedEvent(updated));
+
             log.info("Successfully generated embeddings for {} books.", validBooks.size());
             return validBooks.size();
         } catch (Exception e) {
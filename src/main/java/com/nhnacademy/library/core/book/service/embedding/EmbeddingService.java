@@ -1,21 +1,75 @@
 package com.nhnacademy.library.core.book.service.embedding;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.library.core.book.properties.EmbeddingCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.text.Normalizer;
+import java.time.Duration;
 import java.util.List;
+import java.util.regex.Pattern;
 
+/**
+ * 임베딩 생성 서비스
+ *
+ * <p>단일 질의 임베딩은 모델명과 정규화된 텍스트를 키로 Caffeine 캐시에 보관하여,
+ * 같은 질의의 페이지 이동이나 캐시 워밍업 시 원격 임베딩 호출을 생략합니다.
+ * 같은 질의가 동시에 캐시 미스되면 원격 호출은 한 번만 수행하고 결과를 공유합니다.</p>
+ */
+@Slf4j
 @Service
 public class EmbeddingService {
 
+    private static final String CACHE_NAME = "queryEmbedding";
+    private static final Pattern CONTINUOUS_SPACE_PATTERN = Pattern.compile("\\s+");
+
     private final EmbeddingModel embeddingModel;
+    private final String modelName;
+    private final Cache<EmbeddingKey, float[]> queryEmbeddingCache;
 
-    public EmbeddingService(@Qualifier("openAiEmbeddingModel") EmbeddingModel embeddingModel) {
+    public EmbeddingService(@Qualifier("openAiEmbeddingModel") EmbeddingModel embeddingModel,
+                            @Value("${spring.ai.openai.embedding.options.model:}") String modelName,
+                            EmbeddingCacheProperties properties,
+                            MeterRegistry meterRegistry) {
         this.embeddingModel = embeddingModel;
+        this.modelName = modelName;
+        this.queryEmbeddingCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterAccess(Duration.ofMinutes(properties.getExpireAfterAccessMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, queryEmbeddingCache, CACHE_NAME);
     }
 
     public float[] getEmbedding(String text) {
+        String normalizedText = normalize(text);
+        if (normalizedText.isEmpty()) {
+            return embed(text);
+        }
+
+        // 같은 질의의 동시 미스는 하나의 원격 호출을 공유합니다.
+        float[] cached = queryEmbeddingCache.get(new EmbeddingKey(modelName, normalizedText), key -> {
+            log.debug("[EMBEDDING_CACHE] Miss for text: {}", key.text());
+            float[] result = embed(key.text());
+            // 빈 결과는 일시적인 실패일 수 있으므로 캐시하지 않습니다. (null을 반환하면 저장되지 않습니다)
+            return result.length > 0 ? result : null;
+        });
+        return cached != null ? cached.clone() : new float[0];
+    }
+
+    public List<float[]> getEmbeddings(List<String> texts) {
+        return embeddingModel.embed(texts);
+    }
+
+    private float[] embed(String text) {
         float[] result = embeddingModel.embed(text);
         if (result == null) {
             return new float[0];
@@ -23,7 +77,20 @@ public class EmbeddingService {
         return result;
     }
 
-    public List<float[]> getEmbeddings(List<String> texts) {
-        return embeddingModel.embed(texts);
+    /**
+     * 임베딩 결과에 영향을 주지 않는 범위에서 텍스트를 정규화합니다.
+     *
+     * <p>유니코드 정규화(NFC)와 공백 정리만 수행합니다. 대소문자나 특수문자는 임베딩 결과를
+     * 바꿀 수 있으므로 그대로 유지합니다.</p>
+     */
+    static String normalize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return CONTINUOUS_SPACE_PATTERN.matcher(composed).replaceAll(" ").trim();
+    }
+
+    private record EmbeddingKey(String model, String text) {
     }
 }
@@ -0,0 +1,116 @@
+package com.nhnacademy.library.core.book.service.embedding;
+
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
+import com.nhnacademy.library.core.book.properties.EmbeddingSnapshotProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.util.EmbeddingSnapshot;
+import com.nhnacademy.library.core.book.util.EmbeddingSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 도서 임베딩 스냅샷 서비스
+ *
+ * <p>모든 도서의 (ID, 임베딩)을 바이너리 스냅샷 파일로 내보내고, 재시작 시 이 파일을 메모리 매핑으로 읽어
+ * DB에서 임베딩 문자열을 다시 파싱하지 않고도 벡터를 사용할 수 있게 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmbeddingSnapshotService {
+
+    private final BookRepository bookRepository;
+    private final EmbeddingSnapshotProperties properties;
+
+    /**
+     * DB의 모든 도서 임베딩을 스냅샷 파일로 내보냅니다.
+     *
+     * <p>임시 파일에 먼저 기록한 뒤 원자적으로 교체하므로, 내보내는 중에도 기존 스냅샷을 읽을 수 있습니다.</p>
+     *
+     * @return 내보낸 임베딩 수
+     */
+    public int export() throws IOException {
+        long startTime = System.currentTimeMillis();
+        Path target = snapshotPath();
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        int batchSize = properties.getExportBatchSize();
+        EmbeddingSnapshotWriter writer = null;
+        int exported;
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<BookEmbedding> batch = bookRepository.findBookEmbeddingsAfter(lastId, PageRequest.of(0, batchSize));
+                for (BookEmbedding bookEmbedding : batch) {
+                    if (writer == null) {
+                        writer = EmbeddingSnapshotWriter.create(temp, bookEmbedding.embedding().length);
+                    }
+                    writer.write(bookEmbedding.id(), bookEmbedding.embedding());
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+            }
+            if (writer == null) {
+                log.info("[EMBEDDING_SNAPSHOT] No embeddings to export");
+                return 0;
+            }
+            exported = writer.count();
+            writer.close();
+        } catch (IOException | RuntimeException e) {
+            if (writer != null) {
+                writer.close();
+            }
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("[EMBEDDING_SNAPSHOT] Exported {} embeddings to {} in {}ms",
+                exported, target, System.currentTimeMillis() - startTime);
+        return exported;
+    }
+
+    /**
+     * 스냅샷이 활성화되어 있고 파일이 있으면 메모리 매핑하여 반환합니다.
+     *
+     * @return 스냅샷 (비활성화, 파일 없음, 읽기 실패 시 empty)
+     */
+    public Optional<EmbeddingSnapshot> openSnapshot() {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Path path = snapshotPath();
+        if (!Files.isRegularFile(path)) {
+            log.info("[EMBEDDING_SNAPSHOT] Snapshot not found: {}", path);
+            return Optional.empty();
+        }
+        try {
+            EmbeddingSnapshot snapshot = EmbeddingSnapshot.open(path);
+            log.info("[EMBEDDING_SNAPSHOT] Opened snapshot {} ({} embeddings)", path, snapshot.size());
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            log.warn("[EMBEDDING_SNAPSHOT] Failed to open snapshot {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Path snapshotPath() {
+        return Paths.get(properties.getPath());
+    }
+}
@@ -1,8 +1,10 @@
 package com.nhnacademy.library.core.book.service.personalization.impl;
 
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.repository.BookRepository;
 import com.nhnacademy.library.core.book.service.personalization.PersonalizationService;
+import com.nhnacademy.library.core.book.util.FloatVectorMatrix;
 import com.nhnacademy.library.core.book.util.VectorUtils;
 import com.nhnacademy.library.external.telegram.dto.FeedbackType;
 import com.nhnacademy.library.external.telegram.entity.SearchFeedback;
@@ -13,7 +15,9 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -108,34 +112,29 @@ public class PersonalizationServiceImpl implements PersonalizationService {
 
         log.info("[PERSONALIZATION] Applying personalization for chatId: {}", chatId);
 
-        // 3. 각 도서별 코사인 유사도 계산 및 최종 점수 계산
+        // 3. 검색 결과 도서들의 임베딩을 한 번에 조회하여 유사도 계산
+        Map<Long, Double> similarities = calculateSimilarities(results, preferenceVector);
+
+        // 4. 각 도서별 최종 점수 계산
         return results.stream()
             .map(response -> {
-                // Book 엔티티에서 임베딩 조회
-                return bookRepository.findById(response.getId())
-                    .map(book -> {
-                        float[] bookEmbedding = book.getEmbedding();
-                        if (bookEmbedding == null) {
-                            return response;
-                        }
-
-                        // 코사인 유사도 계산
-                        double similarity = VectorUtils.calculateCosineSimilarity(preferenceVector, bookEmbedding);
-
-                        // 최종 점수 계산: 기존 RRF 점수 + (유사도 × 가중치)
-                        double rrfScore = response.getRrfScore() != null ? response.getRrfScore() : 0.0;
-                        double finalScore = rrfScore + (similarity * PERSONALIZATION_WEIGHT);
-
-                        // 점수 업데이트 (임시로 similarity 필드에 개인화 점수 저장)
-                        response.setSimilarity(similarity);
-                        response.setRrfScore(finalScore);
-
-                        log.debug("[PERSONALIZATION] Book: {}, Similarity: {:.4f}, Final Score: {:.4f}",
-                            response.getTitle(), similarity, finalScore);
-
-                        return response;
-                    })
-                    .orElse(response);
+                Double similarity = similarities.get(response.getId());
+                if (similarity == null) {
+                    return response;
+                }
+
+                // 최종 점수 계산: 기존 RRF 점수 + (유사도 × 가중치)
+                double rrfScore = response.getRrfScore() != null ? response.getRrfScore() : 0.0;
+                double finalScore = rrfScore + (similarity * PERSONALIZATION_WEIGHT);
+
+                // 점수 업데이트 (임시로 similarity 필드에 개인화 점수 저장)
+                response.setSimilarity(similarity);
+                response.setRrfScore(finalScore);
+
+                log.debug("[PERSONALIZATION] Book: {}, Similarity: {:.4f}, Final Score: {:.4f}",
+                    response.getTitle(), similarity, finalScore);
+
+                return response;
             })
             .sorted((a, b) -> {
                 double scoreA = a.getRrfScore() != null ? a.getRrfScore() : 0.0;
@@ -155,6 +154,41 @@ public class PersonalizationServiceImpl implements PersonalizationService {
         log.info("[PERSONALIZATION] Cache evicted for chatId: {}", chatId);
     }
 
+    /**
+     * 검색 결과 도서들과 선호도 벡터의 코사인 유사도를 계산합니다.
+     *
+     * <p>도서별로 엔티티를 조회하지 않고 ID와 임베딩을 한 번에 조회한 뒤,
+     * 연속 배열 행렬에 담아 한 번의 순회로 유사도를 계산합니다.</p>
+     *
+     * @param results          검색 결과
+     * @param preferenceVector 사용자 선호도 벡터
+     * @return 도서 ID별 코사인 유사도 (임베딩이 없는 도서는 제외)
+     */
+    private Map<Long, Double> calculateSimilarities(List<BookSearchResponse> results, float[] preferenceVector) {
+        List<Long> bookIds = results.stream()
+            .map(BookSearchResponse::getId)
+            .distinct()
+            .collect(Collectors.toList());
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+
+        FloatVectorMatrix.Builder builder = FloatVectorMatrix.builder(preferenceVector.length);
+        for (BookEmbedding bookEmbedding : bookRepository.findBookEmbeddingsByIds(bookIds)) {
+            if (bookEmbedding.embedding().length == preferenceVector.length) {
+                builder.add(bookEmbedding.id(), bookEmbedding.embedding());
+            }
+        }
+        FloatVectorMatrix matrix = builder.build();
+
+        double[] scores = matrix.scores(preferenceVector);
+        Map<Long, Double> similarities = new HashMap<>(scores.length * 2);
+        for (int row = 0; row < scores.length; row++) {
+            similarities.put(matrix.id(row), scores[row]);
+        }
+        return similarities;
+    }
+
     /**
      * 사용자가 좋아한 도서 ID 목록을 추출합니다.
      *
@@ -0,0 +1,103 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.properties.BookCardCacheProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 도서 카드 캐시
+ *
+ * <p>검색 결과에 표시할 도서 정보(리뷰 통계, 요약 포함)를 도서 ID별로 한 번만 보관합니다.
+ * 시맨틱 캐시 항목과 하이브리드 검색 순위는 도서 ID와 점수만 가지고, 이 캐시에서 상세 정보를 채웁니다.
+ * 캐시에 없는 도서만 한 번의 쿼리로 조회합니다.</p>
+ *
+ * <p>캐시된 카드는 질의별 점수를 갖지 않으며, 조회할 때마다 복사본에 점수를 채워 반환합니다.</p>
+ */
+@Slf4j
+@Component
+public class BookCardCache {
+
+    private static final String CACHE_NAME = "bookCard";
+
+    private final BookRepository bookRepository;
+    private final Cache<Long, BookSearchResponse> cards;
+
+    public BookCardCache(BookRepository bookRepository, BookCardCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofMinutes(properties.getExpireAfterWriteMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cards, CACHE_NAME);
+    }
+
+    /**
+     * 도서 ID와 점수 목록의 상세 정보를 채웁니다.
+     *
+     * @param hits 조회할 도서 ID와 점수 목록
+     * @return hits 순서의 검색 결과 (존재하지 않는 도서는 제외)
+     */
+    public List<BookSearchResponse> hydrate(List<HybridSearchHit> hits) {
+        if (hits == null || hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BookSearchResponse> found = new HashMap<>(hits.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (HybridSearchHit hit : hits) {
+            BookSearchResponse card = cards.getIfPresent(hit.id());
+            if (card != null) {
+                found.put(hit.id(), card);
+            } else if (!missingIds.contains(hit.id())) {
+                missingIds.add(hit.id());
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            Map<Long, BookSearchResponse> loaded = bookRepository.findSearchResponsesByIds(missingIds).stream()
+                    .collect(Collectors.toMap(BookSearchResponse::getId, Function.identity(), (a, b) -> a));
+            cards.putAll(loaded);
+            found.putAll(loaded);
+            log.debug("[BOOK_CARD] Loaded {} of {} books from database", missingIds.size(), hits.size());
+        }
+
+        List<BookSearchResponse> content = new ArrayList<>(hits.size());
+        for (HybridSearchHit hit : hits) {
+            BookSearchResponse card = found.get(hit.id());
+            if (card != null) {
+                content.add(withScores(card, hit));
+            }
+        }
+        return content;
+    }
+
+    /**
+     * 도서 정보나 리뷰 통계가 바뀐 도서의 카드를 제거합니다.
+     */
+    public void invalidate(Long bookId) {
+        cards.invalidate(bookId);
+    }
+
+    private static BookSearchResponse withScores(BookSearchResponse card, HybridSearchHit hit) {
+        return new BookSearchResponse(card.getId(), card.getIsbn(), card.getTitle(), card.getVolumeTitle(),
+                card.getAuthorName(), card.getPublisherName(), card.getPrice(), card.getEditionPublishDate(),
+                card.getImageUrl(), card.getBookContent(), hit.similarity(), hit.rrfScore(),
+                card.getAverageRating(), card.getReviewCount(), card.getReviewSummary());
+    }
+}
@@ -14,6 +14,7 @@ import com.nhnacademy.library.core.book.service.search.strategy.KeywordSearchStr
 import com.nhnacademy.library.core.book.service.search.strategy.RagSearchStrategy;
 import com.nhnacademy.library.core.book.service.search.strategy.SearchStrategy;
 import com.nhnacademy.library.core.book.service.search.strategy.VectorSearchStrategy;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import com.nhnacademy.library.core.review.domain.BookReview;
 import com.nhnacademy.library.core.review.domain.BookReviewSummary;
 import com.nhnacademy.library.core.review.repository.BookReviewRepository;
@@ -54,7 +55,7 @@ public class BookSearchService {
     private final RagSearchStrategy ragSearchStrategy;
 
     /**
-     * 조건에 맞는 도서를 검색하여 페이징된 결과를 반환합니다.
+     * 조건에 맞는 도서를 검색하여 페이징된 결과를 반환합니다. (시간 제한 없음)
      *
      * @param pageable 페이징 정보
      * @param request  검색 조건
@@ -62,12 +63,27 @@ public class BookSearchService {
      */
     @Transactional(readOnly = true)
     public BookSearchResult searchBooks(Pageable pageable, BookSearchRequest request) {
-        log.info("Searching books with request: {}, pageable: {}", request, pageable);
+        return searchBooks(pageable, request, SearchDeadline.none());
+    }
+
+    /**
+     * 조건에 맞는 도서를 시간 예산 안에서 검색하여 페이징된 결과를 반환합니다.
+     * 예산을 넘기면 DB 쿼리는 타임아웃되고, 하이브리드/RAG 검색은 그때까지 준비된 결과로 응답합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param request  검색 조건
+     * @param deadline 검색 요청의 마감 시각
+     * @return 페이징된 도서 검색 결과
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResult searchBooks(Pageable pageable, BookSearchRequest request, SearchDeadline deadline) {
+        log.info("Searching books with request: {}, pageable: {}, deadline: {}", request, pageable, deadline);
 
+        // 하이브리드/RAG 전략은 키워드 조회, 캐시 확인과 동시에 임베딩을 생성하므로 여기서는 벡터 검색만 임베딩을 준비합니다.
         request = ensureEmbedding(request);
 
         SearchStrategy strategy = selectStrategy(request.searchType());
-        return strategy.search(pageable, request);
+        return strategy.search(pageable, request, deadline);
     }
 
     /**
@@ -83,10 +99,26 @@ public class BookSearchService {
      */
     @Transactional(readOnly = true)
     public BookSearchResult searchBooks(Pageable pageable, BookSearchRequest request, Long chatId) {
+        return searchBooks(pageable, request, chatId, SearchDeadline.none());
+    }
+
+    /**
+     * 조건에 맞는 도서를 시간 예산 안에서 검색하여 개인화된 순위로 반환합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param request  검색 조건
+     * @param chatId   사용자 chatId (개인화용)
+     * @param deadline 검색 요청의 마감 시각
+     * @return 페이징된 도서 검색 결과 (개인화된 순위)
+     * @see #searchBooks(Pageable, BookSearchRequest, Long)
+     */
+    @Transactional(readOnly = true)
+    public BookSearchResult searchBooks(Pageable pageable, BookSearchRequest request, Long chatId,
+                                        SearchDeadline deadline) {
         log.info("Searching books with personalization for chatId: {}", chatId);
 
         // 1. 기존 검색 실행
-        BookSearchResult result = searchBooks(pageable, request);
+        BookSearchResult result = searchBooks(pageable, request, deadline);
 
         // 2. 개인화 적용
         List<BookSearchResponse> personalizedBooks = personalizationService.personalizedSearch(
@@ -95,14 +127,15 @@ public class BookSearchService {
         );
 
         // 3. 결과 재구성
-        return new BookSearchResult(
-            new PageImpl<>(
+        return BookSearchResult.builder()
+            .books(new PageImpl<>(
                 personalizedBooks,
                 pageable,
                 result.getBooks().getTotalElements()
-            ),
-            result.getAiResponse()
-        );
+            ))
+            .aiResponse(result.getAiResponse())
+            .cursor(result.getCursor())
+            .build();
     }
 
     private SearchStrategy selectStrategy(SearchType searchType) {
@@ -116,14 +149,13 @@ public class BookSearchService {
 
     private BookSearchRequest ensureEmbedding(BookSearchRequest request) {
         if (shouldGenerateEmbedding(request)) {
-            float[] vector = embeddingService.getEmbedding(request.keyword());
-            return new BookSearchRequest(request.keyword(), request.isbn(), request.searchType(), vector, request.isWarmUp());
+            return request.withVector(embeddingService.getEmbedding(request.keyword()));
         }
         return request;
     }
 
     private boolean shouldGenerateEmbedding(BookSearchRequest request) {
-        return (request.searchType() == SearchType.VECTOR || request.searchType() == SearchType.HYBRID || request.searchType() == SearchType.RAG)
+        return request.searchType() == SearchType.VECTOR
                 && request.keyword() != null && !request.keyword().isBlank() && request.vector() == null;
     }
 
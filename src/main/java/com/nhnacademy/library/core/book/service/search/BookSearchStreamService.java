@@ -0,0 +1,174 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.BookSearchStreamEvent;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.properties.SearchTimeoutProperties;
+import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
+import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.search.strategy.HybridSearchStrategy;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 단계별 도서 검색 서비스 (스트리밍 응답용)
+ *
+ * <p>키워드 검색 결과를 가장 먼저 전달하고, 이어서 하이브리드 병합 결과를, RAG 요청이면 LLM 응답에서 완성되는 추천 항목과
+ * LLM 검증을 거친 추천 결과를 전달합니다.
+ * 모든 단계는 검색 Executor에서 비동기로 실행되므로 호출 스레드(서블릿 요청 스레드)를 점유하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookSearchStreamService {
+
+    private final HybridSearchStrategy hybridSearchStrategy;
+    private final RrfService rrfService;
+    private final SemanticCacheService semanticCacheService;
+    private final BookSearchCacheService bookSearchCacheService;
+    private final SearchTimeoutProperties searchTimeoutProperties;
+    private final Executor searchRetrievalExecutor;
+
+    /**
+     * 단계별 검색을 시작하고, 각 단계의 결과가 준비되는 대로 {@link BookSearchStreamEvent.Stage} 순서대로 전달합니다.
+     * 1. KEYWORD: 키워드 후보 순위의 요청 페이지 (키워드 조회 지연 시간 안에 전달)
+     * 2. HYBRID: 같은 키워드 후보와 벡터 후보를 RRF로 병합한 요청 페이지
+     * 3. RECOMMENDATION: 캐시 미스인 RAG 요청일 때, 진행 중이거나 새로 시작한 워밍업이 LLM 응답에서 완성한 추천 항목 (항목마다 하나씩)
+     * 4. AI: RAG 요청일 때 시맨틱 캐시 결과, 없으면 워밍업이 시맨틱 캐시에 저장한 LLM 검증 결과
+     *
+     * <p>키워드/병합 단계는 {@code search.timeout.request-ms}, 추천/AI 단계는 {@code search.timeout.stream-ms} 안에서만 기다리며,
+     * 시간 안에 AI 결과가 없으면 AI 단계를 생략합니다. (진행 중인 워밍업은 계속되어 캐시를 채웁니다)</p>
+     *
+     * @param pageable 페이징 정보
+     * @param request  검색 요청 DTO
+     * @param listener 단계별 결과를 받을 리스너 (검색 Executor 스레드에서 호출)
+     * @return 모든 단계가 전달되면 완료되는 future (키워드/병합 단계가 실패하면 예외로 완료)
+     */
+    public CompletableFuture<Void> search(Pageable pageable, BookSearchRequest request,
+                                          Consumer<BookSearchStreamEvent> listener) {
+        SearchDeadline deadline = SearchDeadline.ofMillis(searchTimeoutProperties.getRequestMs());
+        SearchDeadline streamDeadline = SearchDeadline.ofMillis(searchTimeoutProperties.getStreamMs());
+        int topK = HybridSearchStrategy.topKFor(pageable);
+
+        // 키워드 후보 조회와 질의 임베딩 생성을 동시에 시작하고, 키워드 후보는 두 단계에서 함께 사용합니다.
+        CompletableFuture<float[]> embedding = hybridSearchStrategy.embedAsync(request, deadline);
+        CompletableFuture<List<SearchCandidate>> keywordCandidates =
+                hybridSearchStrategy.keywordCandidatesAsync(request, deadline);
+
+        // 1. 키워드 검색 결과
+        CompletableFuture<Void> keywordStage = keywordCandidates
+                .thenApplyAsync(deadline.bind(candidates -> hybridSearchStrategy.page(pageable,
+                        rrfService.fuse(topK, List.of(RrfService.RankedList.of(candidates))))), searchRetrievalExecutor)
+                .thenAccept(result -> listener.accept(
+                        BookSearchStreamEvent.of(BookSearchStreamEvent.Stage.KEYWORD, result)));
+
+        // 2. 하이브리드 병합 결과 (키워드 결과를 전달한 뒤에 전달)
+        CompletableFuture<Void> hybridStage = hybridSearchStrategy
+                .searchHitsAsync(request, keywordCandidates, embedding, topK, deadline)
+                .thenApplyAsync(deadline.bind(fusion -> hybridSearchStrategy.page(pageable, fusion)),
+                        searchRetrievalExecutor)
+                .thenCombine(keywordStage, (result, sent) -> result)
+                .thenAccept(result -> listener.accept(
+                        BookSearchStreamEvent.of(BookSearchStreamEvent.Stage.HYBRID, result)));
+
+        if (request.searchType() != SearchType.RAG || !StringUtils.hasText(request.keyword())) {
+            return hybridStage;
+        }
+
+        // 3. 추천 항목과 AI 추천 결과 (병합 결과를 전달한 뒤에 전달)
+        CompletableFuture<BookSearchResult> recommendation = streamDeadline.orElse(
+                recommendAsync(request, embedding, hybridStage, deadline, streamDeadline, listener), null);
+        return recommendation
+                .thenCombine(hybridStage, (result, sent) -> result)
+                .thenAccept(result -> {
+                    if (result == null) {
+                        log.info("[STREAM] AI recommendation not ready within the stream budget. Skipping AI stage.");
+                        return;
+                    }
+                    listener.accept(BookSearchStreamEvent.of(BookSearchStreamEvent.Stage.AI, result.slice(pageable)));
+                });
+    }
+
+    /**
+     * 시맨틱 캐시를 확인하고, 없으면 워밍업(LLM 추천 생성)을 시작하거나 진행 중인 워밍업에 합류하여
+     * 워밍업이 완성하는 추천 항목을 RECOMMENDATION 이벤트로 전달합니다.
+     *
+     * @param hybridStage 병합 단계 (추천 항목은 병합 결과를 전달한 뒤에 전달)
+     * @return 시맨틱 캐시 또는 워밍업의 RAG 결과 (추천 항목을 모두 전달한 뒤 완료, 실패 시 null)
+     */
+    private CompletableFuture<BookSearchResult> recommendAsync(BookSearchRequest request,
+                                                               CompletableFuture<float[]> embedding,
+                                                               CompletableFuture<Void> hybridStage,
+                                                               SearchDeadline deadline,
+                                                               SearchDeadline streamDeadline,
+                                                               Consumer<BookSearchStreamEvent> listener) {
+        return embedding
+                .thenApplyAsync(deadline.bind(vector -> semanticCacheService.findExactResult(request.keyword())
+                        .or(() -> vector != null
+                                ? semanticCacheService.findSimilarResult(request.withVector(vector))
+                                : Optional.empty())), searchRetrievalExecutor)
+                .thenCompose(cached -> cached
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> streamWarmUp(request.keyword(), hybridStage, streamDeadline, listener)))
+                .exceptionally(e -> {
+                    log.warn("[STREAM] AI recommendation failed. Skipping AI stage: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 단일 실행 워밍업을 시작하거나 합류하고, 워밍업이 LLM 응답에서 완성하는 추천 항목을 도착 순서대로 전달합니다.
+     * 추천 항목은 LLM 응답 스레드가 아닌 검색 Executor에서 전달하며, 워밍업 결과(시맨틱 캐시에 저장된 결과)는
+     * 추천 항목을 모두 전달한 뒤 반환합니다.
+     *
+     * @return 워밍업 결과 (추천 항목을 모두 전달한 뒤 완료)
+     */
+    private CompletableFuture<BookSearchResult> streamWarmUp(String keyword, CompletableFuture<Void> hybridStage,
+                                                             SearchDeadline streamDeadline,
+                                                             Consumer<BookSearchStreamEvent> listener) {
+        BookSearchCacheService.StreamingWarmUp warmUp = bookSearchCacheService.warmUpStreaming(keyword);
+        Flux<BookAiRecommendationResponse> recommendations = warmUp.recommendations()
+                .delaySubscription(Mono.fromFuture(hybridStage, true))
+                .publishOn(Schedulers.fromExecutor(searchRetrievalExecutor));
+        if (streamDeadline.isBounded()) {
+            recommendations = recommendations.take(Duration.ofMillis(streamDeadline.remainingMillis()));
+        }
+        return recommendations
+                .doOnNext(rec -> toEvent(rec).ifPresent(listener))
+                .then()
+                .toFuture()
+                .thenCombine(warmUp.result(), (streamed, result) -> result);
+    }
+
+    /**
+     * 추천 항목의 도서 카드를 도서 카드 캐시에서 채워 RECOMMENDATION 이벤트를 만듭니다.
+     *
+     * @return 추천 이벤트 (도서가 존재하지 않으면 빈 값)
+     */
+    private Optional<BookSearchStreamEvent> toEvent(BookAiRecommendationResponse recommendation) {
+        double rrfScore = recommendation.getRrfScore() != null ? recommendation.getRrfScore() : 0.0;
+        return hybridSearchStrategy.hydrate(List.of(
+                        new HybridSearchHit(recommendation.getId(), rrfScore, recommendation.getSimilarity())))
+                .stream()
+                .findFirst()
+                .map(book -> BookSearchStreamEvent.recommendation(book, recommendation));
+    }
+}
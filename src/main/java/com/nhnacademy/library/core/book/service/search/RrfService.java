@@ -1,83 +1,160 @@
 package com.nhnacademy.library.core.book.service.search;
 
-import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.util.LongDoubleHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * RRF (Reciprocal Rank Fusion) 알고리즘을 사용하여 검색 결과를 병합하는 서비스입니다.
  * RRF는 여러 검색 엔진의 결과 순위를 통합하기 위해 사용되며, 수식은 다음과 같습니다:
- * RRFscore(d) = Σ (1 / (k + rank(d, r)))
- * 여기서 k는 상수(기본값 60)이며, rank(d, r)은 검색 엔진 r에서의 도서 d의 순위입니다.
+ * RRFscore(d) = Σ w(r) / (k + rank(d, r))
+ * 여기서 k는 상수(기본값 60), w(r)은 검색 엔진 r의 가중치(기본값 1.0)이며, rank(d, r)은 검색 엔진 r에서의 도서 d의 순위입니다.
+ *
+ * <p>점수는 박싱 없는 {@link LongDoubleHashMap}에 누적하고, 전체를 정렬하지 않고 크기 K의 최소 힙으로
+ * 상위 K개만 선택합니다. 도서 상세 정보(DTO)는 만들지 않으며, 호출자가 최종 페이지만 조회합니다.</p>
  */
 @Slf4j
 @Service
 public class RrfService {
 
     /** RRF 알고리즘의 랭킹 평활화를 위한 상수 k */
-    private static final int RRF_K = 60;
+    public static final int RRF_K = 60;
 
     /**
-     * 키워드 검색 결과와 벡터 검색 결과를 RRF 알고리즘으로 병합합니다.
-     * 1. 각 도서별로 키워드 검색 순위와 벡터 검색 순위를 기반으로 RRF 점수를 누적 계산합니다.
-     * 2. 병합 과정에서 벡터 검색의 유사도(Similarity) 정보를 도서 정보에 업데이트합니다.
-     * 3. 최종 계산된 RRF 점수를 기준으로 내림차순 정렬하여 반환합니다.
+     * 순위 목록들을 RRF 알고리즘으로 병합하고 상위 topK개를 반환합니다.
+     * 1. 각 후보의 순위(rank)로 w / (k + rank) 점수를 도서 ID별로 누적합니다.
+     * 2. 후보 점수(유사도)는 그 값을 가진 첫 번째 목록의 값을 보존합니다.
+     * 3. 누적 점수 기준 상위 topK개만 선택하여 내림차순으로 정렬합니다. (동점이면 도서 ID 오름차순)
      *
-     * @param keywordResults 키워드 검색 결과 리스트
-     * @param vectorResults  벡터 검색 결과 리스트
-     * @return RRF 점수가 적용된 병합된 도서 리스트 (점수 내림차순 정렬)
+     * @param topK        반환할 최대 결과 수
+     * @param rankedLists 병합할 순위 목록 (가중치 포함)
+     * @return 상위 topK개의 병합 결과와 전체 후보 수
      */
-    public List<BookSearchResponse> fuse(List<BookSearchResponse> keywordResults, List<BookSearchResponse> vectorResults) {
-        // 도서 ID별 누적 RRF 점수를 저장하는 맵
-        Map<Long, Double> rrfScores = new HashMap<>();
-        // 도서 ID별 상세 정보를 저장하는 맵 (최종 반환용)
-        Map<Long, BookSearchResponse> bookMap = new HashMap<>();
-
-        // 1. 키워드 검색 결과 처리 및 점수 계산
-        for (int i = 0; i < keywordResults.size(); i++) {
-            BookSearchResponse b = keywordResults.get(i);
-            // 1 / (k + rank) 점수 누적
-            rrfScores.put(b.getId(), rrfScores.getOrDefault(b.getId(), 0.0) + 1.0 / (RRF_K + i + 1));
-            bookMap.put(b.getId(), b);
+    public Fusion fuse(int topK, List<RankedList> rankedLists) {
+        int expectedSize = 0;
+        int scoredSize = 0;
+        for (RankedList rankedList : rankedLists) {
+            expectedSize += rankedList.candidates().size();
+            for (SearchCandidate candidate : rankedList.candidates()) {
+                if (candidate.score() != null) {
+                    scoredSize++;
+                }
+            }
         }
 
-        // 2. 벡터 검색 결과 처리 및 점수 계산
-        for (int i = 0; i < vectorResults.size(); i++) {
-            BookSearchResponse b = vectorResults.get(i);
-            // 1 / (k + rank) 점수 누적
-            rrfScores.put(b.getId(), rrfScores.getOrDefault(b.getId(), 0.0) + 1.0 / (RRF_K + i + 1));
-            if (!bookMap.containsKey(b.getId())) {
-                bookMap.put(b.getId(), b);
-            } else {
-                // 키워드 결과에 이미 존재하는 경우, 벡터 검색에서 추출된 유사도(Similarity) 정보를 보존하여 업데이트합니다.
-                BookSearchResponse existing = bookMap.get(b.getId());
-                bookMap.put(b.getId(), new BookSearchResponse(
-                        existing.getId(), existing.getIsbn(), existing.getTitle(), existing.getVolumeTitle(),
-                        existing.getAuthorName(), existing.getPublisherName(), existing.getPrice(),
-                        existing.getEditionPublishDate(), existing.getImageUrl(), existing.getBookContent(), b.getSimilarity()
-                ));
+        // 1~2. 도서 ID별 RRF 점수 누적 및 유사도 보존
+        LongDoubleHashMap scores = new LongDoubleHashMap(expectedSize);
+        LongDoubleHashMap similarities = new LongDoubleHashMap(scoredSize);
+        for (RankedList rankedList : rankedLists) {
+            double weight = rankedList.weight();
+            for (SearchCandidate candidate : rankedList.candidates()) {
+                scores.addTo(candidate.id(), weight / (RRF_K + candidate.rank()));
+                if (candidate.score() != null) {
+                    similarities.putIfAbsent(candidate.id(), candidate.score());
+                }
+            }
+        }
+
+        // 3. 상위 topK개 선택 (최소 힙, 루트가 현재 K번째 결과)
+        int k = Math.min(Math.max(topK, 0), scores.size());
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int slot = 0; slot < scores.capacity(); slot++) {
+            if (!scores.isOccupied(slot)) {
+                continue;
+            }
+            if (heapSize < k) {
+                heap[heapSize] = slot;
+                siftUp(scores, heap, heapSize++);
+            } else if (k > 0 && ranksBefore(scores, slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(scores, heap, 0, heapSize);
             }
         }
 
-        // 3. 점수 기준 정렬 및 최종 응답 DTO 생성
-        return rrfScores.entrySet().stream()
-                .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue())) // 점수 내림차순 정렬
-                .map(entry -> {
-                    Long id = entry.getKey();
-                    BookSearchResponse original = bookMap.get(id);
-                    Double rrfScore = entry.getValue();
-                    // 최종 필드에 RRF 점수를 포함하여 반환
-                    return new BookSearchResponse(
-                            original.getId(), original.getIsbn(), original.getTitle(), original.getVolumeTitle(),
-                            original.getAuthorName(), original.getPublisherName(), original.getPrice(),
-                            original.getEditionPublishDate(), original.getImageUrl(), original.getBookContent(), original.getSimilarity(),
-                            rrfScore
-                    );
-                })
-                .toList();
+        // 힙에서 하나씩 꺼내 뒤에서부터 채우면 내림차순이 됩니다.
+        HybridSearchHit[] ordered = new HybridSearchHit[heapSize];
+        while (heapSize > 0) {
+            int slot = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(scores, heap, 0, heapSize);
+
+            long id = scores.keyAt(slot);
+            double similarity = similarities.getOrDefault(id, Double.NaN);
+            ordered[heapSize] = new HybridSearchHit(id, scores.valueAt(slot),
+                    Double.isNaN(similarity) ? null : similarity);
+        }
+
+        return new Fusion(Arrays.asList(ordered), scores.size());
+    }
+
+    /**
+     * 힙 순서: 점수가 낮을수록, 동점이면 도서 ID가 클수록 루트(먼저 제외될 결과)에 가깝습니다.
+     */
+    private static boolean ranksBefore(LongDoubleHashMap scores, int slot, int other) {
+        int compare = Double.compare(scores.valueAt(slot), scores.valueAt(other));
+        if (compare != 0) {
+            return compare > 0;
+        }
+        return scores.keyAt(slot) < scores.keyAt(other);
+    }
+
+    private static void siftUp(LongDoubleHashMap scores, int[] heap, int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(scores, heap[parent], slot)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private static void siftDown(LongDoubleHashMap scores, int[] heap, int index, int size) {
+        int slot = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksBefore(scores, heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksBefore(scores, slot, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    /**
+     * 가중치가 있는 순위 목록
+     *
+     * @param candidates 순위가 매겨진 후보 목록
+     * @param weight     RRF 점수 가중치
+     */
+    public record RankedList(List<SearchCandidate> candidates, double weight) {
+
+        public static RankedList of(List<SearchCandidate> candidates) {
+            return new RankedList(candidates, 1.0);
+        }
+    }
+
+    /**
+     * 병합 결과
+     *
+     * @param hits       RRF 점수 내림차순 상위 결과
+     * @param totalCount 병합된 전체 후보(중복 제거) 수
+     */
+    public record Fusion(List<HybridSearchHit> hits, int totalCount) {
     }
 }
@@ -0,0 +1,86 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.properties.SearchCursorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 하이브리드 검색의 병합 순위를 커서로 보관하는 저장소
+ *
+ * <p>첫 검색에서 병합한 전체 후보 순위(도서 ID와 점수)를 임의의 커서 토큰으로 보관하고,
+ * 같은 질의의 다른 페이지 요청은 키워드/벡터 후보 조회와 RRF 병합 없이 이 순위에서 페이지만 잘라 조회합니다.
+ * 커서는 발급한 질의(키워드, ISBN, 검색 유형)와 일치할 때만 사용하며, 만료되면 다시 검색합니다.</p>
+ */
+@Slf4j
+@Component
+public class SearchCursorStore {
+
+    private static final String CACHE_NAME = "searchCursor";
+
+    private final Cache<String, CursorEntry> cursors;
+
+    public SearchCursorStore(SearchCursorProperties properties, MeterRegistry meterRegistry) {
+        this.cursors = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterAccess(Duration.ofMinutes(properties.getExpireAfterAccessMinutes()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cursors, CACHE_NAME);
+    }
+
+    /**
+     * 요청의 커서가 가리키는 병합 순위를 조회합니다.
+     *
+     * @return 병합 순위 (커서가 없거나, 만료되었거나, 다른 질의의 커서이면 빈 값)
+     */
+    public Optional<RrfService.Fusion> find(BookSearchRequest request) {
+        if (request.cursor() == null || request.cursor().isBlank()) {
+            return Optional.empty();
+        }
+        CursorEntry entry = cursors.getIfPresent(request.cursor());
+        if (entry == null || !entry.matches(request)) {
+            log.debug("[SEARCH_CURSOR] Cursor miss: {}", request.cursor());
+            return Optional.empty();
+        }
+        return Optional.of(entry.fusion());
+    }
+
+    /**
+     * 병합 순위에 대한 커서를 반환합니다.
+     * 요청의 커서로 조회한 순위이면 같은 커서를, 새로 병합한 순위이면 새 커서를 발급합니다.
+     *
+     * @param request 검색 요청 DTO
+     * @param fusion  전체 후보를 병합한 순위
+     * @return 커서 토큰
+     */
+    public String cursorFor(BookSearchRequest request, RrfService.Fusion fusion) {
+        if (request.cursor() != null) {
+            CursorEntry entry = cursors.getIfPresent(request.cursor());
+            if (entry != null && entry.fusion() == fusion) {
+                return request.cursor();
+            }
+        }
+        String cursor = UUID.randomUUID().toString().replace("-", "");
+        cursors.put(cursor, new CursorEntry(request.keyword(), request.isbn(), request.searchType(), fusion));
+        return cursor;
+    }
+
+    private record CursorEntry(String keyword, String isbn, SearchType searchType, RrfService.Fusion fusion) {
+
+        boolean matches(BookSearchRequest request) {
+            return Objects.equals(keyword, request.keyword()) && Objects.equals(isbn, request.isbn())
+                    && searchType == request.searchType();
+        }
+    }
+}
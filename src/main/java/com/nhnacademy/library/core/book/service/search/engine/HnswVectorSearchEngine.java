@@ -0,0 +1,198 @@
+package com.nhnacademy.library.core.book.service.search.engine;
+
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.event.BookEmbeddingUpdatedEvent;
+import com.nhnacademy.library.core.book.properties.VectorSearchProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingSnapshotService;
+import com.nhnacademy.library.core.book.util.EmbeddingSnapshot;
+import com.nhnacademy.library.core.book.util.HnswIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * 인메모리 HNSW 벡터 검색 엔진
+ *
+ * <p>애플리케이션 시작 후 모든 도서 임베딩을 백그라운드에서 HNSW 인덱스에 적재하고,
+ * 이후 임베딩이 생성될 때마다 {@link BookEmbeddingUpdatedEvent}로 인덱스를 갱신합니다.
+ * 검색 시에는 인덱스에서 도서 ID만 찾은 뒤, 해당 페이지의 도서만 DB에서 조회합니다.</p>
+ *
+ * <p>임베딩 스냅샷이 있으면 스냅샷에서 먼저 적재하고, 스냅샷 이후에 임베딩이 생성된 도서만 DB에서 읽습니다.
+ * 인덱스 적재가 끝나기 전에는 pgvector 검색으로 대체합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.vector.engine", havingValue = "hnsw")
+public class HnswVectorSearchEngine implements VectorSearchEngine {
+
+    private final BookRepository bookRepository;
+    private final VectorSearchProperties properties;
+    private final EmbeddingSnapshotService embeddingSnapshotService;
+    private final Executor taskExecutor;
+    private final HnswIndex<Long> index = new HnswIndex<>();
+
+    private volatile boolean ready;
+
+    public HnswVectorSearchEngine(BookRepository bookRepository,
+                                  VectorSearchProperties properties,
+                                  EmbeddingSnapshotService embeddingSnapshotService,
+                                  Executor taskExecutor) {
+        this.bookRepository = bookRepository;
+        this.properties = properties;
+        this.embeddingSnapshotService = embeddingSnapshotService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::loadIndex);
+    }
+
+    /**
+     * 스냅샷 또는 DB에서 모든 도서 임베딩을 읽어 인덱스에 적재합니다.
+     */
+    void loadIndex() {
+        long startTime = System.currentTimeMillis();
+        try {
+            int loaded = embeddingSnapshotService.openSnapshot()
+                    .map(this::loadFromSnapshot)
+                    .orElseGet(this::loadFromDatabase);
+            ready = true;
+            log.info("[VECTOR_ENGINE] HNSW index loaded: {} books in {}ms",
+                    loaded, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("[VECTOR_ENGINE] Failed to load HNSW index, keeping pgvector fallback: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DB의 모든 도서 임베딩을 ID 순으로 나누어 읽어 적재합니다.
+     */
+    private int loadFromDatabase() {
+        int batchSize = properties.getLoadBatchSize();
+        long lastId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<BookEmbedding> batch = bookRepository.findBookEmbeddingsAfter(lastId, PageRequest.of(0, batchSize));
+            for (BookEmbedding bookEmbedding : batch) {
+                index.add(bookEmbedding.id(), bookEmbedding.embedding());
+            }
+            loaded += batch.size();
+            if (batch.size() < batchSize) {
+                return loaded;
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+    }
+
+    /**
+     * 스냅샷의 임베딩을 적재한 뒤, 스냅샷에 없는 도서의 임베딩만 DB에서 읽어 적재합니다.
+     */
+    private int loadFromSnapshot(EmbeddingSnapshot snapshot) {
+        // 인덱스가 정규화된 사본을 저장하므로 행마다 같은 버퍼를 재사용합니다.
+        float[] buffer = new float[snapshot.dimension()];
+        Set<Long> loadedIds = new HashSet<>(snapshot.size() * 2);
+        for (int row = 0; row < snapshot.size(); row++) {
+            snapshot.copyVector(row, buffer);
+            long bookId = snapshot.id(row);
+            index.add(bookId, buffer);
+            loadedIds.add(bookId);
+        }
+
+        List<Long> missingIds = bookRepository.findEmbeddedBookIds().stream()
+                .filter(bookId -> !loadedIds.contains(bookId))
+                .toList();
+        int batchSize = properties.getLoadBatchSize();
+        for (int from = 0; from < missingIds.size(); from += batchSize) {
+            List<Long> batch = missingIds.subList(from, Math.min(from + batchSize, missingIds.size()));
+            for (BookEmbedding bookEmbedding : bookRepository.findBookEmbeddingsByIds(batch)) {
+                index.add(bookEmbedding.id(), bookEmbedding.embedding());
+            }
+        }
+        log.info("[VECTOR_ENGINE] Loaded {} embeddings from snapshot and {} from database",
+                snapshot.size(), missingIds.size());
+        return snapshot.size() + missingIds.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleBookEmbeddingUpdated(BookEmbeddingUpdatedEvent event) {
+        for (BookEmbedding bookEmbedding : event.embeddings()) {
+            index.add(bookEmbedding.id(), bookEmbedding.embedding());
+        }
+        log.debug("[VECTOR_ENGINE] HNSW index updated with {} embeddings", event.embeddings().size());
+    }
+
+    @Override
+    public Page<BookSearchResponse> search(Pageable pageable, BookSearchRequest request) {
+        if (request.vector() == null) {
+            log.warn("[VECTOR_ENGINE] Vector is null, returning empty result");
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        if (!ready) {
+            log.debug("[VECTOR_ENGINE] HNSW index is not ready, falling back to pgvector");
+            return bookRepository.vectorSearch(pageable, request);
+        }
+
+        int offset = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset());
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) offset + pageable.getPageSize());
+        List<HnswIndex.Neighbor<Long>> neighbors = index.search(request.vector(), limit);
+        if (neighbors.size() <= offset) {
+            return new PageImpl<>(List.of(), pageable, index.size());
+        }
+
+        // 해당 페이지의 도서만 조회하고, 인덱스의 유사도를 채웁니다.
+        List<HnswIndex.Neighbor<Long>> page = neighbors.subList(offset, neighbors.size());
+        List<Long> bookIds = new ArrayList<>(page.size());
+        Map<Long, Double> similarities = new HashMap<>(page.size() * 2);
+        for (HnswIndex.Neighbor<Long> neighbor : page) {
+            bookIds.add(neighbor.key());
+            similarities.put(neighbor.key(), neighbor.similarity());
+        }
+
+        List<BookSearchResponse> content = bookRepository.findSearchResponsesByIds(bookIds);
+        content.forEach(response -> response.setSimilarity(similarities.get(response.getId())));
+        return new PageImpl<>(content, pageable, index.size());
+    }
+
+    @Override
+    public List<SearchCandidate> searchCandidates(BookSearchRequest request, int limit) {
+        if (request.vector() == null) {
+            return List.of();
+        }
+        if (!ready) {
+            return bookRepository.findVectorCandidates(request.vector(), limit);
+        }
+
+        List<HnswIndex.Neighbor<Long>> neighbors = index.search(request.vector(), limit);
+        List<SearchCandidate> candidates = new ArrayList<>(neighbors.size());
+        for (int i = 0; i < neighbors.size(); i++) {
+            HnswIndex.Neighbor<Long> neighbor = neighbors.get(i);
+            candidates.add(new SearchCandidate(neighbor.key(), i + 1, neighbor.similarity()));
+        }
+        return candidates;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.library.core.book.service.search.engine;
+
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * pgvector 벡터 검색 엔진 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.vector.engine", havingValue = "pgvector", matchIfMissing = true)
+public class PgVectorSearchEngine implements VectorSearchEngine {
+
+    private final BookRepository bookRepository;
+
+    @Override
+    public Page<BookSearchResponse> search(Pageable pageable, BookSearchRequest request) {
+        return bookRepository.vectorSearch(pageable, request);
+    }
+
+    @Override
+    public List<SearchCandidate> searchCandidates(BookSearchRequest request, int limit) {
+        return bookRepository.findVectorCandidates(request.vector(), limit);
+    }
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.library.core.book.service.search.engine;
+
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 벡터 검색 엔진
+ *
+ * <p>{@code search.vector.engine} 프로퍼티로 구현체를 선택합니다.</p>
+ * <ul>
+ *     <li>{@code pgvector} (기본값): PostgreSQL pgvector 쿼리로 검색</li>
+ *     <li>{@code hnsw}: 애플리케이션 메모리의 HNSW 인덱스로 검색</li>
+ * </ul>
+ */
+public interface VectorSearchEngine {
+
+    /**
+     * 요청의 임베딩 벡터와 유사한 도서를 유사도 내림차순으로 조회합니다.
+     *
+     * @param pageable 페이징 정보
+     * @param request  검색 요청 (vector 필수)
+     * @return 유사도가 채워진 검색 결과 페이지
+     */
+    Page<BookSearchResponse> search(Pageable pageable, BookSearchRequest request);
+
+    /**
+     * 요청의 임베딩 벡터와 유사한 도서의 ID, 순위, 유사도만 조회합니다.
+     * 순위 병합(RRF) 등 후보 선별 단계에서 도서 상세 정보 없이 사용합니다.
+     *
+     * @param request 검색 요청 (vector가 null이면 빈 목록)
+     * @param limit   최대 후보 수
+     * @return 유사도 내림차순 후보 목록
+     */
+    List<SearchCandidate> searchCandidates(BookSearchRequest request, int limit);
+}
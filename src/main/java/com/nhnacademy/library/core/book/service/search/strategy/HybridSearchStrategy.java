@@ -3,26 +3,40 @@ package com.nhnacademy.library.core.book.service.search.strategy;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.properties.HybridSearchProperties;
 import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingService;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
 import com.nhnacademy.library.core.book.service.search.RrfService;
+import com.nhnacademy.library.core.book.service.search.SearchCursorStore;
+import com.nhnacademy.library.core.book.service.search.engine.VectorSearchEngine;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 
 /**
  * 하이브리드 검색 전략 구현체입니다.
- * 키워드 검색(Keyword Search)과 벡터 검색(Vector Search) 결과를 병렬로 실행하여
- * 보다 빠른 검색 속도를 제공합니다.
+ * 키워드 검색(Keyword Search)과 질의 임베딩 생성을 동시에 시작하고, 벡터 검색(Vector Search)은
+ * 임베딩이 준비되는 대로 이어서 실행하여 보다 빠른 검색 속도를 제공합니다.
  *
  * 두 검색 결과의 순위를 통합하기 위해 RRF(Reciprocal Rank Fusion) 알고리즘을 사용합니다.
+ * 순위 병합은 도서 ID와 점수만으로 수행하고, 최종 페이지에 포함된 도서만 도서 카드 캐시({@link BookCardCache})에서 상세 정보를 채웁니다.
+ *
+ * {@code search.hybrid.mode=sql}이면 순위와 RRF 점수를 한 번의 SQL로 계산합니다. (하이브리드 검색 1회당 쿼리 2회)
+ *
+ * 병합한 전체 후보 순위는 커서({@link SearchCursorStore})로 보관하여, 같은 질의의 다른 페이지는 후보 조회와 병합 없이
+ * 해당 페이지의 도서만 조회합니다.
  */
 @Slf4j
 @Component
@@ -30,72 +44,280 @@ import java.util.concurrent.Executor;
 public class HybridSearchStrategy implements SearchStrategy {
 
     private final BookRepository bookRepository;
+    private final VectorSearchEngine vectorSearchEngine;
     private final RrfService rrfService;
-    private final Executor taskExecutor;
+    private final Executor searchRetrievalExecutor;
+    private final Executor embeddingExecutor;
+    private final HybridSearchProperties properties;
+    private final EmbeddingService embeddingService;
+    private final SearchCursorStore searchCursorStore;
+    private final BookCardCache bookCardCache;
+
+    private static final String SQL_MODE = "sql";
 
-    /** RRF 점수 계산을 위해 각 검색 엔진에서 가져올 상위 결과 수 */
-    private static final int DEFAULT_BATCH_SIZE = 100;
+    /** 커서로 보관할 병합 순위의 크기 (전체 후보, 최대 키워드/벡터 후보 수의 합) */
+    private static final int ALL_CANDIDATES = Integer.MAX_VALUE;
+
+    /**
+     * 하이브리드 검색을 수행합니다. (시간 제한 없음)
+     *
+     * @see #search(Pageable, BookSearchRequest, SearchDeadline)
+     */
+    @Override
+    public BookSearchResult search(Pageable pageable, BookSearchRequest request) {
+        return search(pageable, request, SearchDeadline.none());
+    }
 
     /**
      * 하이브리드 검색을 수행합니다.
-     * 1. 키워드 검색과 벡터 검색을 병렬로 실행하여 응답 시간 단축
-     * 2. 두 검색이 완료되면 RRF 알고리즘으로 결과 병합
-     * 3. 병합된 결과에서 페이징 처리
+     * 1. 키워드 후보 조회와 질의 임베딩 생성을 동시에 시작하고, 벡터 후보 조회는 임베딩 완료에 이어서 실행 ({@link #searchHitsAsync})
+     * 2. 키워드/벡터 후보의 순위를 RRF 알고리즘으로 병합
+     * 3. 병합된 순위에서 페이징 처리 후 해당 페이지의 도서만 상세 정보 조회 ({@link #page(Pageable, BookSearchRequest, RrfService.Fusion, SearchDeadline)})
+     *
+     * <p>요청에 유효한 커서가 있으면 1~2단계를 생략하고 커서의 병합 순위를 사용합니다.</p>
+     *
+     * <p>마감 시각까지 완료되지 않은 후보 조회는 빈 목록으로 간주하고, 준비된 후보(예: 키워드 후보)만으로 결과를 만듭니다.</p>
      *
      * @param pageable 페이징 정보
-     * @param request  검색 요청 DTO (키워드 등 포함)
+     * @param request  검색 요청 DTO (키워드 등 포함, vector가 없으면 키워드로 임베딩을 생성)
+     * @param deadline 검색 요청의 마감 시각
      * @return 통합 순위가 적용된 도서 검색 결과
      */
     @Override
-    public BookSearchResult search(Pageable pageable, BookSearchRequest request) {
+    public BookSearchResult search(Pageable pageable, BookSearchRequest request, SearchDeadline deadline) {
         long startTime = System.currentTimeMillis();
 
-        // 키워드 검색과 벡터 검색을 병렬로 실행
-        CompletableFuture<List<BookSearchResponse>> keywordSearchFuture = CompletableFuture.supplyAsync(() -> {
-            var keywordPage = bookRepository.search(PageRequest.of(0, DEFAULT_BATCH_SIZE), request);
-            return (keywordPage != null && keywordPage.getContent() != null)
-                    ? keywordPage.getContent()
-                    : List.of();
-        }, taskExecutor);
+        // 커서의 병합 순위가 없으면 전체 후보 순위를 병합한 뒤, 해당 페이지만 조회
+        RrfService.Fusion fusion = searchCursorStore.find(request)
+                .orElseGet(() -> await(searchHitsAsync(request, embedAsync(request, deadline), ALL_CANDIDATES, deadline)));
+        BookSearchResult result = deadline.call(() -> page(pageable, request, fusion, deadline));
 
-        CompletableFuture<List<BookSearchResponse>> vectorSearchFuture = CompletableFuture.supplyAsync(() -> {
-            var vectorPage = bookRepository.vectorSearch(PageRequest.of(0, DEFAULT_BATCH_SIZE), request);
-            return (vectorPage != null && vectorPage.getContent() != null)
-                    ? vectorPage.getContent()
-                    : List.of();
-        }, taskExecutor);
-
-        // 두 검색이 완료되면 RRF로 결과 병합
-        CompletableFuture<List<BookSearchResponse>> fusedResultsFuture = keywordSearchFuture.thenCombineAsync(
-                vectorSearchFuture,
-                (keywordResults, vectorResults) -> {
-                    long fusionStartTime = System.currentTimeMillis();
-                    List<BookSearchResponse> fused = rrfService.fuse(keywordResults, vectorResults);
-                    log.debug("RRF fusion completed in {}ms", System.currentTimeMillis() - fusionStartTime);
-                    return fused;
-                },
-                taskExecutor
-        );
-
-        // 병합된 결과를 가져와서 페이징 처리
-        List<BookSearchResponse> fusedResults = fusedResultsFuture.join();
-        long duration = System.currentTimeMillis() - startTime;
-        log.info("Hybrid search completed in {}ms (keyword: {}, vector: {})",
-                duration,
-                keywordSearchFuture.isDone() ? "done" : "pending",
-                vectorSearchFuture.isDone() ? "done" : "pending");
-
-        // 메모리 내 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), fusedResults.size());
-
-        List<BookSearchResponse> content = new ArrayList<>();
-        if (start < fusedResults.size()) {
-            content = fusedResults.subList(start, end);
+        if (deadline.isExpired()) {
+            log.warn("[DEADLINE] Hybrid search exceeded its budget. Returning partial results (candidates: {})",
+                    fusion.totalCount());
+        }
+        log.info("Hybrid search completed in {}ms (mode: {}, candidates: {})",
+                System.currentTimeMillis() - startTime, properties.getMode(), fusion.totalCount());
+        return result;
+    }
+
+    /**
+     * 요청의 커서가 가리키는 병합 순위를 반환하고, 없으면 전체 후보 순위를 새로 병합합니다.
+     *
+     * @param request   검색 요청 DTO
+     * @param embedding 질의 임베딩 ({@link #embedAsync(BookSearchRequest, SearchDeadline)}, 커서를 사용하면 기다리지 않음)
+     * @param deadline  마감 시각
+     * @return 전체 후보의 병합 순위 ({@link #page(Pageable, BookSearchRequest, RrfService.Fusion, SearchDeadline)}로 페이징)
+     */
+    public CompletableFuture<RrfService.Fusion> rankingAsync(BookSearchRequest request,
+                                                             CompletableFuture<float[]> embedding,
+                                                             SearchDeadline deadline) {
+        return searchCursorStore.find(request)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> searchHitsAsync(request, embedding, ALL_CANDIDATES, deadline));
+    }
+
+    /**
+     * 키워드 후보와 벡터 후보를 RRF 알고리즘으로 병합하여 상위 topK개의 도서 ID와 점수만 반환합니다. (시간 제한 없음)
+     *
+     * @param request 검색 요청 DTO
+     * @param topK    반환할 최대 결과 수
+     * @return RRF 점수 내림차순 상위 결과와 전체 후보 수
+     * @see #searchHitsAsync(BookSearchRequest, CompletableFuture, int, SearchDeadline)
+     */
+    public RrfService.Fusion searchHits(BookSearchRequest request, int topK) {
+        SearchDeadline deadline = SearchDeadline.none();
+        return await(searchHitsAsync(request, embedAsync(request, deadline), topK, deadline));
+    }
+
+    /**
+     * 요청에 벡터가 없으면 키워드의 질의 임베딩 생성을 비동기로 시작합니다.
+     * 호출자는 임베딩을 기다리는 동안 키워드 조회나 캐시 확인을 함께 진행할 수 있습니다.
+     *
+     * @param request  검색 요청 DTO
+     * @param deadline 마감 시각 (그때까지 임베딩이 생성되지 않으면 null로 완료)
+     * @return 질의 임베딩 (요청에 벡터가 있으면 그 벡터, 키워드가 비어 있으면 null)
+     */
+    public CompletableFuture<float[]> embedAsync(BookSearchRequest request, SearchDeadline deadline) {
+        if (request.vector() != null || !StringUtils.hasText(request.keyword())) {
+            return CompletableFuture.completedFuture(request.vector());
+        }
+        return deadline.orElse(CompletableFuture.supplyAsync(
+                deadline.bind(() -> embeddingService.getEmbedding(request.keyword())), embeddingExecutor), null);
+    }
+
+    /**
+     * 키워드 후보 조회를 즉시 시작하고, 벡터 후보 조회는 임베딩 완료에 이어서 실행한 뒤 두 결과를 병합합니다.
+     * 하이브리드 검색 지연 시간은 max(키워드, 임베딩 + 벡터)가 됩니다.
+     * 각 검색에서 {@code search.hybrid.candidate-size}개의 후보를 가져오며,
+     * 순위별 가중치는 {@code search.hybrid.keyword-weight}, {@code search.hybrid.vector-weight}를 따릅니다.
+     *
+     * <p>{@code search.hybrid.mode=sql}이면 두 순위를 한 번의 SQL로 계산하므로 임베딩 완료 후 실행합니다.
+     * 임베딩이 마감 시각을 넘기면 키워드 순위만 계산하고, SQL이 마감 시각까지 끝나지 않으면(쿼리 타임아웃 포함) 빈 순위를 반환합니다.</p>
+     *
+     * @param request   검색 요청 DTO
+     * @param embedding 질의 임베딩 ({@link #embedAsync(BookSearchRequest, SearchDeadline)})
+     * @param topK      반환할 최대 결과 수
+     * @param deadline  마감 시각 (그때까지 완료되지 않은 후보 조회는 빈 목록으로 간주)
+     * @return RRF 점수 내림차순 상위 결과와 전체 후보 수
+     */
+    public CompletableFuture<RrfService.Fusion> searchHitsAsync(BookSearchRequest request,
+                                                                CompletableFuture<float[]> embedding, int topK,
+                                                                SearchDeadline deadline) {
+        if (SQL_MODE.equalsIgnoreCase(properties.getMode())) {
+            return sqlHitsAsync(request, CompletableFuture.completedFuture(List.of()), embedding, topK, deadline);
         }
+        // 키워드 후보는 바로 조회하고, 벡터 후보는 임베딩이 완료되는 대로 조회
+        return searchHitsAsync(request, keywordCandidatesAsync(request, deadline), embedding, topK, deadline);
+    }
+
+    /**
+     * 이미 시작한 키워드 후보 조회 결과를 재사용하여 벡터 후보와 병합합니다.
+     * 키워드 결과를 먼저 보여준 뒤 병합 결과를 이어서 보여주는 스트리밍 검색에서 사용합니다.
+     *
+     * <p>{@code search.hybrid.mode=sql}이면 두 순위를 한 번의 SQL로 다시 계산하며, keywordCandidates는
+     * SQL이 마감 시각까지 끝나지 않을 때 키워드 순위만으로 결과를 만드는 데 사용합니다.</p>
+     *
+     * @param keywordCandidates 키워드 후보 ({@link #keywordCandidatesAsync(BookSearchRequest, SearchDeadline)})
+     * @see #searchHitsAsync(BookSearchRequest, CompletableFuture, int, SearchDeadline)
+     */
+    public CompletableFuture<RrfService.Fusion> searchHitsAsync(BookSearchRequest request,
+                                                                CompletableFuture<List<SearchCandidate>> keywordCandidates,
+                                                                CompletableFuture<float[]> embedding, int topK,
+                                                                SearchDeadline deadline) {
+        if (SQL_MODE.equalsIgnoreCase(properties.getMode())) {
+            return sqlHitsAsync(request, keywordCandidates, embedding, topK, deadline);
+        }
+
+        int candidateSize = properties.getCandidateSize();
+        CompletableFuture<List<SearchCandidate>> vectorFuture = deadline.orElse(embedding.thenApplyAsync(
+                deadline.bind(vector -> vector == null
+                        ? List.<SearchCandidate>of()
+                        : vectorSearchEngine.searchCandidates(request.withVector(vector), candidateSize)),
+                searchRetrievalExecutor), List.of());
+
+        return keywordCandidates.thenCombine(vectorFuture, (keywords, vectors) ->
+                rrfService.fuse(topK, List.of(
+                        new RrfService.RankedList(keywords, properties.getKeywordWeight()),
+                        new RrfService.RankedList(vectors, properties.getVectorWeight()))));
+    }
+
+    /**
+     * 키워드 후보({@code search.hybrid.candidate-size}개) 조회를 비동기로 시작합니다.
+     *
+     * @param request  검색 요청 DTO
+     * @param deadline 마감 시각 (그때까지 완료되지 않으면 빈 목록으로 완료)
+     * @return 키워드 검색 순위의 도서 ID 목록
+     */
+    public CompletableFuture<List<SearchCandidate>> keywordCandidatesAsync(BookSearchRequest request,
+                                                                          SearchDeadline deadline) {
+        return deadline.orElse(CompletableFuture.supplyAsync(
+                deadline.bind(() -> bookRepository.findKeywordCandidates(request, properties.getCandidateSize())),
+                searchRetrievalExecutor), List.of());
+    }
+
+    /**
+     * SQL로 순위를 계산하고, 마감 시각까지 끝나지 않으면 이미 조회한 키워드 후보만으로 순위를 만듭니다.
+     * 마감 시각을 넘겨 발생한 쿼리 타임아웃도 같은 방식으로 대체하며, 그 밖의 오류는 그대로 전달합니다.
+     *
+     * @param keywordCandidates 대체용 키워드 후보 (마감 시각까지 완료되지 않았으면 빈 순위)
+     */
+    private CompletableFuture<RrfService.Fusion> sqlHitsAsync(BookSearchRequest request,
+                                                              CompletableFuture<List<SearchCandidate>> keywordCandidates,
+                                                              CompletableFuture<float[]> embedding, int topK,
+                                                              SearchDeadline deadline) {
+        CompletableFuture<RrfService.Fusion> sqlHits = embedding.thenApplyAsync(deadline.bind(vector -> {
+            List<HybridSearchHit> hits = bookRepository.findHybridSearchHits(request.withVector(vector),
+                    properties.getCandidateSize(), RrfService.RRF_K,
+                    properties.getKeywordWeight(), properties.getVectorWeight());
+            return new RrfService.Fusion(hits.subList(0, Math.min(Math.max(topK, 0), hits.size())), hits.size());
+        }), searchRetrievalExecutor).exceptionally(e -> {
+            if (!deadline.isExpired()) {
+                throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+            }
+            log.warn("[DEADLINE] SQL hybrid search failed after the deadline: {}", e.getMessage());
+            return null;
+        });
+
+        return deadline.orElse(sqlHits, null).thenApply(fusion -> {
+            if (fusion != null) {
+                return fusion;
+            }
+            log.warn("[DEADLINE] SQL hybrid search did not finish within its budget. Falling back to keyword candidates.");
+            List<SearchCandidate> keywords = keywordCandidates.isDone() && !keywordCandidates.isCompletedExceptionally()
+                    ? keywordCandidates.join()
+                    : List.of();
+            return rrfService.fuse(topK, List.of(new RrfService.RankedList(keywords, properties.getKeywordWeight())));
+        });
+    }
+
+    /**
+     * 병합 결과에서 요청 페이지에 해당하는 도서만 상세 정보를 조회하여 검색 결과를 만듭니다.
+     *
+     * @param pageable 페이징 정보
+     * @param fusion   {@link #topKFor(Pageable)}개 이상을 선택한 병합 결과
+     * @return 해당 페이지의 검색 결과 (전체 건수는 병합된 후보 수)
+     */
+    public BookSearchResult page(Pageable pageable, RrfService.Fusion fusion) {
+        List<HybridSearchHit> hits = fusion.hits();
+        int start = (int) Math.min(pageable.getOffset(), hits.size());
+        int end = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), hits.size());
+        List<BookSearchResponse> content = hydrate(hits.subList(start, end));
 
         return BookSearchResult.builder()
-                .books(new PageImpl<>(content, pageable, fusedResults.size()))
+                .books(new PageImpl<>(content, pageable, fusion.totalCount()))
                 .build();
     }
+
+    /**
+     * 전체 후보의 병합 순위에서 요청 페이지의 도서만 조회하고, 다음 페이지 조회용 커서를 함께 반환합니다.
+     * 마감 시각을 넘겨 일부 후보만 병합된 순위는 커서로 보관하지 않습니다.
+     *
+     * @param pageable 페이징 정보
+     * @param request  검색 요청 DTO (커서 발급 대상 질의)
+     * @param fusion   {@link #rankingAsync(BookSearchRequest, CompletableFuture, SearchDeadline)}의 병합 순위
+     * @param deadline 검색 요청의 마감 시각
+     * @return 해당 페이지의 검색 결과와 커서
+     */
+    public BookSearchResult page(Pageable pageable, BookSearchRequest request, RrfService.Fusion fusion,
+                                 SearchDeadline deadline) {
+        BookSearchResult result = page(pageable, fusion);
+        String cursor = deadline.isExpired() ? null : searchCursorStore.cursorFor(request, fusion);
+        return BookSearchResult.builder()
+                .books(result.getBooks())
+                .cursor(cursor)
+                .build();
+    }
+
+    /**
+     * @return 요청 페이지를 채우는 데 필요한 상위 결과 수 (offset + pageSize)
+     */
+    public static int topKFor(Pageable pageable) {
+        return (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+    }
+
+    /**
+     * 비동기 결과를 기다리며, 작업에서 발생한 런타임 예외는 감싸지 않고 그대로 전달합니다.
+     */
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 병합 결과의 도서 상세 정보(리뷰 요약 포함)를 도서 카드 캐시에서 채우고, 유사도와 RRF 점수를 설정합니다.
+     * 캐시에 없는 도서만 한 번에 조회합니다.
+     *
+     * @param hits 조회할 도서 ID와 점수 목록
+     * @return hits 순서의 검색 결과 (존재하지 않는 도서는 제외)
+     */
+    public List<BookSearchResponse> hydrate(List<HybridSearchHit> hits) {
+        return bookCardCache.hydrate(hits);
+    }
 }
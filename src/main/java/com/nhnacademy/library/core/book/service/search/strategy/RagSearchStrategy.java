@@ -4,20 +4,29 @@ import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
 import com.nhnacademy.library.core.book.event.BookSearchEvent;
+import com.nhnacademy.library.core.book.properties.RagSearchProperties;
 import com.nhnacademy.library.core.book.service.ai.AiRecommendationService;
+import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
 import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.search.RrfService;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +35,7 @@ import java.util.stream.Collectors;
  * 시맨틱 캐싱(Semantic Caching)을 적용하여 동일하거나 유사한 질의에 대해 빠른 응답을 보장합니다.
  *
  * <p>LLM 검증 결과(relevance 점수)를 반영하여 실제 검색 결과를 필터링하고 정렬합니다.
+ * 시맨틱 캐시에는 검증된 전체 순위를 한 번 저장하고, 요청마다 해당 페이지만 잘라 반환합니다.
  */
 @Slf4j
 @Component
@@ -36,9 +46,8 @@ public class RagSearchStrategy implements SearchStrategy {
     private final SemanticCacheService semanticCacheService;
     private final AiRecommendationService aiRecommendationService;
     private final ApplicationEventPublisher eventPublisher;
-
-    /** 검색 후보군 추출을 위한 기본 배치 크기 */
-    private static final int DEFAULT_BATCH_SIZE = 100;
+    private final BookSearchCacheService bookSearchCacheService;
+    private final RagSearchProperties ragSearchProperties;
 
     /** AI 추천 후보로 선정되기 위한 최소 RRF 점수 임계값 */
     private static final double SCORE_THRESHOLD = 0.02;
@@ -54,59 +63,153 @@ public class RagSearchStrategy implements SearchStrategy {
 
     /**
      * RAG 기반 검색을 수행합니다.
-     * 1. 캐시 확인: Warm-up 모드가 아닐 경우 시맨틱 캐시에서 유사 결과를 조회합니다.
+     * 1. 캐시 확인: Warm-up 모드가 아닐 경우 키워드 일치 캐시, 시맨틱 캐시 순으로 결과를 조회합니다.
+     *    키워드 일치 캐시는 메모리 조회이므로 먼저 확인하고, 미스일 때만 질의 임베딩 생성과 하이브리드 후보 조회를 시작합니다.
+     *    후보 조회는 시맨틱 캐시 확인과 동시에 진행됩니다.
      * 2. 캐시 미스 시: 하이브리드 검색 결과를 먼저 반환하고, 백그라운드에서 AI 추천을 생성하기 위한 이벤트를 발행합니다.
+     *    인라인 대기({@code search.rag.inline-wait-ms})가 설정되면 AI 추천 생성을 즉시 시작하여 그 시간만큼 기다리고,
+     *    시간 안에 끝나면 AI 검증 결과를 반환합니다. 넘기면 하이브리드 결과를 반환하고 진행 중인 작업이 캐시를 채웁니다.
+     *    하이브리드 결과는 순위 커서와 함께 반환하므로, 다음 페이지 요청은 후보 조회와 RRF 병합을 다시 하지 않습니다.
      * 3. Warm-up 모드: 실제로 하이브리드 검색 -> 후보 필터링 -> AI 추천 생성 -> LLM 검증 반영 -> 캐시 저장 과정을 수행합니다.
+     *    Warm-up 결과는 페이징하지 않은 전체 순위입니다.
+     *
+     * <p>마감 시각을 넘기면 그때까지 준비된 하이브리드 결과로 응답하며, 부분 결과는 캐시에 저장하지 않습니다.</p>
      *
      * @param pageable 페이징 정보
      * @param request  검색 요청 DTO (키워드, Warm-up 여부 등 포함)
+     * @param deadline 검색 요청의 마감 시각
      * @return AI 추천 응답과 LLM 검증된 도서 검색 결과가 포함된 BookSearchResult
      */
     @Override
+    public BookSearchResult search(Pageable pageable, BookSearchRequest request, SearchDeadline deadline) {
+        return deadline.call(() -> searchWithin(pageable, request, deadline));
+    }
+
+    /**
+     * RAG 기반 검색을 수행합니다. (시간 제한 없음)
+     *
+     * @see #search(Pageable, BookSearchRequest, SearchDeadline)
+     */
+    @Override
     public BookSearchResult search(Pageable pageable, BookSearchRequest request) {
+        return search(pageable, request, SearchDeadline.none());
+    }
+
+    /**
+     * AI 추천을 생성하여 시맨틱 캐시에 저장합니다. ({@link BookSearchCacheService}의 워밍업 작업)
+     * LLM 응답을 스트리밍으로 받아, 검증(relevance ≥ 50)을 통과한 추천 항목을 완성되는 즉시 {@code onRecommendation}에 전달하고,
+     * 응답이 끝나면 {@link #search}의 Warm-up 모드와 같이 검증 결과를 반영하여 캐시에 저장합니다.
+     *
+     * @param request          Warm-up 검색 요청 (질의 임베딩 포함)
+     * @param deadline         워밍업의 마감 시각
+     * @param onRecommendation 검증을 통과한 추천 항목을 받을 리스너 (LLM 응답 스레드에서 호출)
+     * @return LLM 검증된 전체 순위와 AI 추천 응답
+     */
+    public BookSearchResult warmUp(BookSearchRequest request, SearchDeadline deadline,
+                                   Consumer<BookAiRecommendationResponse> onRecommendation) {
+        return deadline.call(() -> recommendWithin(request, deadline, onRecommendation));
+    }
+
+    private BookSearchResult searchWithin(Pageable pageable, BookSearchRequest request, SearchDeadline deadline) {
         // 1. Warm-up 모드가 아닐 때만 캐시 조회 및 이벤트 발행
         if (!request.isWarmUp()) {
-            Optional<BookSearchResult> cachedResult = semanticCacheService.findSimilarResult(request);
+            // 정규화된 키워드 일치 캐시는 메모리 조회이므로 원격 임베딩과 DB 후보 조회 없이 먼저 확인합니다.
+            Optional<BookSearchResult> exactResult = semanticCacheService.findExactResult(request.keyword());
+            if (exactResult.isPresent()) {
+                log.info("[STRATEGIC_CACHE] Found exact RAG result in cache.");
+                return exactResult.get().slice(pageable);
+            }
+
+            // 미스이면 질의 임베딩 생성과 후보 조회를 시작하고, 임베딩을 기다려 벡터 유사도 캐시를 확인합니다.
+            CompletableFuture<float[]> embedding = hybridSearchStrategy.embedAsync(request, deadline);
+            CompletableFuture<RrfService.Fusion> hybridHits = hybridSearchStrategy.rankingAsync(
+                    request, embedding, deadline);
+            Optional<BookSearchResult> cachedResult = semanticCacheService.findSimilarResult(
+                    request.withVector(HybridSearchStrategy.await(embedding)));
             if (cachedResult.isPresent()) {
                 log.info("[STRATEGIC_CACHE] Found similar RAG result in cache.");
-                return cachedResult.get();
+                // 아직 끝나지 않은 후보 조회와 병합은 사용하지 않으므로 취소합니다.
+                hybridHits.cancel(true);
+                return cachedResult.get().slice(pageable);
             }
 
             // 사용자 실시간 요청인데 캐시 미스가 발생한 경우
+            // 인라인 대기가 설정되어 있으면 AI 추론 생성을 바로 시작하고 예산 안에서 결과를 기다립니다.
+            if (isInlineWaitEnabled(request)) {
+                Optional<BookSearchResult> aiResult = awaitRecommendation(request.keyword(), deadline);
+                if (aiResult.isPresent()) {
+                    return aiResult.get().slice(pageable);
+                }
+                return hybridSearchStrategy.page(pageable, request, HybridSearchStrategy.await(hybridHits), deadline);
+            }
+
             // 빠른 응답을 위해 하이브리드 검색 결과를 먼저 반환하고, AI 추론 생성은 백그라운드(Warm-up)로 위임합니다.
             log.info("[STRATEGIC_CACHE] No RAG cache found. Falling back to hybrid results and publishing event.");
             eventPublisher.publishEvent(new BookSearchEvent(this, request.keyword()));
-            return hybridSearchStrategy.search(pageable, request);
+            return hybridSearchStrategy.page(pageable, request, HybridSearchStrategy.await(hybridHits), deadline);
         }
 
         // 2. Warm-up 모드: 실제 AI 추론 생성 및 LLM 검증 반영 수행
+        return recommendWithin(request, deadline, null);
+    }
+
+    /**
+     * @param onRecommendation 검증을 통과한 추천 항목을 받을 리스너 (null이면 LLM 응답 전체를 한 번에 받음)
+     */
+    private BookSearchResult recommendWithin(BookSearchRequest request, SearchDeadline deadline,
+                                             Consumer<BookAiRecommendationResponse> onRecommendation) {
         log.info("[STRATEGIC_CACHE] Performing AI recommendation for warm-up.");
+        CompletableFuture<float[]> embedding = hybridSearchStrategy.embedAsync(request, deadline);
 
-        // Retrieval K(100) 기반 후보군 추출: RRF 점수가 높은 도서 위주로 필터링
-        BookSearchResult retrievalResult = hybridSearchStrategy.search(PageRequest.of(0, DEFAULT_BATCH_SIZE), request);
-        List<BookSearchResponse> topKBooks = retrievalResult.getBooks().getContent().stream()
-                .filter(b -> b.getRrfScore() != null && b.getRrfScore() >= SCORE_THRESHOLD)
+        // Retrieval K(search.hybrid.candidate-size) 기반 후보군 추출: RRF 점수가 높은 도서 위주로 필터링
+        // 순위는 도서 ID와 점수만으로 계산하고, AI에게 전달할 후보의 상세 정보만 조회합니다.
+        List<HybridSearchHit> retrievalHits = HybridSearchStrategy.await(
+                hybridSearchStrategy.searchHitsAsync(request, embedding, MAX_AI_CANDIDATES, deadline)).hits();
+        // 시맨틱 캐시는 질의 임베딩을 키로 저장합니다.
+        BookSearchRequest cacheKey = request.withVector(HybridSearchStrategy.await(embedding));
+        List<HybridSearchHit> candidateHits = retrievalHits.stream()
+                .filter(hit -> hit.rrfScore() >= SCORE_THRESHOLD)
                 .limit(MAX_AI_CANDIDATES)
                 .toList();
 
         // Warm-up 모드에서 임계값을 통과한 후보가 없으면 검색 상위 결과로 대체하여 AI 추론을 생성합니다.
-        if (request.isWarmUp() && topKBooks.isEmpty()) {
+        if (request.isWarmUp() && candidateHits.isEmpty()) {
             log.info("No books passed the threshold (>= {}). Using top keyword results as fallback for warm-up.", SCORE_THRESHOLD);
-            topKBooks = retrievalResult.getBooks().getContent().stream().limit(FALLBACK_CANDIDATES).toList();
+            candidateHits = retrievalHits.stream().limit(FALLBACK_CANDIDATES).toList();
         }
+        List<BookSearchResponse> topKBooks = hybridSearchStrategy.hydrate(candidateHits);
 
         List<BookAiRecommendationResponse> aiResponse;
         if (topKBooks.isEmpty()) {
             log.info("No candidates available even after fallback. Skipping AI response generation.");
             aiResponse = List.of();
-        } else {
+        } else if (onRecommendation == null) {
             // LLM 서비스를 호출하여 추천 사유 생성 및 relevance 점수 부여
-            aiResponse = aiRecommendationService.recommend(request.keyword(), topKBooks);
+            aiResponse = aiRecommendationService.recommend(request.keyword(), topKBooks, deadline);
+        } else {
+            // 검증을 통과한 추천 항목은 완성되는 즉시 전달하고, 응답이 끝나면 전체 항목으로 아래 검증 결과를 반영합니다.
+            aiResponse = aiRecommendationService.recommendStream(request.keyword(), topKBooks, deadline)
+                    .doOnNext(rec -> {
+                        if (isApproved(rec)) {
+                            onRecommendation.accept(rec);
+                        }
+                    })
+                    .collectList()
+                    .block();
+        }
+
+        // 마감 시각을 넘긴 경우(임베딩 또는 LLM 응답 누락) 불완전한 결과를 캐시하지 않고 후보 도서만 반환합니다.
+        if (deadline.isExpired() || cacheKey.vector() == null) {
+            log.warn("[DEADLINE] RAG warm-up exceeded its budget. Returning candidates without caching.");
+            return BookSearchResult.builder()
+                    .books(new PageImpl<>(topKBooks))
+                    .aiResponse(aiResponse)
+                    .build();
         }
 
         // 3. LLM 검증 결과 반영: relevance ≥ 50인 도서만 추출
         List<Long> llmApprovedIds = aiResponse.stream()
-                .filter(r -> r.getRelevance() != null && r.getRelevance() >= MIN_RELEVANCE_SCORE)
+                .filter(RagSearchStrategy::isApproved)
                 .map(BookAiRecommendationResponse::getId)
                 .toList();
 
@@ -122,8 +225,7 @@ public class RagSearchStrategy implements SearchStrategy {
                         (r1, r2) -> r1  // 중복 시 첫 번째 값 사용
                 ));
 
-        List<BookSearchResponse> llmApprovedBooks = retrievalResult.getBooks().getContent()
-                .stream()
+        List<BookSearchResponse> llmApprovedBooks = topKBooks.stream()
                 .filter(b -> llmApprovedIds.contains(b.getId()))
                 .sorted((b1, b2) -> {
                     Integer r1 = relevanceMap.getOrDefault(b1.getId(), 0);
@@ -136,31 +238,58 @@ public class RagSearchStrategy implements SearchStrategy {
         if (llmApprovedBooks.isEmpty()) {
             log.warn("[LLM_VALIDATION] No books approved by LLM. Returning empty result.");
             BookSearchResult emptyResult = BookSearchResult.builder()
-                    .books(new PageImpl<>(List.of(), pageable, 0))
+                    .books(new PageImpl<>(List.of()))
                     .aiResponse(aiResponse)
                     .createdAt(System.currentTimeMillis())
                     .build();
-            semanticCacheService.save(request, emptyResult);
+            semanticCacheService.save(cacheKey, emptyResult);
             return emptyResult;
         }
 
-        // 6. 최종 결과 생성
-        Pageable finalPageable = PageRequest.of(pageable.getPageNumber(),
-                Math.min(pageable.getPageSize(), llmApprovedBooks.size()));
-        int fromIndex = (int) finalPageable.getOffset();
-        int toIndex = Math.min(fromIndex + finalPageable.getPageSize(), llmApprovedBooks.size());
-
-        List<BookSearchResponse> pagedBooks = llmApprovedBooks.subList(fromIndex, toIndex);
-
+        // 6. 최종 결과 생성 (페이징하지 않은 전체 순위, 조회 시 요청 페이지만 잘라 반환)
         BookSearchResult finalResult = BookSearchResult.builder()
-                .books(new PageImpl<>(pagedBooks, finalPageable, llmApprovedBooks.size()))
+                .books(new PageImpl<>(llmApprovedBooks))
                 .aiResponse(aiResponse)
                 .createdAt(System.currentTimeMillis())
                 .build();
 
-        // 6. 생성된 결과를 시맨틱 캐시에 저장
-        semanticCacheService.save(request, finalResult);
+        // 7. 생성된 결과를 시맨틱 캐시에 저장
+        semanticCacheService.save(cacheKey, finalResult);
 
         return finalResult;
     }
+
+    private static boolean isApproved(BookAiRecommendationResponse recommendation) {
+        return recommendation.getRelevance() != null && recommendation.getRelevance() >= MIN_RELEVANCE_SCORE;
+    }
+
+    private boolean isInlineWaitEnabled(BookSearchRequest request) {
+        return ragSearchProperties.getInlineWaitMs() > 0
+                && request.keyword() != null && !request.keyword().isBlank();
+    }
+
+    /**
+     * AI 추천 생성(워밍업)을 시작하거나 진행 중인 작업에 합류하여, 인라인 대기 시간과 남은 마감 시간 중 짧은 쪽만큼 기다립니다.
+     * 시간 안에 끝나지 않아도 작업은 취소하지 않으며, 완료되면 그 결과가 시맨틱 캐시에 저장됩니다.
+     * 워밍업 허용 필터가 거부한 질의는 LLM을 호출하지 않고 바로 빈 값을 반환합니다.
+     *
+     * @return 시간 안에 완료된 RAG 결과 (시간 초과, 실패 또는 워밍업 거부 시 빈 값)
+     */
+    private Optional<BookSearchResult> awaitRecommendation(String keyword, SearchDeadline deadline) {
+        CompletableFuture<BookSearchResult> recommendation = bookSearchCacheService.warmUp(keyword);
+        long waitMs = Math.min(ragSearchProperties.getInlineWaitMs(), deadline.remainingMillis());
+        try {
+            BookSearchResult result = recommendation.get(waitMs, TimeUnit.MILLISECONDS);
+            log.info("[STRATEGIC_CACHE] AI recommendation completed within inline budget ({}ms).", waitMs);
+            return Optional.ofNullable(result);
+        } catch (TimeoutException e) {
+            log.info("[STRATEGIC_CACHE] AI recommendation not ready within {}ms. Falling back to hybrid results.", waitMs);
+        } catch (ExecutionException e) {
+            log.warn("[STRATEGIC_CACHE] AI recommendation failed. Falling back to hybrid results: {}",
+                    e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
 }
@@ -2,6 +2,7 @@ package com.nhnacademy.library.core.book.service.search.strategy;
 
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -12,4 +13,15 @@ public interface SearchStrategy {
      * 검색을 수행합니다.
      */
     BookSearchResult search(Pageable pageable, BookSearchRequest request);
+
+    /**
+     * 시간 예산 안에서 검색을 수행합니다.
+     * 기본 구현은 마감 시각을 현재 스레드에 설정하여 DB 쿼리 타임아웃에만 반영하며,
+     * 예산 초과 시 부분 결과를 반환하는 전략은 이 메서드를 재정의합니다.
+     *
+     * @param deadline 검색 요청의 마감 시각
+     */
+    default BookSearchResult search(Pageable pageable, BookSearchRequest request, SearchDeadline deadline) {
+        return deadline.call(() -> search(pageable, request));
+    }
 }
@@ -3,7 +3,7 @@ package com.nhnacademy.library.core.book.service.search.strategy;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
-import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.service.search.engine.VectorSearchEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,16 +11,18 @@ import org.springframework.stereotype.Component;
 
 /**
  * 벡터 기반 검색 전략
+ *
+ * <p>실제 검색은 {@code search.vector.engine} 설정으로 선택된 {@link VectorSearchEngine}이 수행합니다.</p>
  */
 @Component
 @RequiredArgsConstructor
 public class VectorSearchStrategy implements SearchStrategy {
 
-    private final BookRepository bookRepository;
+    private final VectorSearchEngine vectorSearchEngine;
 
     @Override
     public BookSearchResult search(Pageable pageable, BookSearchRequest request) {
-        Page<BookSearchResponse> results = bookRepository.vectorSearch(pageable, request);
+        Page<BookSearchResponse> results = vectorSearchEngine.search(pageable, request);
         return BookSearchResult.builder()
                 .books(results)
                 .build();
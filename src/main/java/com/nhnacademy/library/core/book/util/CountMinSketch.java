@@ -0,0 +1,146 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 감쇠(aging)를 지원하는 카운트-민 스케치 (문자열 빈도 추정)
+ *
+ * <p>키마다 {@value #DEPTH}개 행의 카운터를 증가시키고, 그중 최솟값을 빈도 추정치로 사용합니다.
+ * 추정치는 실제 빈도보다 작지 않으며, 충돌로 인해 클 수는 있습니다.
+ * 증가 횟수가 {@code sampleSize}에 도달하면 모든 카운터를 절반으로 줄여 오래된 빈도의 영향을 줄입니다. (TinyLFU 방식)</p>
+ *
+ * <p>증가는 보수적 갱신(conservative update)으로 현재 최솟값인 카운터만 올려 과대 추정을 줄입니다.</p>
+ *
+ * <p>행별 위치는 키의 UTF-8 바이트에 대한 64비트 해시(MurmurHash64A)를 두 32비트 값으로 나눈 이중 해싱으로 계산합니다.
+ * {@link String#hashCode()}가 같은 두 키도 서로 다른 위치를 가지므로 행들이 독립적으로 충돌합니다.</p>
+ *
+ * <p>모든 메서드는 동기화되어 있어 여러 스레드에서 사용할 수 있습니다.</p>
+ */
+public final class CountMinSketch {
+
+    private static final int DEPTH = 4;
+    private static final long HASH_SEED = 0x97cb3127L;
+    private static final long MURMUR_M = 0xc6a4a7935bd1e995L;
+    private static final int MURMUR_R = 47;
+
+    private final int[][] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param width      행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param sampleSize 카운터를 절반으로 줄이는 증가 횟수 (감쇠 창 크기)
+     */
+    public CountMinSketch(int width, int sampleSize) {
+        if (width <= 0 || sampleSize <= 0) {
+            throw new IllegalArgumentException("width and sampleSize must be positive");
+        }
+        int tableWidth = Integer.highestOneBit(Math.min(width, 1 << 30));
+        if (tableWidth < width) {
+            tableWidth <<= 1;
+        }
+        this.counters = new int[DEPTH][tableWidth];
+        this.mask = tableWidth - 1;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 키의 빈도를 1 증가시킵니다.
+     *
+     * @return 증가 후 빈도 추정치
+     */
+    public synchronized int increment(String key) {
+        int[] indexes = indexesOf(key);
+        int estimate = estimate(indexes) + 1;
+        for (int row = 0; row < DEPTH; row++) {
+            if (counters[row][indexes[row]] < estimate) {
+                counters[row][indexes[row]] = estimate;
+            }
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+        return estimate;
+    }
+
+    /**
+     * @return 키의 빈도 추정치
+     */
+    public synchronized int frequency(String key) {
+        return estimate(indexesOf(key));
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄입니다.
+     */
+    private void reset() {
+        for (int[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+        additions = 0;
+    }
+
+    private int estimate(int[] indexes) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counters[row][indexes[row]]);
+        }
+        return min;
+    }
+
+    /**
+     * 64비트 해시의 하위/상위 32비트로 행별 위치를 만듭니다. (이중 해싱: h1 + row * h2)
+     */
+    private int[] indexesOf(String key) {
+        long hash = murmurHash64(key.getBytes(StandardCharsets.UTF_8));
+        int h1 = (int) hash;
+        // 짝수 증분은 2의 거듭제곱 너비에서 일부 위치만 순회하므로 홀수로 만듭니다.
+        int h2 = (int) (hash >>> 32) | 1;
+        int[] indexes = new int[DEPTH];
+        for (int row = 0; row < DEPTH; row++) {
+            indexes[row] = (h1 + row * h2) & mask;
+        }
+        return indexes;
+    }
+
+    /**
+     * MurmurHash64A (바이트 배열의 64비트 해시)
+     */
+    private static long murmurHash64(byte[] data) {
+        int length = data.length;
+        long hash = HASH_SEED ^ (length * MURMUR_M);
+
+        int blockEnd = length & ~7;
+        for (int i = 0; i < blockEnd; i += 8) {
+            long k = (data[i] & 0xffL)
+                    | (data[i + 1] & 0xffL) << 8
+                    | (data[i + 2] & 0xffL) << 16
+                    | (data[i + 3] & 0xffL) << 24
+                    | (data[i + 4] & 0xffL) << 32
+                    | (data[i + 5] & 0xffL) << 40
+                    | (data[i + 6] & 0xffL) << 48
+                    | (data[i + 7] & 0xffL) << 56;
+            k *= MURMUR_M;
+            k ^= k >>> MURMUR_R;
+            k *= MURMUR_M;
+            hash ^= k;
+            hash *= MURMUR_M;
+        }
+
+        int remaining = length & 7;
+        if (remaining > 0) {
+            for (int i = remaining - 1; i >= 0; i--) {
+                hash ^= (data[blockEnd + i] & 0xffL) << (8 * i);
+            }
+            hash *= MURMUR_M;
+        }
+
+        hash ^= hash >>> MURMUR_R;
+        hash *= MURMUR_M;
+        hash ^= hash >>> MURMUR_R;
+        return hash;
+    }
+}
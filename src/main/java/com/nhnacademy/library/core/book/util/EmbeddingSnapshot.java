@@ -0,0 +1,173 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑 임베딩 스냅샷 리더
+ *
+ * <p>{@link EmbeddingSnapshotWriter}가 기록한 파일을 읽기 전용으로 메모리 매핑하여,
+ * 힙으로 복사하지 않고 벡터와 ID를 조회합니다. 파일 내용은 OS 페이지 캐시를 통해 필요한 만큼만 읽힙니다.</p>
+ *
+ * <p>{@code MappedByteBuffer} 하나는 2GB까지만 매핑할 수 있으므로, 벡터 블록은 벡터 단위로 나누어
+ * 여러 구간으로 매핑합니다. 매핑은 명시적으로 해제할 수 없으며, 이 객체와 반환된 버퍼에 대한
+ * 참조가 모두 사라진 뒤 GC 시점에 해제됩니다.</p>
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+public final class EmbeddingSnapshot {
+
+    static final int MAGIC = 0x424B4556;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    private static final long MAX_MAPPING_BYTES = Integer.MAX_VALUE;
+
+    private final int dimension;
+    private final int size;
+    private final long createdAt;
+    private final int vectorsPerChunk;
+    private final FloatBuffer[] vectorChunks;
+    private final LongBuffer ids;
+
+    private EmbeddingSnapshot(int dimension, int size, long createdAt, int vectorsPerChunk,
+                              FloatBuffer[] vectorChunks, LongBuffer ids) {
+        this.dimension = dimension;
+        this.size = size;
+        this.createdAt = createdAt;
+        this.vectorsPerChunk = vectorsPerChunk;
+        this.vectorChunks = vectorChunks;
+        this.ids = ids;
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 메모리 매핑합니다.
+     *
+     * @param path 스냅샷 파일 경로
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    public static EmbeddingSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Snapshot header is truncated: " + path);
+                }
+            }
+            header.flip();
+
+            int magic = header.getInt();
+            int version = header.getInt();
+            int dimension = header.getInt();
+            header.getInt();
+            long count = header.getLong();
+            long createdAt = header.getLong();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException("Unsupported snapshot format: " + path);
+            }
+            if (dimension <= 0 || count < 0 || count > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot header: " + path);
+            }
+
+            long vectorBytes = Math.multiplyExact(count, (long) dimension * Float.BYTES);
+            long idBytes = count * Long.BYTES;
+            if (channel.size() < HEADER_SIZE + vectorBytes + idBytes) {
+                throw new IOException("Snapshot file is truncated: " + path);
+            }
+            if (idBytes > MAX_MAPPING_BYTES) {
+                throw new IOException("Snapshot is too large: " + path);
+            }
+
+            // 벡터 블록: 벡터가 구간 경계에 걸치지 않도록 벡터 단위로 나누어 매핑
+            int vectorsPerChunk = (int) Math.max(1, MAX_MAPPING_BYTES / ((long) dimension * Float.BYTES));
+            int chunkCount = (int) ((count + vectorsPerChunk - 1) / vectorsPerChunk);
+            FloatBuffer[] chunks = new FloatBuffer[chunkCount];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                long firstRow = (long) chunk * vectorsPerChunk;
+                long rows = Math.min(vectorsPerChunk, count - firstRow);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_SIZE + firstRow * dimension * Float.BYTES, rows * dimension * Float.BYTES);
+                chunks[chunk] = mapped.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+
+            MappedByteBuffer idBlock = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + vectorBytes, idBytes);
+            LongBuffer ids = idBlock.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+
+            return new EmbeddingSnapshot(dimension, (int) count, createdAt, vectorsPerChunk, chunks, ids);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * @return 스냅샷 작성 완료 시각 (epoch milliseconds)
+     */
+    public long createdAt() {
+        return createdAt;
+    }
+
+    public long id(int row) {
+        checkRow(row);
+        return ids.get(row);
+    }
+
+    /**
+     * 행의 벡터를 복사 없이 읽기 전용 버퍼로 반환합니다.
+     *
+     * @param row 행 번호 (0부터 시작)
+     * @return 길이가 {@link #dimension()}인 읽기 전용 버퍼
+     */
+    public FloatBuffer vector(int row) {
+        checkRow(row);
+        FloatBuffer chunk = vectorChunks[row / vectorsPerChunk];
+        return chunk.slice((row % vectorsPerChunk) * dimension, dimension).asReadOnlyBuffer();
+    }
+
+    /**
+     * 행의 벡터를 지정한 배열에 복사합니다.
+     *
+     * @param row    행 번호 (0부터 시작)
+     * @param target 길이가 {@link #dimension()} 이상인 배열
+     */
+    public void copyVector(int row, float[] target) {
+        checkRow(row);
+        FloatBuffer chunk = vectorChunks[row / vectorsPerChunk];
+        chunk.get((row % vectorsPerChunk) * dimension, target, 0, dimension);
+    }
+
+    /**
+     * 매핑된 버퍼에서 직접 질의 벡터와 행 벡터의 내적을 계산합니다.
+     */
+    public double dot(int row, float[] query) {
+        checkRow(row);
+        if (query == null || query.length != dimension) {
+            throw new IllegalArgumentException("Query dimension must be " + dimension);
+        }
+        FloatBuffer chunk = vectorChunks[row / vectorsPerChunk];
+        int offset = (row % vectorsPerChunk) * dimension;
+        double dot = 0.0;
+        for (int i = 0; i < dimension; i++) {
+            dot += query[i] * chunk.get(offset + i);
+        }
+        return dot;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 임베딩 스냅샷 파일 작성기
+ *
+ * <p>(도서 ID, 임베딩) 쌍을 {@link EmbeddingSnapshot}이 메모리 매핑으로 읽을 수 있는
+ * 바이너리 형식으로 순차 기록합니다. 벡터는 기록 즉시 파일에 쓰고, ID는 모아 두었다가
+ * {@link #close()} 시점에 벡터 블록 뒤에 기록한 뒤 헤더의 항목 수를 확정합니다.</p>
+ *
+ * <pre>
+ * [헤더 32바이트] magic(int) version(int) dimension(int) reserved(int) count(long) createdAt(long)
+ * [벡터 블록]     float[count * dimension]
+ * [ID 블록]       long[count]
+ * </pre>
+ *
+ * <p>모든 값은 little-endian으로 기록합니다. 스레드 안전하지 않습니다.</p>
+ */
+public final class EmbeddingSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final int dimension;
+    private final ByteBuffer buffer;
+    private long[] ids = new long[1_024];
+    private int count;
+    private boolean closed;
+
+    private EmbeddingSnapshotWriter(FileChannel channel, int dimension) {
+        this.channel = channel;
+        this.dimension = dimension;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, dimension * Float.BYTES))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 스냅샷 파일을 새로 만들고 작성기를 엽니다. 같은 경로의 파일은 덮어씁니다.
+     *
+     * @param path      스냅샷 파일 경로
+     * @param dimension 벡터 차원
+     */
+    public static EmbeddingSnapshotWriter create(Path path, int dimension) throws IOException {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("Dimension must be positive");
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        channel.position(EmbeddingSnapshot.HEADER_SIZE);
+        return new EmbeddingSnapshotWriter(channel, dimension);
+    }
+
+    /**
+     * (ID, 벡터) 한 쌍을 기록합니다.
+     *
+     * @throws IllegalArgumentException 벡터가 null이거나 차원이 다른 경우
+     */
+    public void write(long id, float[] vector) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is already closed");
+        }
+        if (vector == null || vector.length != dimension) {
+            throw new IllegalArgumentException("Vector dimension must be " + dimension);
+        }
+        if (buffer.remaining() < dimension * Float.BYTES) {
+            flush();
+        }
+        buffer.asFloatBuffer().put(vector);
+        buffer.position(buffer.position() + dimension * Float.BYTES);
+
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[count++] = id;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * ID 블록과 헤더를 기록하고 파일을 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+            for (int i = 0; i < count; i++) {
+                if (buffer.remaining() < Long.BYTES) {
+                    flush();
+                }
+                buffer.putLong(ids[i]);
+            }
+            flush();
+
+            ByteBuffer header = ByteBuffer.allocate(EmbeddingSnapshot.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(EmbeddingSnapshot.MAGIC)
+                    .putInt(EmbeddingSnapshot.VERSION)
+                    .putInt(dimension)
+                    .putInt(0)
+                    .putLong(count)
+                    .putLong(System.currentTimeMillis())
+                    .flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,247 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 행 우선(row-major) 연속 배열에 저장한 벡터 행렬
+ *
+ * <p>여러 후보 벡터를 하나의 {@code float[]}에 이어 붙여 저장하고, 질의 벡터 하나와
+ * 모든 행의 코사인 유사도를 한 번의 순차 순회로 계산합니다. 행은 추가 시점에 정규화하므로
+ * 유사도 계산은 행마다 내적 한 번으로 끝납니다.</p>
+ *
+ * <p>행 수가 {@value #PARALLEL_THRESHOLD}개 이상이면 {@link #topK(float[], int, double)}는
+ * ForkJoin 풀에서 구간을 나누어 병렬로 계산합니다.</p>
+ *
+ * <p>생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.</p>
+ */
+public final class FloatVectorMatrix {
+
+    /**
+     * 병렬 계산을 시작하는 최소 행 수
+     */
+    static final int PARALLEL_THRESHOLD = 4_096;
+
+    private static final Comparator<Match> BY_SCORE_ASC = Comparator.comparingDouble(Match::score);
+
+    private final int dimension;
+    private final int rows;
+    private final long[] ids;
+    private final float[] data;
+
+    private FloatVectorMatrix(int dimension, int rows, long[] ids, float[] data) {
+        this.dimension = dimension;
+        this.rows = rows;
+        this.ids = ids;
+        this.data = data;
+    }
+
+    public static Builder builder(int dimension) {
+        return new Builder(dimension);
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public long id(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + rows);
+        }
+        return ids[row];
+    }
+
+    /**
+     * 질의 벡터와 모든 행의 코사인 유사도를 행 순서대로 계산합니다.
+     *
+     * @param query 질의 벡터
+     * @return 행별 코사인 유사도 (질의가 영 벡터이면 모두 0.0)
+     * @throws IllegalArgumentException 질의 벡터의 차원이 행렬과 다른 경우
+     */
+    public double[] scores(float[] query) {
+        float[] normalized = normalizeQuery(query);
+        double[] scores = new double[rows];
+        if (normalized == null) {
+            return scores;
+        }
+        VectorKernels kernels = VectorUtils.kernels();
+        for (int row = 0; row < rows; row++) {
+            scores[row] = kernels.dot(normalized, data, row * dimension);
+        }
+        return scores;
+    }
+
+    /**
+     * 질의 벡터와 코사인 유사도가 가장 높은 행을 최대 k개 조회합니다.
+     *
+     * @param query     질의 벡터
+     * @param k         조회할 최대 행 수
+     * @param threshold 최소 유사도 (이 값 미만인 행은 제외)
+     * @return 유사도 내림차순으로 정렬된 결과
+     * @throws IllegalArgumentException 질의 벡터의 차원이 행렬과 다른 경우
+     */
+    public List<Match> topK(float[] query, int k, double threshold) {
+        return topK(query, k, threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 지정한 ForkJoin 풀에서 {@link #topK(float[], int, double)}를 계산합니다.
+     */
+    public List<Match> topK(float[] query, int k, double threshold, ForkJoinPool pool) {
+        float[] normalized = normalizeQuery(query);
+        if (normalized == null || k <= 0 || rows == 0) {
+            return List.of();
+        }
+
+        TopKTask task = new TopKTask(normalized, k, threshold, 0, rows);
+        PriorityQueue<Match> heap = rows < PARALLEL_THRESHOLD ? task.compute() : pool.invoke(task);
+
+        List<Match> result = new ArrayList<>(heap);
+        result.sort(BY_SCORE_ASC.reversed());
+        return result;
+    }
+
+    private float[] normalizeQuery(float[] query) {
+        if (query == null || query.length != dimension) {
+            throw new IllegalArgumentException("Query dimension must be " + dimension);
+        }
+        return VectorUtils.normalize(query);
+    }
+
+    /**
+     * 행 구간을 절반씩 나누어 계산하고, 구간별 상위 k개를 합칩니다.
+     */
+    private final class TopKTask extends RecursiveTask<PriorityQueue<Match>> {
+
+        private final float[] query;
+        private final int k;
+        private final double threshold;
+        private final int from;
+        private final int to;
+
+        private TopKTask(float[] query, int k, double threshold, int from, int to) {
+            this.query = query;
+            this.k = k;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PriorityQueue<Match> compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            TopKTask left = new TopKTask(query, k, threshold, from, middle);
+            TopKTask right = new TopKTask(query, k, threshold, middle, to);
+            left.fork();
+            PriorityQueue<Match> merged = right.compute();
+            for (Match match : left.join()) {
+                offer(merged, match);
+            }
+            return merged;
+        }
+
+        private PriorityQueue<Match> scan() {
+            VectorKernels kernels = VectorUtils.kernels();
+            PriorityQueue<Match> heap = new PriorityQueue<>(k + 1, BY_SCORE_ASC);
+            for (int row = from; row < to; row++) {
+                double score = kernels.dot(query, data, row * dimension);
+                if (score < threshold) {
+                    continue;
+                }
+                if (heap.size() < k || score > heap.peek().score()) {
+                    offer(heap, new Match(ids[row], score));
+                }
+            }
+            return heap;
+        }
+
+        private void offer(PriorityQueue<Match> heap, Match match) {
+            heap.add(match);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param id    행 식별자
+     * @param score 질의 벡터와의 코사인 유사도
+     */
+    public record Match(long id, double score) {
+    }
+
+    /**
+     * {@link FloatVectorMatrix} 빌더
+     *
+     * <p>행을 추가할 때마다 정규화하여 연속 배열에 복사합니다.</p>
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int dimension;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private float[] data;
+        private int rows;
+
+        private Builder(int dimension) {
+            if (dimension <= 0) {
+                throw new IllegalArgumentException("Dimension must be positive");
+            }
+            this.dimension = dimension;
+            this.data = new float[INITIAL_CAPACITY * dimension];
+        }
+
+        /**
+         * 행을 추가합니다. 영 벡터는 모든 질의와의 유사도가 0.0인 행으로 저장됩니다.
+         *
+         * @throws IllegalArgumentException 벡터가 null이거나 차원이 다른 경우
+         */
+        public Builder add(long id, float[] vector) {
+            if (vector == null || vector.length != dimension) {
+                throw new IllegalArgumentException("Vector dimension must be " + dimension);
+            }
+            ensureCapacity(rows + 1);
+            double norm = VectorUtils.l2Norm(vector);
+            if (norm > 0.0) {
+                float[] row = new float[dimension];
+                VectorUtils.kernels().scale(vector, (float) (1.0 / norm), row);
+                System.arraycopy(row, 0, data, rows * dimension, dimension);
+            }
+            ids[rows] = id;
+            rows++;
+            return this;
+        }
+
+        public FloatVectorMatrix build() {
+            return new FloatVectorMatrix(dimension, rows,
+                    Arrays.copyOf(ids, rows), Arrays.copyOf(data, rows * dimension));
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            if ((long) capacity * dimension > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Matrix too large: " + capacity + " x " + dimension);
+            }
+            ids = Arrays.copyOf(ids, capacity);
+            data = Arrays.copyOf(data, capacity * dimension);
+        }
+    }
+}
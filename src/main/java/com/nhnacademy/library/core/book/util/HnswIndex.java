@@ -0,0 +1,448 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 기반 근사 최근접 이웃(ANN) 인덱스
+ *
+ * <p>벡터를 여러 계층의 근접 그래프로 구성하여, 전체 벡터를 선형 탐색하지 않고도
+ * 코사인 유사도가 가장 높은 이웃을 O(log N)에 가깝게 찾습니다.
+ * 모든 벡터는 삽입 시 정규화되어 저장되므로 코사인 유사도는 내적(dot product)으로 계산됩니다.</p>
+ *
+ * <p>처리 흐름:
+ * <ol>
+ *     <li>삽입: 지수 분포로 노드의 최고 계층을 정하고, 상위 계층부터 탐욕(greedy) 탐색으로 진입점을 좁힌 뒤
+ *     각 계층에서 efConstruction 개의 후보 중 가장 가까운 M개와 양방향으로 연결합니다.</li>
+ *     <li>검색: 최상위 계층에서 탐욕 탐색으로 내려온 뒤, 0번 계층에서 efSearch 크기의 후보 집합으로 탐색합니다.</li>
+ *     <li>삭제: 그래프 연결성을 유지하기 위해 노드를 즉시 제거하지 않고 삭제 표시(tombstone)만 남기며,
+ *     삭제된 노드가 살아있는 노드보다 많아지면 인덱스를 재구성합니다. 같은 키로 다시 추가(대체)할 때도 같습니다.</li>
+ * </ol>
+ *
+ * <p>읽기(검색)는 동시에 수행될 수 있으며, 쓰기(삽입/삭제)는 배타적으로 수행됩니다.</p>
+ *
+ * @param <K> 벡터를 식별하는 키 타입
+ */
+public final class HnswIndex<K> {
+
+    /** 기본 계층별 최대 연결 수 */
+    public static final int DEFAULT_M = 16;
+
+    /** 기본 삽입 시 후보 집합 크기 */
+    public static final int DEFAULT_EF_CONSTRUCTION = 200;
+
+    /** 기본 검색 시 후보 집합 크기 */
+    public static final int DEFAULT_EF_SEARCH = 64;
+
+    private static final Comparator<Candidate> BY_SIMILARITY_ASC = Comparator.comparingDouble(Candidate::similarity);
+    private static final Comparator<Candidate> BY_SIMILARITY_DESC = BY_SIMILARITY_ASC.reversed();
+
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double levelMultiplier;
+
+    private final List<Node<K>> nodes = new ArrayList<>();
+    private final Map<K, Integer> nodeIdByKey = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int dimension = -1;
+    private int deletedCount = 0;
+
+    public HnswIndex() {
+        this(DEFAULT_M, DEFAULT_EF_CONSTRUCTION, DEFAULT_EF_SEARCH);
+    }
+
+    /**
+     * @param m              계층별 최대 연결 수 (0번 계층은 2M)
+     * @param efConstruction 삽입 시 탐색할 후보 집합 크기
+     * @param efSearch       검색 시 탐색할 후보 집합 크기
+     */
+    public HnswIndex(int m, int efConstruction, int efSearch) {
+        if (m < 2 || efConstruction < 1 || efSearch < 1) {
+            throw new IllegalArgumentException("Invalid HNSW parameters: m=" + m
+                    + ", efConstruction=" + efConstruction + ", efSearch=" + efSearch);
+        }
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.levelMultiplier = 1.0 / Math.log(m);
+    }
+
+    /**
+     * 벡터를 인덱스에 추가합니다. 같은 키가 이미 존재하면 기존 벡터를 대체합니다.
+     *
+     * @param key    벡터 식별 키
+     * @param vector 벡터 (영 벡터 또는 차원이 다른 벡터는 추가되지 않습니다)
+     * @return 추가되었으면 true
+     */
+    public boolean add(K key, float[] vector) {
+        if (key == null || vector == null || vector.length == 0) {
+            return false;
+        }
+        float[] normalized = VectorUtils.normalize(vector);
+        if (normalized == null) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (dimension != -1 && dimension != normalized.length) {
+                return false;
+            }
+            dimension = normalized.length;
+            boolean replaced = removeInternal(key);
+            insert(key, normalized);
+            if (replaced) {
+                // 같은 키의 반복 대체도 삭제 표시를 남기므로 삭제와 같은 기준으로 재구성합니다.
+                rebuildIfMostlyDeleted();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키에 해당하는 벡터를 인덱스에서 삭제합니다.
+     *
+     * @param key 벡터 식별 키
+     * @return 삭제되었으면 true
+     */
+    public boolean remove(K key) {
+        if (key == null) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeInternal(key);
+            if (removed) {
+                rebuildIfMostlyDeleted();
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 코사인 유사도가 가장 높은 이웃을 조회합니다.
+     *
+     * @param query 질의 벡터
+     * @param k     조회할 최대 이웃 수
+     * @return 유사도 내림차순으로 정렬된 이웃 목록
+     */
+    public List<Neighbor<K>> search(float[] query, int k) {
+        if (query == null || k <= 0) {
+            return List.of();
+        }
+        float[] normalized = VectorUtils.normalize(query);
+        if (normalized == null) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint == -1 || normalized.length != dimension) {
+                return List.of();
+            }
+
+            int current = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                current = greedySearch(normalized, current, level);
+            }
+
+            PriorityQueue<Candidate> found = searchLayer(normalized, current, Math.max(efSearch, k), 0);
+
+            List<Candidate> sorted = new ArrayList<>(found);
+            sorted.sort(BY_SIMILARITY_DESC);
+
+            List<Neighbor<K>> result = new ArrayList<>(Math.min(k, sorted.size()));
+            for (Candidate candidate : sorted) {
+                Node<K> node = nodes.get(candidate.node());
+                if (node.deleted) {
+                    continue;
+                }
+                result.add(new Neighbor<>(node.key, candidate.similarity()));
+                if (result.size() == k) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 삭제되지 않은 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeIdByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 삭제 표시된 노드를 포함한 그래프의 노드 수
+     */
+    int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스의 모든 벡터를 삭제합니다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodeIdByKey.clear();
+            entryPoint = -1;
+            maxLevel = -1;
+            dimension = -1;
+            deletedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(K key, float[] vector) {
+        int level = randomLevel();
+        int nodeId = nodes.size();
+        Node<K> node = new Node<>(key, vector, level, m, maxM0);
+        nodes.add(node);
+        nodeIdByKey.put(key, nodeId);
+
+        if (entryPoint == -1) {
+            entryPoint = nodeId;
+            maxLevel = level;
+            return;
+        }
+
+        // 1. 노드 계층보다 위의 계층에서는 탐욕 탐색으로 진입점만 좁힙니다.
+        int current = entryPoint;
+        for (int lc = maxLevel; lc > level; lc--) {
+            current = greedySearch(vector, current, lc);
+        }
+
+        // 2. 노드가 속한 각 계층에서 이웃을 선택하고 양방향으로 연결합니다.
+        for (int lc = Math.min(level, maxLevel); lc >= 0; lc--) {
+            PriorityQueue<Candidate> found = searchLayer(vector, current, efConstruction, lc);
+            List<Candidate> sorted = new ArrayList<>(found);
+            sorted.sort(BY_SIMILARITY_DESC);
+
+            int maxConnections = lc == 0 ? maxM0 : m;
+            for (Candidate candidate : sorted) {
+                if (node.linkCount(lc) >= m) {
+                    break;
+                }
+                // 삭제 표시된 노드도 탐색 경로로 사용되므로 연결합니다.
+                // 제외하면 삭제된 노드만 있는 그래프에 추가된 노드가 진입점에서 도달할 수 없게 됩니다.
+                node.link(lc, candidate.node());
+                connect(candidate.node(), nodeId, lc, maxConnections);
+            }
+
+            if (!sorted.isEmpty()) {
+                current = sorted.get(0).node();
+            }
+        }
+
+        if (level > maxLevel) {
+            entryPoint = nodeId;
+            maxLevel = level;
+        }
+    }
+
+    /**
+     * 이웃 노드에 역방향 연결을 추가하고, 최대 연결 수를 넘으면 가장 먼 연결을 제거합니다.
+     */
+    private void connect(int from, int to, int level, int maxConnections) {
+        Node<K> node = nodes.get(from);
+        if (node.linkCount(level) < maxConnections) {
+            node.link(level, to);
+            return;
+        }
+
+        int[] links = node.links[level];
+        int weakest = -1;
+        double weakestSimilarity = similarity(node.vector, nodes.get(to).vector);
+        for (int i = 0; i < node.linkCounts[level]; i++) {
+            double s = similarity(node.vector, nodes.get(links[i]).vector);
+            if (s < weakestSimilarity) {
+                weakestSimilarity = s;
+                weakest = i;
+            }
+        }
+        if (weakest != -1) {
+            links[weakest] = to;
+        }
+    }
+
+    private int greedySearch(float[] query, int start, int level) {
+        int current = start;
+        double currentSimilarity = similarity(query, nodes.get(current).vector);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            Node<K> node = nodes.get(current);
+            for (int i = 0; i < node.linkCount(level); i++) {
+                int neighbor = node.links[level][i];
+                double s = similarity(query, nodes.get(neighbor).vector);
+                if (s > currentSimilarity) {
+                    currentSimilarity = s;
+                    current = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 한 계층에서 ef 크기의 후보 집합으로 최근접 이웃을 탐색합니다.
+     *
+     * @return 유사도가 가장 낮은 후보가 head에 위치하는 결과 집합 (최대 ef개)
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_SIMILARITY_DESC);
+        PriorityQueue<Candidate> found = new PriorityQueue<>(BY_SIMILARITY_ASC);
+
+        Candidate first = new Candidate(start, similarity(query, nodes.get(start).vector));
+        visited.set(start);
+        candidates.add(first);
+        found.add(first);
+
+        while (!candidates.isEmpty()) {
+            Candidate closest = candidates.poll();
+            if (found.size() >= ef && closest.similarity() < found.peek().similarity()) {
+                break;
+            }
+
+            Node<K> node = nodes.get(closest.node());
+            for (int i = 0; i < node.linkCount(level); i++) {
+                int neighbor = node.links[level][i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                double s = similarity(query, nodes.get(neighbor).vector);
+                if (found.size() < ef || s > found.peek().similarity()) {
+                    Candidate candidate = new Candidate(neighbor, s);
+                    candidates.add(candidate);
+                    found.add(candidate);
+                    if (found.size() > ef) {
+                        found.poll();
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private boolean removeInternal(K key) {
+        Integer nodeId = nodeIdByKey.remove(key);
+        if (nodeId == null) {
+            return false;
+        }
+        Node<K> node = nodes.get(nodeId);
+        node.deleted = true;
+        // 벡터는 그래프 탐색에 계속 사용되므로 유지하고, 키만 해제합니다.
+        node.key = null;
+        deletedCount++;
+        return true;
+    }
+
+    /**
+     * 삭제 표시된 노드가 살아있는 노드보다 많아지면 그래프를 재구성합니다.
+     */
+    private void rebuildIfMostlyDeleted() {
+        if (deletedCount > nodeIdByKey.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 삭제 표시된 노드를 제외하고 그래프를 재구성합니다.
+     */
+    private void rebuild() {
+        List<Node<K>> alive = nodes.stream().filter(node -> !node.deleted).toList();
+        nodes.clear();
+        nodeIdByKey.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+        deletedCount = 0;
+        for (Node<K> node : alive) {
+            insert(node.key, node.vector);
+        }
+    }
+
+    private int randomLevel() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        return (int) (-Math.log(1.0 - r) * levelMultiplier);
+    }
+
+    private static double similarity(float[] a, float[] b) {
+        // 저장된 벡터와 질의 벡터는 모두 정규화되어 있으므로 내적이 곧 코사인 유사도입니다.
+        return VectorUtils.calculateNormalizedCosineSimilarity(a, b);
+    }
+
+    /**
+     * 검색 결과 이웃
+     *
+     * @param key        벡터 식별 키
+     * @param similarity 질의 벡터와의 코사인 유사도
+     */
+    public record Neighbor<K>(K key, double similarity) {
+    }
+
+    private record Candidate(int node, double similarity) {
+    }
+
+    private static final class Node<K> {
+        private K key;
+        private final float[] vector;
+        private final int[][] links;
+        private final int[] linkCounts;
+        private boolean deleted;
+
+        private Node(K key, float[] vector, int level, int m, int maxM0) {
+            this.key = key;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int lc = 0; lc <= level; lc++) {
+                links[lc] = new int[lc == 0 ? maxM0 : m];
+            }
+        }
+
+        private int linkCount(int level) {
+            return level < linkCounts.length ? linkCounts[level] : 0;
+        }
+
+        private void link(int level, int target) {
+            links[level][linkCounts[level]++] = target;
+        }
+    }
+}
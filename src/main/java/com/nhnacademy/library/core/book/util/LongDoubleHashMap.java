@@ -0,0 +1,162 @@
+package com.nhnacademy.library.core.book.util;
+
+/**
+ * long 키와 double 값을 박싱 없이 저장하는 해시 맵 (오픈 어드레싱, 선형 탐사)
+ *
+ * <p>점수 누적처럼 짧게 쓰고 버리는 용도로, 삭제는 지원하지 않습니다.
+ * 저장된 항목은 슬롯 번호로 순회합니다.</p>
+ *
+ * <pre>
+ * for (int slot = 0; slot &lt; map.capacity(); slot++) {
+ *     if (map.isOccupied(slot)) {
+ *         long key = map.keyAt(slot);
+ *         double value = map.valueAt(slot);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>스레드 안전하지 않습니다.</p>
+ */
+public final class LongDoubleHashMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private double[] values;
+    private boolean[] occupied;
+    private int size;
+    private int mask;
+
+    /**
+     * @param expectedSize 예상 항목 수 (이 수까지는 재해싱하지 않습니다)
+     */
+    public LongDoubleHashMap(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.min(1 << 30, Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+        allocate(capacity);
+    }
+
+    /**
+     * 키의 값에 delta를 더합니다. 키가 없으면 delta로 추가합니다.
+     *
+     * @return 더한 뒤의 값
+     */
+    public double addTo(long key, double delta) {
+        int slot = findSlot(key);
+        if (occupied[slot]) {
+            values[slot] += delta;
+            return values[slot];
+        }
+        insert(slot, key, delta);
+        return delta;
+    }
+
+    /**
+     * 키가 없을 때만 값을 추가합니다.
+     *
+     * @return 새로 추가했으면 true
+     */
+    public boolean putIfAbsent(long key, double value) {
+        int slot = findSlot(key);
+        if (occupied[slot]) {
+            return false;
+        }
+        insert(slot, key, value);
+        return true;
+    }
+
+    /**
+     * @return 키의 값, 없으면 defaultValue
+     */
+    public double getOrDefault(long key, double defaultValue) {
+        int slot = findSlot(key);
+        return occupied[slot] ? values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return occupied[findSlot(key)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 순회할 슬롯 수
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    public boolean isOccupied(int slot) {
+        return occupied[slot];
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    public double valueAt(int slot) {
+        return values[slot];
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & mask;
+        while (occupied[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, long key, double value) {
+        keys[slot] = key;
+        values[slot] = value;
+        occupied[slot] = true;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        boolean[] oldOccupied = occupied;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldOccupied[i]) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                occupied[slot] = true;
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        occupied = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    /**
+     * 연속된 ID가 인접 슬롯에 몰리지 않도록 비트를 섞습니다. (피보나치 해싱)
+     */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LongDoubleHashMap{size=" + size + ", capacity=" + keys.length + "}";
+    }
+}
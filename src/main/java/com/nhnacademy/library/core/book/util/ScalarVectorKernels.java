@@ -0,0 +1,90 @@
+package com.nhnacademy.library.core.book.util;
+
+/**
+ * 스칼라 벡터 연산 커널
+ *
+ * <p>Vector API를 사용할 수 없는 환경에서 사용하는 기본 구현입니다.</p>
+ */
+final class ScalarVectorKernels implements VectorKernels {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public double dot(float[] a, float[] matrix, int offset) {
+        double dot = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * matrix[offset + i];
+        }
+        return dot;
+    }
+
+    @Override
+    public double squaredNorm(float[] a) {
+        double norm = 0.0;
+        for (float v : a) {
+            norm += v * v;
+        }
+        return norm;
+    }
+
+    /**
+     * 내적과 두 노름을 한 번에 계산합니다.
+     *
+     * <p>double 덧셈은 순서를 바꿀 수 없어 JIT이 누적을 병렬화하지 못하므로, 짝수/홀수 원소를 별도 누산기에 더해
+     * 덧셈 지연 시간이 겹치도록 합니다. (누산기를 더 늘리면 레지스터가 부족해 오히려 느려집니다)</p>
+     */
+    @Override
+    public double cosine(float[] a, float[] b) {
+        double dot0 = 0.0, dot1 = 0.0;
+        double normA0 = 0.0, normA1 = 0.0;
+        double normB0 = 0.0, normB1 = 0.0;
+        int upper = a.length & ~1;
+        int i = 0;
+        for (; i < upper; i += 2) {
+            double a0 = a[i], a1 = a[i + 1];
+            double b0 = b[i], b1 = b[i + 1];
+            dot0 += a0 * b0;
+            dot1 += a1 * b1;
+            normA0 += a0 * a0;
+            normA1 += a1 * a1;
+            normB0 += b0 * b0;
+            normB1 += b1 * b1;
+        }
+        if (i < a.length) {
+            double av = a[i], bv = b[i];
+            dot0 += av * bv;
+            normA0 += av * av;
+            normB0 += bv * bv;
+        }
+        double normA = normA0 + normA1;
+        double normB = normB0 + normB1;
+        if (normA == 0 || normB == 0) {
+            return 0.0;
+        }
+        return (dot0 + dot1) / Math.sqrt(normA * normB);
+    }
+
+    @Override
+    public void scale(float[] source, float factor, float[] target) {
+        for (int i = 0; i < source.length; i++) {
+            target[i] = source[i] * factor;
+        }
+    }
+
+    @Override
+    public void addInPlace(float[] target, float[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    @Override
+    public void divideInPlace(float[] target, float divisor) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] /= divisor;
+        }
+    }
+}
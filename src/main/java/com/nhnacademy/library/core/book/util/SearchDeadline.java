@@ -0,0 +1,137 @@
+package com.nhnacademy.library.core.book.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 검색 요청 하나에 주어진 시간 예산(마감 시각)
+ *
+ * <p>컨트롤러/봇에서 생성하여 검색 전략, 비동기 작업, DB 쿼리, 임베딩/LLM 호출까지 전달합니다.
+ * 비동기 작업은 {@link #bind(Supplier)}로 감싸 실행 스레드에서도 {@link #current()}로 조회할 수 있으며,
+ * 저장소는 이 값으로 JDBC 쿼리 타임아웃을 설정합니다.</p>
+ *
+ * <pre>
+ * SearchDeadline deadline = SearchDeadline.after(Duration.ofSeconds(3));
+ * deadline.call(() -&gt; strategy.search(pageable, request, deadline));
+ * </pre>
+ */
+public final class SearchDeadline {
+
+    private static final SearchDeadline NONE = new SearchDeadline(Long.MAX_VALUE);
+    private static final ThreadLocal<SearchDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 마감 시각 ({@link System#nanoTime()} 기준, 제한 없음이면 {@link Long#MAX_VALUE})
+     */
+    private final long deadlineNanos;
+
+    private SearchDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param budget 지금부터 주어진 시간 예산
+     */
+    public static SearchDeadline after(Duration budget) {
+        return new SearchDeadline(System.nanoTime() + Math.max(0, budget.toNanos()));
+    }
+
+    /**
+     * @param budgetMillis 지금부터 주어진 시간 예산 (ms, 0 이하면 제한 없음)
+     */
+    public static SearchDeadline ofMillis(long budgetMillis) {
+        return budgetMillis > 0 ? after(Duration.ofMillis(budgetMillis)) : NONE;
+    }
+
+    /**
+     * @return 시간 제한이 없는 마감 시각
+     */
+    public static SearchDeadline none() {
+        return NONE;
+    }
+
+    /**
+     * @return 현재 스레드에서 실행 중인 작업의 마감 시각 (없으면 {@link #none()})
+     */
+    public static SearchDeadline current() {
+        SearchDeadline deadline = CURRENT.get();
+        return deadline != null ? deadline : NONE;
+    }
+
+    public boolean isBounded() {
+        return this != NONE;
+    }
+
+    public boolean isExpired() {
+        return isBounded() && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /**
+     * @return 남은 시간 (ms, 만료되었으면 0, 제한이 없으면 {@link Long#MAX_VALUE})
+     */
+    public long remainingMillis() {
+        if (!isBounded()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * JDBC 쿼리 타임아웃은 초 단위이고 0은 무제한이므로, 남은 시간을 올림하되 최소 1초로 맞춥니다.
+     *
+     * @return 쿼리 타임아웃 (초)
+     */
+    public int queryTimeoutSeconds() {
+        long remaining = remainingMillis();
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (remaining + 999) / 1000));
+    }
+
+    /**
+     * 남은 시간 안에 완료되지 않으면 fallback으로 완료되는 future를 반환합니다. (원래 작업은 취소하지 않습니다)
+     */
+    public <T> CompletableFuture<T> orElse(CompletableFuture<T> future, T fallback) {
+        if (!isBounded()) {
+            return future;
+        }
+        return future.completeOnTimeout(fallback, remainingMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 스레드의 마감 시각을 이 값으로 설정한 상태에서 작업을 실행합니다.
+     */
+    public <T> T call(Supplier<T> task) {
+        SearchDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 다른 스레드에서 실행될 작업이 이 마감 시각을 이어받도록 감쌉니다.
+     */
+    public <T> Supplier<T> bind(Supplier<T> task) {
+        return () -> call(task);
+    }
+
+    /**
+     * @see #bind(Supplier)
+     */
+    public <T, R> Function<T, R> bind(Function<T, R> task) {
+        return value -> call(() -> task.apply(value));
+    }
+
+    @Override
+    public String toString() {
+        return isBounded() ? "SearchDeadline{remaining=" + remainingMillis() + "ms}" : "SearchDeadline{none}";
+    }
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.library.core.book.util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(SIMD) 벡터 연산 커널
+ *
+ * <p>{@code jdk.incubator.vector} 모듈이 로드된 경우에만 {@link VectorUtils}가 리플렉션으로 생성합니다.
+ * 이 클래스를 직접 참조하면 모듈이 없는 환경에서 클래스 로딩에 실패하므로, 다른 코드에서 직접 참조하지 않습니다.</p>
+ *
+ * <p>레인 단위 합산은 float로 누적한 뒤 마지막에 합치므로, 스칼라 구현과 마지막 자릿수가 다를 수 있습니다.</p>
+ */
+final class SimdVectorKernels implements VectorKernels {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "simd-" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public double dot(float[] a, float[] matrix, int offset) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int bound = SPECIES.loopBound(a.length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, matrix, offset + i);
+            sum = va.fma(vb, sum);
+        }
+        double dot = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dot += a[i] * matrix[offset + i];
+        }
+        return dot;
+    }
+
+    @Override
+    public double squaredNorm(float[] a) {
+        return dot(a, a);
+    }
+
+    @Override
+    public double cosine(float[] a, float[] b) {
+        FloatVector dotSum = FloatVector.zero(SPECIES);
+        FloatVector normASum = FloatVector.zero(SPECIES);
+        FloatVector normBSum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int bound = SPECIES.loopBound(a.length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            dotSum = va.fma(vb, dotSum);
+            normASum = va.fma(va, normASum);
+            normBSum = vb.fma(vb, normBSum);
+        }
+        double dot = dotSum.reduceLanes(VectorOperators.ADD);
+        double normA = normASum.reduceLanes(VectorOperators.ADD);
+        double normB = normBSum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        if (normA == 0 || normB == 0) {
+            return 0.0;
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+
+    @Override
+    public void scale(float[] source, float factor, float[] target) {
+        int i = 0;
+        int bound = SPECIES.loopBound(source.length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, source, i).mul(factor).intoArray(target, i);
+        }
+        for (; i < source.length; i++) {
+            target[i] = source[i] * factor;
+        }
+    }
+
+    @Override
+    public void addInPlace(float[] target, float[] source) {
+        int i = 0;
+        int bound = SPECIES.loopBound(target.length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, target, i)
+                    .add(FloatVector.fromArray(SPECIES, source, i))
+                    .intoArray(target, i);
+        }
+        for (; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    @Override
+    public void divideInPlace(float[] target, float divisor) {
+        int i = 0;
+        int bound = SPECIES.loopBound(target.length);
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, target, i).div(divisor).intoArray(target, i);
+        }
+        for (; i < target.length; i++) {
+            target[i] /= divisor;
+        }
+    }
+}
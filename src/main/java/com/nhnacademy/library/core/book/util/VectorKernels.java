@@ -0,0 +1,54 @@
+package com.nhnacademy.library.core.book.util;
+
+/**
+ * 벡터 연산 커널
+ *
+ * <p>스칼라 구현과 Vector API(SIMD) 구현을 교체할 수 있도록 분리한 인터페이스입니다.
+ * 인자 검증은 호출하는 쪽({@link VectorUtils})에서 수행하며, 구현체는 두 배열의 길이가 같다고 가정합니다.</p>
+ */
+interface VectorKernels {
+
+    /**
+     * 구현체 이름 (로그 및 벤치마크 표시용)
+     */
+    String name();
+
+    /**
+     * 두 벡터의 내적을 계산합니다.
+     */
+    default double dot(float[] a, float[] b) {
+        return dot(a, b, 0);
+    }
+
+    /**
+     * 벡터 {@code a}와 {@code matrix[offset, offset + a.length)} 구간의 내적을 계산합니다.
+     * 행 우선(row-major)으로 저장된 행렬의 한 행과 질의 벡터를 비교할 때 사용합니다.
+     */
+    double dot(float[] a, float[] matrix, int offset);
+
+    /**
+     * 벡터 크기의 제곱(자기 자신과의 내적)을 계산합니다.
+     */
+    double squaredNorm(float[] a);
+
+    /**
+     * 한 번의 순회로 내적과 두 벡터의 크기를 함께 계산하여 코사인 유사도를 반환합니다.
+     * 둘 중 하나라도 영 벡터이면 0.0을 반환합니다.
+     */
+    double cosine(float[] a, float[] b);
+
+    /**
+     * {@code target[i] = source[i] * factor}
+     */
+    void scale(float[] source, float factor, float[] target);
+
+    /**
+     * {@code target[i] += source[i]}
+     */
+    void addInPlace(float[] target, float[] source);
+
+    /**
+     * {@code target[i] /= divisor}
+     */
+    void divideInPlace(float[] target, float divisor);
+}
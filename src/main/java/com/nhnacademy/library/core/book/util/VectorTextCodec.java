@@ -0,0 +1,227 @@
+package com.nhnacademy.library.core.book.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * pgvector 텍스트 표현({@code [1.0,2.0,3.0]}) 인코더/디코더
+ *
+ * <p>{@code String.split}과 {@code Float.parseFloat}을 사용하지 않고 문자열을 한 번만 순회하여
+ * 결과 배열 외의 중간 객체를 만들지 않습니다. 인코딩은 필요한 크기로 미리 할당한
+ * {@link StringBuilder}에 직접 숫자를 기록합니다.</p>
+ *
+ * <p>디코딩은 유효 숫자가 적은 일반적인 경우 double 연산으로 빠르게 변환하고,
+ * 반올림 결과가 모호한 드문 경우에만 {@link Float#parseFloat(String)}으로 정확하게 변환합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VectorTextCodec {
+
+    /**
+     * float 하나의 최대 텍스트 길이 추정치 (예: {@code -1.23456789E-10} + 구분자)
+     */
+    private static final int MAX_CHARS_PER_FLOAT = 16;
+
+    /**
+     * double로 정확히 표현할 수 있는 10의 거듭제곱 (10^0 ~ 10^22)
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * double 가수부 정밀도(2^53) 이하의 정수만 빠른 경로로 변환합니다.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * double을 float로 줄일 때 버려지는 가수부 하위 비트 수 (52 - 23)
+     */
+    private static final int DROPPED_BITS = 29;
+    private static final long DROPPED_MASK = (1L << DROPPED_BITS) - 1;
+    private static final long HALFWAY = 1L << (DROPPED_BITS - 1);
+
+    /**
+     * 벡터를 pgvector 텍스트 표현으로 변환합니다.
+     *
+     * @param vector 벡터
+     * @return {@code [v1,v2,...]} 형식의 문자열
+     * @throws IllegalArgumentException 벡터가 null인 경우
+     */
+    public static String encode(float[] vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        StringBuilder sb = new StringBuilder(vector.length * MAX_CHARS_PER_FLOAT + 2);
+        sb.append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            // JDK 19+의 append(float)는 중간 String 없이 최단 표현을 직접 기록합니다.
+            sb.append(vector[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * pgvector 텍스트 표현을 벡터로 변환합니다.
+     *
+     * @param text {@code [v1,v2,...]} 형식의 문자열 (앞뒤 대괄호는 생략 가능)
+     * @return 벡터 ({@code []}이면 길이 0인 배열)
+     * @throws NumberFormatException 숫자 형식이 올바르지 않은 경우
+     */
+    public static float[] decode(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && isIgnorable(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isIgnorable(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return new float[0];
+        }
+
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+
+        float[] vector = new float[count];
+        int tokenStart = start;
+        int index = 0;
+        for (int i = start; i <= end; i++) {
+            if (i == end || text.charAt(i) == ',') {
+                vector[index++] = parseFloat(text, tokenStart, i);
+                tokenStart = i + 1;
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * {@code text[start, end)} 구간의 10진수 실수를 float로 변환합니다.
+     */
+    static float parseFloat(String text, int start, int end) {
+        while (start < end && text.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new NumberFormatException("Empty vector element");
+        }
+
+        int i = start;
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean sawDot = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    // 선행 0은 유효 숫자가 아니며, 소수점 이후라면 지수만 조정합니다.
+                    if (sawDot) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (significantDigits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    significantDigits++;
+                    if (sawDot) {
+                        exponent--;
+                    }
+                } else {
+                    // 18자리를 넘는 숫자는 빠른 경로 대상이 아니므로 정확한 변환으로 넘깁니다.
+                    return slowParse(text, start, end);
+                }
+            } else if (c == '.' && !sawDot) {
+                sawDot = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                return slowParse(text, start, end);
+            }
+        }
+        if (!sawDigit) {
+            return slowParse(text, start, end);
+        }
+        if (i < end) {
+            int exponentEnd = i + 1;
+            if (exponentEnd >= end) {
+                return slowParse(text, start, end);
+            }
+            exponent += parseExponent(text, exponentEnd, end);
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0f : 0.0f;
+        }
+        if (mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+            return slowParse(text, start, end);
+        }
+
+        // 정수 가수와 정확한 10의 거듭제곱 사이의 연산은 한 번만 반올림됩니다.
+        double value = exponent >= 0
+                ? mantissa * POWERS_OF_TEN[exponent]
+                : mantissa / POWERS_OF_TEN[-exponent];
+
+        // float로 한 번 더 반올림할 때 중간값 근처라면 이중 반올림 오차가 생길 수 있으므로 정확한 변환을 사용합니다.
+        long dropped = Double.doubleToRawLongBits(value) & DROPPED_MASK;
+        if (Math.abs(dropped - HALFWAY) <= 1 || value < Float.MIN_NORMAL || value > Float.MAX_VALUE) {
+            return slowParse(text, start, end);
+        }
+        float result = (float) value;
+        return negative ? -result : result;
+    }
+
+    private static int parseExponent(String text, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char sign = text.charAt(i);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("Invalid exponent: " + text.substring(start, end));
+        }
+        int exponent = 0;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid exponent: " + text.substring(start, end));
+            }
+            // 범위를 크게 벗어나는 지수는 빠른 경로 밖으로 보내기 위해 포화시킵니다.
+            exponent = Math.min(exponent * 10 + (c - '0'), 1_000);
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    private static float slowParse(String text, int start, int end) {
+        return Float.parseFloat(text.substring(start, end));
+    }
+
+    private static boolean isIgnorable(char c) {
+        return c == '[' || c == ']' || c == ' ';
+    }
+}
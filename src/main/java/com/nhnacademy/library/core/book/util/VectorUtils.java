@@ -2,13 +2,38 @@ package com.nhnacademy.library.core.book.util;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 벡터 연산 유틸리티 클래스
+ *
+ * <p>실행 시 {@code jdk.incubator.vector} 모듈이 로드되어 있으면 Vector API(SIMD) 커널을,
+ * 그렇지 않으면 스칼라 커널을 사용합니다. 모듈은 {@code --add-modules jdk.incubator.vector}
+ * JVM 옵션으로 로드하며, {@code -Dvector.simd.enabled=false}로 SIMD 사용을 끌 수 있습니다.</p>
  */
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class VectorUtils {
 
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String SIMD_KERNELS_CLASS = "com.nhnacademy.library.core.book.util.SimdVectorKernels";
+
+    private static final VectorKernels KERNELS = selectKernels();
+
+    /**
+     * 현재 선택된 벡터 연산 커널을 반환합니다. (같은 패키지의 행렬 연산에서 사용)
+     */
+    static VectorKernels kernels() {
+        return KERNELS;
+    }
+
+    /**
+     * 현재 사용 중인 커널 이름을 반환합니다. (예: {@code scalar}, {@code simd-256})
+     */
+    public static String kernelName() {
+        return KERNELS.name();
+    }
+
     /**
      * 두 벡터 간의 코사인 유사도를 계산합니다.
      *
@@ -23,18 +48,66 @@ public final class VectorUtils {
         if (vectorA == null || vectorB == null || vectorA.length != vectorB.length) {
             return 0.0;
         }
-        double dotProduct = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-        for (int i = 0; i < vectorA.length; i++) {
-            dotProduct += vectorA[i] * vectorB[i];
-            normA += Math.pow(vectorA[i], 2);
-            normB += Math.pow(vectorB[i], 2);
-        }
-        if (normA == 0 || normB == 0) {
+        return KERNELS.cosine(vectorA, vectorB);
+    }
+
+    /**
+     * 이미 정규화된(크기가 1인) 두 벡터 간의 코사인 유사도를 계산합니다.
+     *
+     * <p>정규화된 벡터의 코사인 유사도는 내적과 같으므로, 크기 계산을 생략합니다.
+     * 정규화되지 않은 벡터를 전달하면 결과가 -1.0 ~ 1.0 범위를 벗어날 수 있습니다.</p>
+     *
+     * @param vectorA 정규화된 첫 번째 벡터
+     * @param vectorB 정규화된 두 번째 벡터
+     * @return 코사인 유사도 (-1.0 ~ 1.0)
+     * @see #normalize(float[])
+     */
+    public static double calculateNormalizedCosineSimilarity(float[] vectorA, float[] vectorB) {
+        if (vectorA == null || vectorB == null || vectorA.length != vectorB.length) {
             return 0.0;
         }
-        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+        return KERNELS.dot(vectorA, vectorB);
+    }
+
+    /**
+     * 두 벡터의 내적을 계산합니다.
+     *
+     * @throws IllegalArgumentException 벡터가 null이거나 차원이 다른 경우
+     */
+    public static double dotProduct(float[] vectorA, float[] vectorB) {
+        requireSameDimension(vectorA, vectorB);
+        return KERNELS.dot(vectorA, vectorB);
+    }
+
+    /**
+     * 벡터의 L2 노름(크기)을 계산합니다.
+     *
+     * @throws IllegalArgumentException 벡터가 null인 경우
+     */
+    public static double l2Norm(float[] vector) {
+        if (vector == null) {
+            throw new IllegalArgumentException("Vector cannot be null");
+        }
+        return Math.sqrt(KERNELS.squaredNorm(vector));
+    }
+
+    /**
+     * 크기가 1이 되도록 정규화한 새 벡터를 반환합니다.
+     *
+     * <p>영 벡터는 정규화할 수 없으므로 null을 반환합니다.</p>
+     *
+     * @param vector 원본 벡터 (변경되지 않음)
+     * @return 정규화된 새 벡터, 영 벡터인 경우 null
+     * @throws IllegalArgumentException 벡터가 null인 경우
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = l2Norm(vector);
+        if (norm == 0.0) {
+            return null;
+        }
+        float[] normalized = new float[vector.length];
+        KERNELS.scale(vector, (float) (1.0 / norm), normalized);
+        return normalized;
     }
 
     /**
@@ -59,16 +132,38 @@ public final class VectorUtils {
             if (vector.length != dimension) {
                 throw new IllegalArgumentException("All vectors must have the same dimension");
             }
-            for (int i = 0; i < dimension; i++) {
-                result[i] += vector[i];
-            }
+            KERNELS.addInPlace(result, vector);
         }
 
         // 평균 계산
-        for (int i = 0; i < dimension; i++) {
-            result[i] /= vectors.length;
-        }
+        KERNELS.divideInPlace(result, vectors.length);
 
         return result;
     }
+
+    private static void requireSameDimension(float[] vectorA, float[] vectorB) {
+        if (vectorA == null || vectorB == null) {
+            throw new IllegalArgumentException("Vectors cannot be null");
+        }
+        if (vectorA.length != vectorB.length) {
+            throw new IllegalArgumentException("All vectors must have the same dimension");
+        }
+    }
+
+    static VectorKernels selectKernels() {
+        boolean simdEnabled = Boolean.parseBoolean(System.getProperty("vector.simd.enabled", "true"));
+        if (simdEnabled && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                VectorKernels kernels = (VectorKernels) Class.forName(SIMD_KERNELS_CLASS)
+                        .getDeclaredConstructor()
+                        .newInstance();
+                log.info("[VECTOR] Using {} vector kernels", kernels.name());
+                return kernels;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("[VECTOR] Failed to load SIMD vector kernels, falling back to scalar: {}", e.getMessage());
+            }
+        }
+        log.info("[VECTOR] Using scalar vector kernels");
+        return new ScalarVectorKernels();
+    }
 }
@@ -1,30 +1,105 @@
 package com.nhnacademy.library.core.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리를 위한 설정
+ *
+ * <p>작업 종류별로 크기와 거부 정책이 다른 Executor를 분리(Bulkhead)하여, 한 종류의 작업이 밀려도
+ * 다른 작업의 스레드를 잠식하지 않도록 합니다. 각 Executor는 {@code executor.*} 지표(대기 큐 크기, 활성 스레드 등)와
+ * 거부 횟수({@code executor.rejected})를 {@code name} 태그로 구분하여 노출합니다.</p>
  */
+@Slf4j
 @Configuration
 public class AsyncConfig {
 
+    private static final String REJECTED_METRIC = "executor.rejected";
+
     /**
-     * 기본 비동기 처리를 위한 Executor
+     * 기본 비동기 처리를 위한 Executor (이름 없는 {@code @Async}, 기동 시 HNSW 인덱스 적재 등)
+     * 포화 시 호출 스레드에서 실행합니다.
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("task", properties.getTask(),
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    /**
+     * 하이브리드 검색의 DB 후보 조회용 Executor
+     * 사용자 요청 경로이므로 포화 시 호출 스레드에서 실행하여 검색이 실패하지 않도록 합니다.
+     */
+    @Bean(name = "searchRetrievalExecutor")
+    public Executor searchRetrievalExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("search-retrieval", properties.getRetrieval(),
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    /**
+     * 질의 임베딩 생성용 Executor
+     * 사용자 요청 경로이므로 포화 시 호출 스레드에서 실행합니다.
+     */
+    @Bean(name = "embeddingExecutor")
+    public Executor embeddingExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("embedding", properties.getEmbedding(),
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    /**
+     * RAG 캐시 워밍업용 Executor
+     * 워밍업은 다음 캐시 미스에서 다시 요청되므로, 포화 시 호출 스레드를 막지 않고 거부합니다.
+     * 제출한 쪽이 거부를 알 수 있도록 예외를 던집니다. (진행 중 작업 목록 정리용)
+     */
+    @Bean(name = "warmUpExecutor")
+    public Executor warmUpExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("warm-up", properties.getWarmUp(), (task, pool) -> {
+            log.warn("[ASYNC] Warm-up executor saturated (queue: {}). Dropping task.", pool.getQueue().size());
+            throw new RejectedExecutionException("Warm-up executor saturated");
+        }, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 이벤트({@code @Async} 리스너) 처리용 Executor
+     */
+    @Bean(name = "eventExecutor")
+    public Executor eventExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        return createExecutor("event", properties.getEvent(),
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(String name, AsyncExecutorProperties.Pool pool,
+                                                         RejectedExecutionHandler rejectionPolicy,
+                                                         MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder(REJECTED_METRIC)
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", name)
+                .register(meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("async-task-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setVirtualThreads(pool.isVirtualThreads());
+        executor.setThreadNamePrefix(name + "-");
+        executor.setRejectedExecutionHandler((task, threadPool) -> {
+            rejected.increment();
+            rejectionPolicy.rejectedExecution(task, threadPool);
+        });
         executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
         return executor;
     }
 }
@@ -0,0 +1,75 @@
+package com.nhnacademy.library.core.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 비동기 Executor 설정 프로퍼티
+ *
+ * <p>느린 작업(LLM 워밍업 등)이 사용자 검색 스레드를 잠식하지 않도록 작업 종류마다 별도의 풀을 둡니다.</p>
+ */
+@Component
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = "async.executor")
+public class AsyncExecutorProperties {
+
+    /**
+     * 기본 비동기 처리 (이름 없는 {@code @Async}, 기동 시 HNSW 인덱스 적재 등)
+     */
+    private Pool task = new Pool(5, 10, 100, false);
+
+    /**
+     * 하이브리드 검색의 DB 후보 조회 (키워드/벡터/SQL 병합)
+     */
+    private Pool retrieval = new Pool(5, 10, 100, false);
+
+    /**
+     * 질의 임베딩 생성 (원격 임베딩 API 호출)
+     */
+    private Pool embedding = new Pool(32, 32, 200, true);
+
+    /**
+     * RAG 캐시 워밍업 (LLM 호출)
+     */
+    private Pool warmUp = new Pool(4, 4, 50, true);
+
+    /**
+     * 애플리케이션 이벤트 처리 ({@code @Async} 리스너)
+     */
+    private Pool event = new Pool(2, 4, 500, false);
+
+    @Getter
+    @Setter
+    @ToString
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        /**
+         * 기본 스레드 수
+         */
+        private int corePoolSize;
+
+        /**
+         * 최대 스레드 수 (동시 실행 상한)
+         */
+        private int maxPoolSize;
+
+        /**
+         * 대기 큐 크기 (가득 차면 거부 정책 적용)
+         */
+        private int queueCapacity;
+
+        /**
+         * 가상 스레드 사용 여부 (I/O 대기가 대부분인 작업용)
+         */
+        private boolean virtualThreads;
+    }
+}
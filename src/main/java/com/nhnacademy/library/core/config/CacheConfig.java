@@ -28,7 +28,6 @@ public class CacheConfig {
     @Bean
     public CacheManager cacheManager() {
         return new ConcurrentMapCacheManager(
-            "bookSearchCache",
             "reviewSummaries",
             // 도서관정보나루 API 캐시
             "librarySearch",
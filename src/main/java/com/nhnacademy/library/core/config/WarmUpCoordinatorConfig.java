@@ -0,0 +1,65 @@
+package com.nhnacademy.library.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.library.core.book.properties.WarmUpLeaseProperties;
+import com.nhnacademy.library.core.book.service.cache.LocalWarmUpCoordinator;
+import com.nhnacademy.library.core.book.service.cache.RedisWarmUpCoordinator;
+import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
+import com.nhnacademy.library.core.book.service.cache.WarmUpCoordinator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RAG 캐시 워밍업 조율 설정
+ *
+ * <p>Redis가 설정되어 있으면 노드 간 리스로 같은 질의의 워밍업을 한 번만 수행하고,
+ * 그렇지 않으면 노드 안에서만 중복을 막습니다.
+ * Redis를 사용할 때는 다른 노드가 발행한 도서 무효화를 구독하여 이 노드의 시맨틱 캐시와 도서 카드 캐시에도 반영합니다.</p>
+ */
+@Configuration
+public class WarmUpCoordinatorConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.host")
+    public RedisWarmUpCoordinator redisWarmUpCoordinator(StringRedisTemplate stringRedisTemplate,
+                                                    ObjectMapper objectMapper,
+                                                    WarmUpLeaseProperties properties) {
+        return new RedisWarmUpCoordinator(stringRedisTemplate, objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.host")
+    public RedisMessageListenerContainer semanticCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisWarmUpCoordinator redisWarmUpCoordinator,
+            SemanticCacheService semanticCacheService,
+            BookCardCache bookCardCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) ->
+                        redisWarmUpCoordinator.parseInvalidation(new String(message.getBody(), StandardCharsets.UTF_8))
+                                .ifPresent(invalidation -> {
+                                    switch (invalidation.scope()) {
+                                        case SEARCH_RESULTS -> semanticCacheService.invalidateLocalBooks(invalidation.bookIds());
+                                        case BOOK_CARDS -> invalidation.bookIds().forEach(bookCardCache::invalidate);
+                                    }
+                                }),
+                new ChannelTopic(RedisWarmUpCoordinator.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(WarmUpCoordinator.class)
+    public WarmUpCoordinator localWarmUpCoordinator() {
+        return new LocalWarmUpCoordinator();
+    }
+}
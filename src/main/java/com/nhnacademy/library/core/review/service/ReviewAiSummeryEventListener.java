@@ -17,7 +17,7 @@ public class ReviewAiSummeryEventListener {
 
     private final ReviewSummaryQueueService queueService;
 
-    @Async
+    @Async("eventExecutor")
     @EventListener
     public void handleReviewAiSummeryEvent(ReviewAiSummaryEvent event) {
         log.info("Received ReviewAiSummaryEvent for book id: {}", event.bookId());
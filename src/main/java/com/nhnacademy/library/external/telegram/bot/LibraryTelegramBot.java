@@ -1,11 +1,14 @@
 package com.nhnacademy.library.external.telegram.bot;
 
 import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
-import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.BookSearchStreamEvent;
 import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
-import com.nhnacademy.library.core.book.service.search.BookSearchService;
+import com.nhnacademy.library.core.book.service.personalization.PersonalizationService;
+import com.nhnacademy.library.core.book.service.search.BookSearchStreamService;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import com.nhnacademy.library.external.telegram.config.TelegramBotProperties;
 import com.nhnacademy.library.external.telegram.dto.FeedbackStats;
 import com.nhnacademy.library.external.telegram.handler.CallbackQueryHandler;
@@ -24,34 +27,46 @@ import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardRemove;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AI Library Telegram Bot
  *
  * <p>Telegram에서 들어오는 메시지를 수신하고 처리합니다.
- * 하이브리드 검색을 지원하며, 캐싱된 추천 도서가 있으면 함께 반환합니다.
+ * 하이브리드 검색 결과를 먼저 보내고, AI 추천은 LLM 응답에서 완성되는 대로 한 건씩 보냅니다.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class LibraryTelegramBot extends TelegramLongPollingBot {
 
     private final TelegramBotProperties properties;
-    private final BookSearchService bookSearchService;
+    private final BookSearchStreamService bookSearchStreamService;
+    private final PersonalizationService personalizationService;
     private final SemanticCacheService semanticCacheService;
     private final CallbackQueryHandler callbackQueryHandler;
     private final TelegramKeyboardFactory keyboardFactory;
     private final FeedbackService feedbackService;
 
+    /** 단계별 검색 결과를 기다리는 최대 간격 (ms, 검색 완료 여부를 다시 확인하는 주기) */
+    private static final long EVENT_POLL_INTERVAL_MS = 100;
+
     public LibraryTelegramBot(TelegramBotProperties properties, DefaultBotOptions options,
-                              BookSearchService bookSearchService,
+                              BookSearchStreamService bookSearchStreamService,
+                              PersonalizationService personalizationService,
                               SemanticCacheService semanticCacheService,
                               CallbackQueryHandler callbackQueryHandler,
                               TelegramKeyboardFactory keyboardFactory,
                               FeedbackService feedbackService) {
         super(options);
         this.properties = properties;
-        this.bookSearchService = bookSearchService;
+        this.bookSearchStreamService = bookSearchStreamService;
+        this.personalizationService = personalizationService;
         this.semanticCacheService = semanticCacheService;
         this.callbackQueryHandler = callbackQueryHandler;
         this.keyboardFactory = keyboardFactory;
@@ -154,9 +169,13 @@ public class LibraryTelegramBot extends TelegramLongPollingBot {
     /**
      * 도서 검색 처리
      *
-     * <p>RAG 검색을 수행하여 AI 추천 사유와 함께 도서를 추천합니다.
-     * 캐싱된 추천 도서가 있으면 먼저 보여주고, 검색 결과를 표시합니다.
-     * 이미지가 있으면 이미지를 함께 전송합니다.
+     * <p>단계별 RAG 검색을 수행하여 하이브리드 검색 결과(개인화 순위)를 먼저 보내고,
+     * AI 추천은 LLM 응답에서 완성되는 대로 추천 사유와 함께 한 건씩 보냅니다.
+     * 캐싱된 추천 결과가 있으면 검색 결과 바로 뒤에 보냅니다.
+     * 이미지가 있으면 이미지를 함께 전송합니다.</p>
+     *
+     * <p>단계별 결과는 검색 Executor에서 도착하므로 큐에 모아 이 스레드에서 순서대로 전송하고,
+     * {@code telegram.bot.search-timeout-ms}가 지나면 남은 추천은 보내지 않습니다. (진행 중인 워밍업은 계속되어 캐시를 채웁니다)</p>
      */
     private void handleSearch(Update update, String keyword) {
         Long chatId = update.getMessage().getChatId();
@@ -166,38 +185,79 @@ public class LibraryTelegramBot extends TelegramLongPollingBot {
             // 1. 최근 검색어 저장 (피드백용)
             callbackQueryHandler.setRecentQuery(chatId, keyword);
 
-            // 2. RAG 검색 실행 (캐시 확인, LLM 추천 사유 생성 포함)
-            log.debug("[Telegram] Creating search request for keyword: {}", keyword);
+            // 2. 단계별 RAG 검색 시작 (캐시 확인, LLM 추천 사유 생성 포함)
             Pageable pageable = PageRequest.of(0, 5);
             BookSearchRequest request = new BookSearchRequest(keyword, null, SearchType.RAG, null, false);
+            BlockingQueue<BookSearchStreamEvent> events = new LinkedBlockingQueue<>();
+            CompletableFuture<Void> search = bookSearchStreamService.search(pageable, request, events::add);
+
+            // 3. 도착한 단계별 결과를 순서대로 전송 (이미지, 점수, AI 추천 사유 포함)
+            SearchDeadline deadline = SearchDeadline.ofMillis(properties.getSearchTimeoutMs());
+            Set<Long> recommendedIds = new HashSet<>();
+            while (!search.isDone() || !events.isEmpty()) {
+                if (deadline.isExpired()) {
+                    log.info("[Telegram] Search budget exceeded for keyword: {}. Skipping remaining recommendations.",
+                            keyword);
+                    break;
+                }
+                BookSearchStreamEvent event = events.poll(
+                        Math.min(EVENT_POLL_INTERVAL_MS, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    sendSearchEvent(chatId, keyword, event, recommendedIds);
+                }
+            }
+            // 키워드/병합 단계가 실패했으면 예외를 전달합니다.
+            if (search.isCompletedExceptionally()) {
+                search.join();
+            }
 
-            log.debug("[Telegram] Calling bookSearchService.searchBooks() with personalization");
-            BookSearchResult result = bookSearchService.searchBooks(pageable, request, chatId);
-            log.debug("[Telegram] Search completed, preparing response");
-
-            // 3. 응답 전송 (이미지, 점수, AI 추천 사유 포함)
-            log.debug("[Telegram] Sending search result to chatId: {}", chatId);
-            sendSearchResult(chatId, keyword, result);
-
-            log.info("[Telegram] RAG Search completed for keyword: {}, hasAIResponse: {}, resultCount: {}",
-                    keyword, result.getAiResponse() != null, result.getBooks().getTotalElements());
+            log.info("[Telegram] RAG Search completed for keyword: {}, recommendationCount: {}",
+                    keyword, recommendedIds.size());
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("[Telegram] Search failed for keyword: {}, chatId: {}, error: {}", keyword, chatId, e.getMessage(), e);
             sendSimpleMessage(chatId, "검색 중 오류가 발생했습니다. 다시 시도해주세요.");
         }
     }
 
+    /**
+     * 단계별 검색 결과 전송
+     *
+     * <p>키워드 단계는 곧이어 오는 병합 단계와 겹치므로 보내지 않습니다.
+     * AI 단계에서는 추천 항목으로 아직 보내지 않은(캐시에서 가져온) 추천만 보냅니다.</p>
+     *
+     * @param chatId         Telegram Chat ID
+     * @param keyword        검색어
+     * @param event          단계별 검색 결과
+     * @param recommendedIds 이미 보낸 추천 도서 ID
+     */
+    private void sendSearchEvent(Long chatId, String keyword, BookSearchStreamEvent event, Set<Long> recommendedIds) {
+        switch (event.stage()) {
+            case KEYWORD -> log.debug("[Telegram] Keyword stage received for keyword: {}", keyword);
+            case HYBRID -> sendSearchResult(chatId, keyword,
+                    personalizationService.personalizedSearch(event.books(), chatId));
+            case RECOMMENDATION, AI -> {
+                for (BookSearchResponse book : event.books()) {
+                    event.aiResponse().stream()
+                            .filter(rec -> book.getId().equals(rec.getId()))
+                            .findFirst()
+                            .filter(rec -> recommendedIds.add(rec.getId()))
+                            .ifPresent(rec -> sendRecommendation(chatId, keyword, recommendedIds.size(), book, rec));
+                }
+            }
+        }
+    }
+
     /**
      * 검색 결과 전송
      *
      * @param chatId Telegram Chat ID
      * @param keyword 검색어
-     * @param result 검색 결과 (AI 추천 사유 포함)
+     * @param books 검색된 도서 목록 (개인화 순위)
      */
-    private void sendSearchResult(Long chatId, String keyword, BookSearchResult result) {
-        // 추천 도서 목록 확인
-        List<BookSearchResponse> books = result.getBooks().getContent();
+    private void sendSearchResult(Long chatId, String keyword, List<BookSearchResponse> books) {
         if (books.isEmpty()) {
             sendSimpleMessage(chatId, "❌ 검색 결과가 없습니다.");
             return;
@@ -206,21 +266,7 @@ public class LibraryTelegramBot extends TelegramLongPollingBot {
         // 헤더 메시지 (한 번에 구성)
         StringBuilder header = new StringBuilder();
         header.append("📚 \"").append(escapeMarkdown(keyword)).append("\" 검색 결과\n\n");
-
-        // AI 추천 사유가 있으면 표시
-        if (result.getAiResponse() != null && !result.getAiResponse().isEmpty()) {
-            header.append("🤖 AI 추천 사유\n");
-            String aiReason = result.getAiResponse().get(0).getWhy();
-            if (aiReason == null || aiReason.isBlank()) {
-                aiReason = "-";
-            } else if (aiReason.length() > 300) {
-                aiReason = aiReason.substring(0, 300) + "...";
-            }
-            header.append("💬 ").append(aiReason).append("\n\n");
-        }
-
-        int displayCount = books.size();
-        header.append("검색된 도서 (").append(displayCount).append("개)\n\n");
+        header.append("검색된 도서 (").append(books.size()).append("개)\n\n");
 
         sendSimpleMessage(chatId, header.toString());
 
@@ -230,6 +276,27 @@ public class LibraryTelegramBot extends TelegramLongPollingBot {
         }
     }
 
+    /**
+     * AI 추천 사유와 추천 도서 전송
+     *
+     * @param chatId         Telegram Chat ID
+     * @param keyword        검색어
+     * @param index          추천 순번
+     * @param book           추천 도서
+     * @param recommendation AI 추천 응답
+     */
+    private void sendRecommendation(Long chatId, String keyword, int index, BookSearchResponse book,
+                                    BookAiRecommendationResponse recommendation) {
+        String aiReason = recommendation.getWhy();
+        if (aiReason == null || aiReason.isBlank()) {
+            aiReason = "-";
+        } else if (aiReason.length() > 300) {
+            aiReason = aiReason.substring(0, 300) + "...";
+        }
+        sendSimpleMessage(chatId, "🤖 AI 추천 " + index + "\n💬 " + aiReason);
+        sendBookWithScore(chatId, keyword, index, book);
+    }
+
     /**
      * 도서 정보와 점수 전송
      *
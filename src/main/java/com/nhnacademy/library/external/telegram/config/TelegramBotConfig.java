@@ -1,7 +1,8 @@
 package com.nhnacademy.library.external.telegram.config;
 
 import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
-import com.nhnacademy.library.core.book.service.search.BookSearchService;
+import com.nhnacademy.library.core.book.service.personalization.PersonalizationService;
+import com.nhnacademy.library.core.book.service.search.BookSearchStreamService;
 import com.nhnacademy.library.external.telegram.bot.LibraryTelegramBot;
 import com.nhnacademy.library.external.telegram.handler.CallbackQueryHandler;
 import com.nhnacademy.library.external.telegram.keyboard.TelegramKeyboardFactory;
@@ -45,7 +46,8 @@ public class TelegramBotConfig {
      * Telegram Long Polling Bot Bean 등록
      */
     @Bean
-    public LibraryTelegramBot libraryTelegramBot(BookSearchService bookSearchService,
+    public LibraryTelegramBot libraryTelegramBot(BookSearchStreamService bookSearchStreamService,
+                                                   PersonalizationService personalizationService,
                                                    SemanticCacheService semanticCacheService,
                                                    CallbackQueryHandler callbackQueryHandler,
                                                    TelegramKeyboardFactory keyboardFactory,
@@ -55,8 +57,8 @@ public class TelegramBotConfig {
         DefaultBotOptions options = new DefaultBotOptions();
         // 예: options.setMaxThreads(5);
 
-        return new LibraryTelegramBot(properties, options, bookSearchService, semanticCacheService,
-                                      callbackQueryHandler, keyboardFactory, feedbackService);
+        return new LibraryTelegramBot(properties, options, bookSearchStreamService, personalizationService,
+                                      semanticCacheService, callbackQueryHandler, keyboardFactory, feedbackService);
     }
 
     /**
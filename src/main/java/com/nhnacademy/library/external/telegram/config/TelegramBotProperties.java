@@ -24,6 +24,11 @@ public class TelegramBotProperties {
      */
     private String username;
 
+    /**
+     * 검색 요청 하나의 시간 예산 (ms, 0 이하면 제한 없음)
+     */
+    private long searchTimeoutMs = 10_000;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -47,4 +52,12 @@ public class TelegramBotProperties {
     public void setUsername(String username) {
         this.username = username;
     }
+
+    public long getSearchTimeoutMs() {
+        return searchTimeoutMs;
+    }
+
+    public void setSearchTimeoutMs(long searchTimeoutMs) {
+        this.searchTimeoutMs = searchTimeoutMs;
+    }
 }
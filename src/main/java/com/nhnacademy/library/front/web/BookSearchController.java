@@ -2,10 +2,15 @@ package com.nhnacademy.library.front.web;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookViewResponse;
 import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.BookSearchStreamEvent;
 
+import java.io.IOException;
 import java.util.List;
 
+import com.nhnacademy.library.core.book.properties.SearchTimeoutProperties;
 import com.nhnacademy.library.core.book.service.search.BookSearchService;
+import com.nhnacademy.library.core.book.service.search.BookSearchStreamService;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
 import com.nhnacademy.library.core.review.dto.ReviewResponse;
 import com.nhnacademy.library.core.review.service.ReviewService;
 import jakarta.validation.Valid;
@@ -14,12 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 도서 검색 웹 컨트롤러
@@ -30,7 +37,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class BookSearchController {
 
     private final BookSearchService bookSearchService;
+    private final BookSearchStreamService bookSearchStreamService;
     private final ReviewService reviewService;
+    private final SearchTimeoutProperties searchTimeoutProperties;
 
     /**
      * 메인 검색 페이지를 반환합니다.
@@ -56,18 +65,67 @@ public class BookSearchController {
         }
 
         long startTime = System.currentTimeMillis();
-        BookSearchResult searchResult = bookSearchService.searchBooks(pageable, bookSearchRequest);
+        BookSearchResult searchResult = bookSearchService.searchBooks(pageable, bookSearchRequest,
+                SearchDeadline.ofMillis(searchTimeoutProperties.getRequestMs()));
         long endTime = System.currentTimeMillis();
 
         model.addAttribute("books", searchResult.getBooks().getContent());
         model.addAttribute("page", searchResult.getBooks());
         model.addAttribute("aiRecommendations", searchResult.getAiResponse());
-        model.addAttribute("request", bookSearchRequest);
+        // 페이지 이동 링크에 순위 커서를 포함하여 다음 페이지는 검색을 다시 하지 않습니다.
+        model.addAttribute("request", bookSearchRequest.withCursor(searchResult.getCursor()));
         model.addAttribute("searchTime", (endTime - startTime) / 1000.0);
 
         return "index/index";
     }
 
+    /**
+     * 검색 결과를 단계별로 전송하는 SSE 스트림을 반환합니다.
+     * 키워드 결과({@code keyword}), 하이브리드 병합 결과({@code hybrid}), RAG 요청이면 LLM 응답에서 완성되는 추천 항목
+     * ({@code recommendation}, 항목마다 하나씩)과 AI 추천 결과({@code ai}) 순으로 이벤트를 보내고,
+     * 마지막에 {@code done} 이벤트를 보낸 뒤 스트림을 닫습니다.
+     *
+     * <p>검색은 검색 Executor에서 진행되므로 요청 스레드는 스트림을 연 뒤 바로 반환됩니다.</p>
+     *
+     * @param bookSearchRequest 검색 요청 조건
+     * @param pageable          페이징 정보 (기본값 24)
+     * @return 단계별 검색 결과 스트림
+     */
+    @GetMapping(value = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter searchStream(@Valid @ModelAttribute BookSearchRequest bookSearchRequest,
+                                   @PageableDefault(size = 24) Pageable pageable) {
+        log.debug("GET /search/stream with request: {}", bookSearchRequest);
+
+        long streamMs = searchTimeoutProperties.getStreamMs();
+        SseEmitter emitter = new SseEmitter(streamMs > 0 ? streamMs : null);
+        bookSearchStreamService.search(pageable, bookSearchRequest, event -> send(emitter, event))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("[STREAM] Streaming search failed for request: {}", bookSearchRequest, e);
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                    try {
+                        emitter.send(SseEmitter.event().name("done").data(""));
+                        emitter.complete();
+                    } catch (IOException | IllegalStateException ex) {
+                        log.debug("[STREAM] Client already disconnected: {}", ex.getMessage());
+                    }
+                });
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, BookSearchStreamEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.stage().eventName())
+                    .data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 또는 스트림 시간 초과: 남은 단계는 계속 진행되어 캐시를 채웁니다.
+            log.debug("[STREAM] Failed to send {} stage: {}", event.stage(), e.getMessage());
+        }
+    }
+
     /**
      * 도서 상세 페이지를 반환합니다.
      *
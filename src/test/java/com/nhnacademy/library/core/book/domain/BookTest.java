@@ -0,0 +1,42 @@
+package com.nhnacademy.library.core.book.domain;
+
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Book 엔티티 단위 테스트
+ *
+ * <p>임베딩 지연 로딩은 빌드 시 바이트코드 향상이 적용되어야 동작하므로, 향상 적용 여부와
+ * {@code toString}이 임베딩을 읽지 않는지를 검증합니다.</p>
+ */
+@DisplayName("Book 엔티티 단위 테스트")
+class BookTest {
+
+    @Test
+    @DisplayName("임베딩 지연 로딩을 위해 Book 클래스에 바이트코드 향상이 적용되어야 한다")
+    void bookIsBytecodeEnhanced() {
+        assertThat(PersistentAttributeInterceptable.class).isAssignableFrom(Book.class);
+    }
+
+    @Test
+    @DisplayName("toString은 지연 로딩 대상인 임베딩을 포함하지 않아야 한다")
+    void toStringExcludesEmbedding() {
+        // Given
+        Book book = new Book("9788900000000", null, "테스트 도서", "저자", "출판사",
+                LocalDate.of(2024, 1, 1), BigDecimal.TEN, null, "내용", null, null);
+        book.updateEmbedding(new float[]{0.125f, 0.25f});
+
+        // When
+        String text = book.toString();
+
+        // Then
+        assertThat(text).contains("테스트 도서").doesNotContain("embedding").doesNotContain("0.125");
+        assertThat(book.getEmbedding()).containsExactly(0.125f, 0.25f);
+    }
+}
@@ -0,0 +1,139 @@
+package com.nhnacademy.library.core.book.repository;
+
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.properties.SemanticCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * InMemoryBookSearchCacheRepository 단위 테스트
+ *
+ * <p>유사 항목 조회, 키워드 일치 조회, 도서 ID 역색인 조회와 만료 항목 정리를 검증합니다.</p>
+ */
+@DisplayName("InMemoryBookSearchCacheRepository 단위 테스트")
+class InMemoryBookSearchCacheRepositoryTest {
+
+    private InMemoryBookSearchCacheRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBookSearchCacheRepository(new SemanticCacheProperties());
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 유사 항목만 조회해야 한다")
+    void findSimilarAppliesThreshold() {
+        // Given
+        repository.save(entry("자바", new float[]{0.1f, 0.2f, 0.3f}, 0));
+        repository.save(entry("파이썬", new float[]{0.9f, 0.1f, 0.1f}, 0));
+
+        // When
+        List<BookSearchCache> similar = repository.findSimilar(new float[]{0.11f, 0.21f, 0.31f}, 0.98, 5);
+
+        // Then
+        assertThat(similar).extracting(BookSearchCache::getKeyword).containsExactly("자바");
+    }
+
+    @Test
+    @DisplayName("정규화된 키워드가 같으면 동일한 항목을 조회해야 한다")
+    void findByKeywordUsesNormalizedKeyword() {
+        // Given
+        repository.save(entry("Spring Boot 입문", new float[]{0.1f, 0.2f, 0.3f}, 0));
+
+        // When & Then
+        assertThat(repository.findByKeyword("  spring   boot 입문!! ")).isPresent();
+        assertThat(repository.findByKeyword("spring 입문")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 질의로 새 항목을 저장하면 이전 항목을 대체해야 한다")
+    void saveReplacesEntryWithSameKeyword() {
+        // Given
+        repository.save(entry("자바", new float[]{0.1f, 0.2f, 0.3f}, 1_000L));
+
+        // When
+        repository.save(entry(" 자바 ", new float[]{0.1f, 0.2f, 0.3f}, 5_000L));
+
+        // Then
+        assertThat(repository.findAll()).extracting(BookSearchCache::getCreatedAt).containsExactly(5_000L);
+        assertThat(repository.findSimilar(new float[]{0.1f, 0.2f, 0.3f}, 0.98, 5))
+                .extracting(BookSearchCache::getCreatedAt).containsExactly(5_000L);
+    }
+
+    @Test
+    @DisplayName("삭제된 항목은 키워드로 조회되지 않아야 한다")
+    void findByKeywordIgnoresDeletedEntries() {
+        // Given
+        BookSearchCache saved = repository.save(entry("자바", new float[]{0.1f, 0.2f, 0.3f}, 0));
+
+        // When
+        repository.delete(saved);
+
+        // Then
+        assertThat(repository.findByKeyword("자바")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서 ID로 그 도서를 포함하는 항목만 조회하고, 대체되거나 삭제된 항목은 제외해야 한다")
+    void findByBookIdTracksContainedBooks() {
+        // Given
+        BookSearchCache java = repository.save(entry("자바", new float[]{0.1f, 0.2f, 0.3f}, 1_000L, 1L, 2L));
+        BookSearchCache python = repository.save(entry("파이썬", new float[]{0.9f, 0.1f, 0.1f}, 1_000L, 2L));
+
+        // When
+        BookSearchCache refreshed = repository.save(entry("자바", new float[]{0.1f, 0.2f, 0.3f}, 5_000L, 3L));
+        repository.delete(python);
+
+        // Then
+        assertThat(repository.findByBookId(1L)).isEmpty();
+        assertThat(repository.findByBookId(2L)).isEmpty();
+        assertThat(repository.findByBookId(3L)).containsExactly(refreshed);
+        assertThat(java.getId()).isNotEqualTo(refreshed.getId());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전에 생성된 항목을 삭제하고 반환해야 한다")
+    void deleteCreatedBeforeRemovesExpiredEntries() {
+        // Given
+        repository.save(entry("old", new float[]{1.0f, 0.0f}, 1_000L));
+        repository.save(entry("new", new float[]{0.0f, 1.0f}, 5_000L));
+
+        // When
+        List<BookSearchCache> expired = repository.deleteCreatedBefore(2_000L);
+
+        // Then
+        assertThat(expired).extracting(BookSearchCache::getKeyword).containsExactly("old");
+        assertThat(repository.findAll()).extracting(BookSearchCache::getKeyword).containsExactly("new");
+        assertThat(repository.findSimilar(new float[]{1.0f, 0.0f}, 0.98, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 크기 제한이 0 이하이면 예외가 발생해야 한다")
+    void invalidBoundsThrowException() {
+        // Given
+        SemanticCacheProperties properties = new SemanticCacheProperties();
+        properties.setMaxEntries(0);
+
+        // When & Then
+        assertThatThrownBy(() -> new InMemoryBookSearchCacheRepository(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BookSearchCache entry(String keyword, float[] vector, long createdAt, Long... bookIds) {
+        return BookSearchCache.builder()
+                .keyword(keyword)
+                .vector(vector)
+                .hits(Arrays.stream(bookIds).map(id -> new HybridSearchHit(id, 0.01, 0.9)).toList())
+                .aiResponse(List.of())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.nhnacademy.library.core.book.service.ai;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.model.ChatModel;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiRecommendationService 단위 테스트
+ *
+ * <p>스트리밍 추천 응답의 점진적 변환과 점수 매핑, 마감 시각을 넘긴 LLM 호출의 취소를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AiRecommendationService 단위 테스트")
+class AiRecommendationServiceTest {
+
+    @Mock
+    private ChatModel chatModel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final BookSearchResponse book = new BookSearchResponse(7L, "isbn", "자바의 정석", null, "남궁성",
+            null, null, null, null, "내용", 0.8, 0.03);
+
+    @Test
+    @DisplayName("스트리밍 추천은 LLM 응답 조각에서 완성된 항목을 방출하고 유사도와 RRF 점수를 채워야 한다")
+    void recommendStreamEmitsEnrichedItems() {
+        // Given
+        AiRecommendationService service = new AiRecommendationService(chatModel, objectMapper);
+        when(chatModel.stream(anyString())).thenReturn(Flux.just(
+                "```json\n[{\"id\": 7, \"relevance\"", ": 90, \"why\": \"입문서입니다\"}", "]```"));
+
+        // When
+        List<BookAiRecommendationResponse> recommendations =
+                service.recommendStream("자바", List.of(book)).collectList().block();
+
+        // Then
+        assertThat(recommendations).hasSize(1);
+        BookAiRecommendationResponse rec = recommendations.get(0);
+        assertThat(rec.getId()).isEqualTo(7L);
+        assertThat(rec.getRelevance()).isEqualTo(90);
+        assertThat(rec.getSimilarity()).isEqualTo(0.8);
+        assertThat(rec.getRrfScore()).isEqualTo(0.03);
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 LLM 응답이 없으면 빈 추천을 반환하고 진행 중인 호출을 인터럽트해야 한다")
+    void recommendCancelsCallAfterDeadline() throws InterruptedException {
+        // Given (인터럽트될 때까지 응답하지 않는 LLM)
+        AiRecommendationService service = new AiRecommendationService(chatModel, objectMapper);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(chatModel.call(anyString())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "[]";
+        });
+
+        // When
+        List<BookAiRecommendationResponse> recommendations =
+                service.recommend("자바", List.of(book), SearchDeadline.ofMillis(100));
+
+        // Then
+        assertThat(recommendations).isEmpty();
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("후보 도서가 없으면 LLM을 호출하지 않아야 한다")
+    void recommendStreamSkipsEmptyCandidates() {
+        // Given
+        AiRecommendationService service = new AiRecommendationService(chatModel, objectMapper);
+
+        // When
+        List<BookAiRecommendationResponse> recommendations =
+                service.recommendStream("자바", List.of()).collectList().block();
+
+        // Then
+        assertThat(recommendations).isEmpty();
+        verify(chatModel, never()).stream(anyString());
+    }
+}
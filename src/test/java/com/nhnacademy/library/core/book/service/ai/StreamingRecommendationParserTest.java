@@ -0,0 +1,73 @@
+package com.nhnacademy.library.core.book.service.ai;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StreamingRecommendationParser 단위 테스트
+ *
+ * <p>토큰 단위로 나뉘어 도착하는 추천 JSON 배열을 객체가 닫히는 즉시 변환하는지 검증합니다.</p>
+ */
+@DisplayName("StreamingRecommendationParser 단위 테스트")
+class StreamingRecommendationParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final StreamingRecommendationParser parser = new StreamingRecommendationParser(objectMapper);
+
+    @Test
+    @DisplayName("객체 하나가 닫히는 조각에서 바로 추천 항목을 반환해야 한다")
+    void emitsEachObjectAsSoonAsItCloses() {
+        // Given (마크다운 코드 블록 + 한글이 조각 경계에 걸친 응답)
+        List<String> chunks = List.of("```json\n[", "{\"id\": 1, \"relev", "ance\": 95, \"why\": \"자바 입",
+                "문서입니다\"}", ", {\"id\": 2, \"relevance\": 70, \"why\": \"참고서\"}", "]\n```");
+
+        // When
+        List<Integer> emittedAt = new ArrayList<>();
+        List<BookAiRecommendationResponse> recommendations = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            for (BookAiRecommendationResponse rec : parser.feed(chunks.get(i))) {
+                recommendations.add(rec);
+                emittedAt.add(i);
+            }
+        }
+
+        // Then
+        assertThat(recommendations).extracting(BookAiRecommendationResponse::getId).containsExactly(1L, 2L);
+        assertThat(recommendations.get(0).getWhy()).isEqualTo("자바 입문서입니다");
+        assertThat(recommendations.get(0).getRelevance()).isEqualTo(95);
+        assertThat(emittedAt).containsExactly(3, 4);
+    }
+
+    @Test
+    @DisplayName("문법 오류 이후의 응답은 무시하고, 그 전까지 완성된 항목만 반환해야 한다")
+    void stopsAtMalformedJson() {
+        // When
+        List<BookAiRecommendationResponse> first = parser.feed("[{\"id\": 1, \"relevance\": 80}, {\"id\": 2,, ");
+        List<BookAiRecommendationResponse> rest = parser.feed("\"relevance\": 60}, {\"id\": 3}]");
+
+        // Then
+        assertThat(first).extracting(BookAiRecommendationResponse::getId).containsExactly(1L);
+        assertThat(rest).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중첩된 값이 있는 항목도 객체 단위로 변환하고, 형식이 맞지 않는 항목은 건너뛰어야 한다")
+    void handlesNestedValuesAndSkipsInvalidItems() {
+        // When
+        List<BookAiRecommendationResponse> recommendations = parser.feed(
+                "[{\"id\": \"잘못된 ID\"}, {\"id\": 5, \"tags\": [{\"a\": 1}], \"relevance\": 60}]");
+
+        // Then
+        assertThat(recommendations).extracting(BookAiRecommendationResponse::getId).containsExactly(5L);
+        assertThat(recommendations.get(0).getRelevance()).isEqualTo(60);
+    }
+}
@@ -0,0 +1,279 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.properties.SearchTimeoutProperties;
+import com.nhnacademy.library.core.book.properties.WarmUpAdmissionProperties;
+import com.nhnacademy.library.core.book.properties.WarmUpLeaseProperties;
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingService;
+import com.nhnacademy.library.core.book.service.search.strategy.RagSearchStrategy;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BookSearchCacheService 단위 테스트
+ *
+ * <p>같은 키워드의 워밍업 요청이 노드 안에서는 진행 중인 작업 하나를, 노드 간에는 리스를 가진 노드의 결과를 공유하는지,
+ * 허용 필터를 통과한 질의만 워밍업을 시작하는지 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchCacheService 단위 테스트")
+class BookSearchCacheServiceTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private SemanticCacheService semanticCacheService;
+
+    @Mock
+    private RagSearchStrategy ragSearchStrategy;
+
+    @Mock
+    private EmbeddingService embeddingService;
+
+    @Mock
+    private WarmUpCoordinator warmUpCoordinator;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final BookSearchResult aiResult = new BookSearchResult(new PageImpl<>(List.of()), List.of());
+
+    private BookSearchCacheService newService(Executor executor, WarmUpCoordinator coordinator) {
+        WarmUpAdmissionProperties admissionProperties = new WarmUpAdmissionProperties();
+        admissionProperties.setEnabled(false);
+        return newService(executor, coordinator, admissionProperties);
+    }
+
+    private BookSearchCacheService newService(Executor executor, WarmUpCoordinator coordinator,
+                                              WarmUpAdmissionProperties admissionProperties) {
+        WarmUpLeaseProperties leaseProperties = new WarmUpLeaseProperties();
+        leaseProperties.setPollIntervalMs(1);
+        return new BookSearchCacheService(applicationContext, semanticCacheService, new SearchTimeoutProperties(),
+                executor, coordinator, leaseProperties,
+                new WarmUpAdmissionFilter(admissionProperties, new SimpleMeterRegistry()));
+    }
+
+    private void givenCacheMissAndEmbedding() {
+        when(semanticCacheService.findExactResult("자바")).thenReturn(Optional.empty());
+        when(semanticCacheService.findSimilarResult(any())).thenReturn(Optional.empty());
+        when(applicationContext.getBean(RagSearchStrategy.class)).thenReturn(ragSearchStrategy);
+        when(applicationContext.getBean(EmbeddingService.class)).thenReturn(embeddingService);
+        when(embeddingService.getEmbedding("자바")).thenReturn(new float[]{0.1f});
+    }
+
+    @Test
+    @DisplayName("진행 중인 워밍업이 있으면 같은 작업을 반환하여 LLM 검색을 한 번만 수행해야 한다")
+    void sharesInFlightWarmUp() {
+        // Given (제출된 작업을 큐에 보관했다가 직접 실행)
+        BookSearchCacheService service = newService(queued::add, new LocalWarmUpCoordinator());
+        givenCacheMissAndEmbedding();
+        when(ragSearchStrategy.warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any()))
+                .thenReturn(aiResult);
+
+        // When
+        CompletableFuture<BookSearchResult> first = service.warmUp("자바");
+        service.warmUpRagCache("자바");
+        CompletableFuture<BookSearchResult> second = service.warmUp("자바");
+        queued.forEach(Runnable::run);
+
+        // Then
+        assertThat(queued).hasSize(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.join()).isSameAs(aiResult);
+        verify(ragSearchStrategy, times(1)).warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any());
+
+        // 완료된 작업은 목록에서 제거되어 다음 요청은 새로 시작됨
+        assertThat(service.warmUp("자바")).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("워밍업이 생성한 추천 항목은 늦게 합류한 요청에도 처음부터 전달되어야 한다")
+    void replaysRecommendationsToJoinedStreams() {
+        // Given (워밍업이 LLM 응답에서 추천 항목 두 개를 완성)
+        BookSearchCacheService service = newService(queued::add, new LocalWarmUpCoordinator());
+        givenCacheMissAndEmbedding();
+        BookAiRecommendationResponse first = new BookAiRecommendationResponse();
+        first.setId(1L);
+        BookAiRecommendationResponse second = new BookAiRecommendationResponse();
+        second.setId(2L);
+        when(ragSearchStrategy.warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<BookAiRecommendationResponse> onRecommendation = invocation.getArgument(2);
+                    onRecommendation.accept(first);
+                    onRecommendation.accept(second);
+                    return aiResult;
+                });
+
+        // When (두 요청이 같은 워밍업을 공유하고, 두 번째 요청은 항목이 생성된 뒤에 구독)
+        BookSearchCacheService.StreamingWarmUp leader = service.warmUpStreaming("자바");
+        BookSearchCacheService.StreamingWarmUp joined = service.warmUpStreaming("자바");
+        List<BookAiRecommendationResponse> leaderItems = new ArrayList<>();
+        leader.recommendations().subscribe(leaderItems::add);
+        queued.forEach(Runnable::run);
+        List<BookAiRecommendationResponse> joinedItems = joined.recommendations().collectList().block();
+
+        // Then
+        assertThat(queued).hasSize(1);
+        assertThat(joined.result()).isSameAs(leader.result());
+        assertThat(leader.result().join()).isSameAs(aiResult);
+        assertThat(leaderItems).containsExactly(first, second);
+        assertThat(joinedItems).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("허용 필터가 거부한 질의는 빈 추천 스트림을 반환해야 한다")
+    void rejectedQueryReturnsEmptyRecommendations() {
+        // Given (두 번째 검색부터 허용)
+        BookSearchCacheService service = newService(queued::add, new LocalWarmUpCoordinator(),
+                new WarmUpAdmissionProperties());
+
+        // When
+        BookSearchCacheService.StreamingWarmUp rejected = service.warmUpStreaming("자바");
+
+        // Then
+        assertThat(rejected.result().join()).isNull();
+        assertThat(rejected.recommendations().collectList().block()).isEmpty();
+        assertThat(queued).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백, 대소문자만 다른 질의는 정규화된 질의로 진행 중인 워밍업 하나를 공유해야 한다")
+    void sharesInFlightWarmUpAcrossNormalizedKeywords() {
+        // Given
+        BookSearchCacheService service = newService(queued::add, new LocalWarmUpCoordinator());
+
+        // When
+        CompletableFuture<BookSearchResult> first = service.warmUp("Java 입문");
+        CompletableFuture<BookSearchResult> second = service.warmUp("  java   입문 ");
+
+        // Then
+        assertThat(queued).hasSize(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("허용 필터가 거부한 질의는 워밍업을 시작하지 않고 null로 완료하며, 진행 중인 작업에는 필터 없이 합류해야 한다")
+    void rejectedQueryDoesNotStartWarmUp() {
+        // Given (두 번째 검색부터 허용)
+        BookSearchCacheService service = newService(queued::add, new LocalWarmUpCoordinator(),
+                new WarmUpAdmissionProperties());
+
+        // When
+        CompletableFuture<BookSearchResult> rejected = service.warmUp("자바");
+        CompletableFuture<BookSearchResult> admitted = service.warmUp(" 자바 ");
+        CompletableFuture<BookSearchResult> joined = service.warmUp("자바");
+
+        // Then
+        assertThat(rejected).isCompletedWithValue(null);
+        assertThat(admitted).isNotDone();
+        assertThat(joined).isSameAs(admitted);
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("워밍업 Executor가 작업을 거부하면 예외로 완료되고 다음 요청에서 다시 시도할 수 있어야 한다")
+    void rejectedWarmUpIsNotLeftInFlight() {
+        // Given
+        BookSearchCacheService service = newService(task -> {
+            throw new RejectedExecutionException("saturated");
+        }, new LocalWarmUpCoordinator());
+
+        // When
+        CompletableFuture<BookSearchResult> rejected = service.warmUp("자바");
+
+        // Then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(service.warmUp("자바")).isNotSameAs(rejected);
+    }
+
+    @Test
+    @DisplayName("리스를 획득한 노드는 생성한 캐시 항목을 공유하고 리스를 반납해야 한다")
+    void leaseHolderPublishesResult() {
+        // Given
+        BookSearchCacheService service = newService(Runnable::run, warmUpCoordinator);
+        givenCacheMissAndEmbedding();
+        BookSearchCache entry = BookSearchCache.builder().keyword("자바").createdAt(System.currentTimeMillis()).build();
+        when(warmUpCoordinator.findShared("자바")).thenReturn(Optional.empty());
+        when(warmUpCoordinator.tryAcquire("자바")).thenReturn(Optional.of("token"));
+        when(ragSearchStrategy.warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any()))
+                .thenReturn(aiResult);
+        when(semanticCacheService.findExactEntry("자바")).thenReturn(Optional.of(entry));
+        when(semanticCacheService.isFresh(entry)).thenReturn(true);
+
+        // When
+        BookSearchResult result = service.warmUp("자바").join();
+
+        // Then
+        assertThat(result).isSameAs(aiResult);
+        verify(warmUpCoordinator).publish("자바", entry);
+        verify(warmUpCoordinator).release("자바", "token");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 가지고 있으면 LLM 검색 없이 그 노드가 공유한 결과를 기다려 가져와야 한다")
+    void waitsForSharedResultFromLeaseHolder() {
+        // Given (첫 확인과 첫 폴링에서는 결과가 없고, 두 번째 폴링에서 공유됨)
+        BookSearchCacheService service = newService(Runnable::run, warmUpCoordinator);
+        givenCacheMissAndEmbedding();
+        BookSearchCache entry = BookSearchCache.builder().keyword("자바").createdAt(System.currentTimeMillis()).build();
+        when(warmUpCoordinator.findShared("자바"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(entry));
+        when(warmUpCoordinator.tryAcquire("자바")).thenReturn(Optional.empty());
+        when(warmUpCoordinator.isHeld("자바")).thenReturn(true);
+        when(semanticCacheService.adopt(entry)).thenReturn(Optional.of(aiResult));
+
+        // When
+        BookSearchResult result = service.warmUp("자바").join();
+
+        // Then
+        assertThat(result).isSameAs(aiResult);
+        verify(ragSearchStrategy, never()).warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any());
+        verify(warmUpCoordinator, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("갱신 요청은 기존 캐시 항목을 사용하지 않고 RAG 검색을 다시 수행해야 한다")
+    void refreshBypassesExistingCache() {
+        // Given
+        BookSearchCacheService service = newService(Runnable::run, new LocalWarmUpCoordinator());
+        when(applicationContext.getBean(RagSearchStrategy.class)).thenReturn(ragSearchStrategy);
+        when(applicationContext.getBean(EmbeddingService.class)).thenReturn(embeddingService);
+        when(embeddingService.getEmbedding("자바")).thenReturn(new float[]{0.1f});
+        when(ragSearchStrategy.warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any()))
+                .thenReturn(aiResult);
+
+        // When
+        service.refreshRagCache("자바");
+
+        // Then
+        verify(ragSearchStrategy).warmUp(any(BookSearchRequest.class), any(SearchDeadline.class), any());
+        verify(semanticCacheService, never()).findExactResult(any());
+        verify(semanticCacheService, never()).findSimilarResult(any());
+    }
+}
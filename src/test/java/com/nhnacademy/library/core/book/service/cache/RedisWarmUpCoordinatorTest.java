@@ -0,0 +1,143 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.library.core.book.properties.WarmUpLeaseProperties;
+import com.nhnacademy.library.core.book.service.cache.RedisWarmUpCoordinator.InvalidationScope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RedisWarmUpCoordinator 단위 테스트
+ *
+ * <p>리스 획득/반납 명령, Redis 장애 시 로컬 생성으로의 전환과 노드 간 무효화 메시지를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisWarmUpCoordinator 단위 테스트")
+class RedisWarmUpCoordinatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisWarmUpCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new RedisWarmUpCoordinator(redisTemplate, new ObjectMapper(), new WarmUpLeaseProperties());
+    }
+
+    @Test
+    @DisplayName("리스는 만료 시간과 함께 키가 없을 때만 설정하고, 획득한 토큰으로만 반납해야 한다")
+    void acquiresWithSetNxPxAndReleasesWithToken() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("warm-up:lease:자바"), anyString(), eq(Duration.ofMillis(90_000))))
+                .thenReturn(true, false);
+
+        // When
+        Optional<String> first = coordinator.tryAcquire("자바");
+        Optional<String> second = coordinator.tryAcquire("자바");
+        coordinator.release("자바", first.orElseThrow());
+
+        // Then
+        assertThat(second).isEmpty();
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("warm-up:lease:자바")), eq(first.get()));
+    }
+
+    @Test
+    @DisplayName("Redis에 연결할 수 없으면 리스를 허용하여 각 노드가 직접 생성해야 한다")
+    void failsOpenWhenRedisUnavailable() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        Optional<String> lease = coordinator.tryAcquire("자바");
+        coordinator.release("자바", lease.orElseThrow());
+
+        // Then
+        assertThat(lease).isPresent();
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("무효화는 채널로 발행하여 다른 노드만 도서 ID를 읽고, 자신이 발행한 메시지는 무시해야 한다")
+    void broadcastsInvalidationToOtherNodesOnly() {
+        // Given
+        RedisWarmUpCoordinator otherNode =
+                new RedisWarmUpCoordinator(redisTemplate, new ObjectMapper(), new WarmUpLeaseProperties());
+
+        // When
+        coordinator.broadcastInvalidation(List.of(7L, 8L));
+
+        // Then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisWarmUpCoordinator.INVALIDATION_CHANNEL), message.capture());
+        assertThat(coordinator.parseInvalidation(message.getValue())).isEmpty();
+        assertThat(otherNode.parseInvalidation(message.getValue())).contains(
+                new RedisWarmUpCoordinator.Invalidation(InvalidationScope.SEARCH_RESULTS, List.of(7L, 8L)));
+        assertThat(otherNode.parseInvalidation("node:results:7,x")).isEmpty();
+        assertThat(otherNode.parseInvalidation("node:unknown:7")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서 카드 무효화는 같은 채널로 발행하여 다른 노드가 카드 범위로 읽어야 한다")
+    void broadcastsCardInvalidationOnSameChannel() {
+        // Given
+        RedisWarmUpCoordinator otherNode =
+                new RedisWarmUpCoordinator(redisTemplate, new ObjectMapper(), new WarmUpLeaseProperties());
+
+        // When
+        coordinator.broadcastCardInvalidation(List.of(7L));
+
+        // Then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisWarmUpCoordinator.INVALIDATION_CHANNEL), message.capture());
+        assertThat(otherNode.parseInvalidation(message.getValue())).contains(
+                new RedisWarmUpCoordinator.Invalidation(InvalidationScope.BOOK_CARDS, List.of(7L)));
+    }
+
+    @Test
+    @DisplayName("공유 항목 제거는 결과 키를 삭제하고, Redis 장애 시에도 예외를 던지지 않아야 한다")
+    void discardsSharedResult() {
+        // Given
+        when(redisTemplate.delete(startsWith("warm-up:result:")))
+                .thenReturn(true)
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        coordinator.discardShared("자바");
+        coordinator.discardShared("파이썬");
+
+        // Then
+        verify(redisTemplate).delete("warm-up:result:자바");
+        verify(redisTemplate).delete("warm-up:result:파이썬");
+    }
+}
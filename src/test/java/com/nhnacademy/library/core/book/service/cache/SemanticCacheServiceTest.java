@@ -0,0 +1,218 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.event.SemanticCacheRefreshEvent;
+import com.nhnacademy.library.core.book.properties.SemanticCacheProperties;
+import com.nhnacademy.library.core.book.repository.InMemoryBookSearchCacheRepository;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
+import com.nhnacademy.library.core.book.util.TextPreprocessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SemanticCacheService 단위 테스트
+ *
+ * <p>soft TTL이 지난 항목의 반환과 백그라운드 갱신 요청, hard TTL 만료, 도서 ID 기반 저장과 도서 변경 시 노드 간 무효화를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SemanticCacheService 단위 테스트")
+class SemanticCacheServiceTest {
+
+    private static final long MINUTE = 60 * 1000L;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookCardCache bookCardCache;
+
+    @Mock
+    private WarmUpCoordinator warmUpCoordinator;
+
+    private InMemoryBookSearchCacheRepository repository;
+    private SemanticCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        SemanticCacheProperties properties = new SemanticCacheProperties();
+        properties.setHardTtlMinutes(120);
+        repository = new InMemoryBookSearchCacheRepository(properties);
+        service = new SemanticCacheService(repository, properties, eventPublisher, bookCardCache, warmUpCoordinator);
+        ReflectionTestUtils.setField(service, "cacheTtlMinutes", 30);
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지난 항목은 그대로 반환하고 갱신 이벤트를 한 번만 발행해야 한다")
+    void staleEntryIsServedAndRefreshedOnce() {
+        // Given
+        repository.save(entry("자바", System.currentTimeMillis() - 60 * MINUTE));
+
+        // When
+        boolean first = service.findExactResult("자바").isPresent();
+        boolean second = service.findExactResult("자바").isPresent();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        ArgumentCaptor<SemanticCacheRefreshEvent> event = ArgumentCaptor.forClass(SemanticCacheRefreshEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getKeyword()).isEqualTo("자바");
+    }
+
+    @Test
+    @DisplayName("soft TTL 이내의 항목은 갱신 이벤트 없이 반환해야 한다")
+    void freshEntryIsServedWithoutRefresh() {
+        // Given
+        BookSearchCache entry = entry("자바", System.currentTimeMillis() - MINUTE);
+        repository.save(entry);
+
+        // When & Then
+        assertThat(service.findExactResult("자바")).isPresent();
+        assertThat(service.isFresh(entry)).isTrue();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("hard TTL이 지난 항목은 삭제하고 반환하지 않아야 한다")
+    void hardExpiredEntryIsEvicted() {
+        // Given
+        repository.save(entry("자바", System.currentTimeMillis() - 180 * MINUTE));
+
+        // When & Then
+        assertThat(service.findExactResult("자바")).isEmpty();
+        assertThat(repository.findAll()).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("저장한 결과는 도서 ID와 점수만 보관하고, 조회 시 도서 카드로 채워야 한다")
+    void savesIdsAndHydratesFromBookCards() {
+        // Given
+        BookSearchResponse book = new BookSearchResponse(7L, "isbn-7", "도서 7", null, "저자", "출판사",
+                BigDecimal.TEN, LocalDate.of(2024, 1, 1), null, "내용", 0.9, 0.03);
+        BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.RAG, new float[]{0.1f, 0.2f, 0.3f});
+        List<HybridSearchHit> hits = List.of(new HybridSearchHit(7L, 0.03, 0.9));
+        when(bookCardCache.hydrate(hits)).thenReturn(List.of(book));
+
+        // When
+        service.save(request, new BookSearchResult(new PageImpl<>(List.of(book)), List.of()));
+        Optional<BookSearchResult> result = service.findExactResult("자바");
+
+        // Then
+        assertThat(repository.findByKeyword("자바")).get()
+                .extracting(BookSearchCache::getHits).isEqualTo(hits);
+        assertThat(result).get().extracting(r -> r.getBooks().getContent()).isEqualTo(List.of(book));
+    }
+
+    @Test
+    @DisplayName("포함한 도서가 바뀌면 soft TTL 이내의 항목도 오래된 항목으로 반환하고 갱신을 요청해야 한다")
+    void invalidatedEntryIsServedAndRefreshed() {
+        // Given
+        BookSearchCache affected = entry("자바", System.currentTimeMillis() - MINUTE);
+        affected.setHits(List.of(new HybridSearchHit(7L, 0.03, 0.9)));
+        BookSearchCache unaffected = entry("파이썬", System.currentTimeMillis() - MINUTE);
+        unaffected.setHits(List.of(new HybridSearchHit(8L, 0.03, 0.9)));
+        repository.save(affected);
+        repository.save(unaffected);
+
+        // When
+        int invalidated = service.invalidateBooks(List.of(7L));
+
+        // Then
+        assertThat(invalidated).isEqualTo(1);
+        assertThat(service.isFresh(affected)).isFalse();
+        assertThat(service.isFresh(unaffected)).isTrue();
+        assertThat(service.findExactResult("자바")).isPresent();
+        ArgumentCaptor<SemanticCacheRefreshEvent> event = ArgumentCaptor.forClass(SemanticCacheRefreshEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getKeyword()).isEqualTo("자바");
+    }
+
+    @Test
+    @DisplayName("무효화 전에 생성된 다른 노드의 같은 질의 항목은 최신으로 보지 않아야 한다")
+    void sharedEntryCreatedBeforeInvalidationIsNotFresh() {
+        // Given
+        long createdAt = System.currentTimeMillis() - MINUTE;
+        BookSearchCache local = entry("자바", createdAt);
+        local.setHits(List.of(new HybridSearchHit(7L, 0.03, 0.9)));
+        repository.save(local);
+        BookSearchCache shared = entry("자바", createdAt);
+
+        // When
+        service.invalidateBooks(List.of(7L));
+
+        // Then
+        assertThat(service.isFresh(shared)).isFalse();
+        assertThat(service.isFresh(entry("파이썬", createdAt))).isTrue();
+    }
+
+    @Test
+    @DisplayName("도서가 바뀌면 다른 노드에 무효화를 알리고 영향받은 질의의 공유 항목만 제거해야 한다")
+    void invalidationIsBroadcastAndSharedEntryDiscarded() {
+        // Given
+        BookSearchCache affected = entry("  Java  Spring ", System.currentTimeMillis() - MINUTE);
+        affected.setHits(List.of(new HybridSearchHit(7L, 0.03, 0.9)));
+        repository.save(affected);
+        repository.save(entry("파이썬", System.currentTimeMillis() - MINUTE));
+
+        // When
+        service.invalidateBooks(List.of(7L));
+
+        // Then
+        verify(warmUpCoordinator).broadcastInvalidation(List.of(7L));
+        verify(warmUpCoordinator).discardShared(TextPreprocessor.preprocess("  Java  Spring "));
+        verify(warmUpCoordinator, never()).discardShared("파이썬");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 알린 무효화는 다시 알리지 않고 이 노드의 항목만 무효화해야 한다")
+    void remoteInvalidationIsAppliedLocallyWithoutRebroadcast() {
+        // Given
+        BookSearchCache affected = entry("자바", System.currentTimeMillis() - MINUTE);
+        affected.setHits(List.of(new HybridSearchHit(7L, 0.03, 0.9)));
+        repository.save(affected);
+
+        // When
+        int invalidated = service.invalidateLocalBooks(List.of(7L));
+
+        // Then
+        assertThat(invalidated).isEqualTo(1);
+        assertThat(service.isFresh(affected)).isFalse();
+        verify(warmUpCoordinator, never()).broadcastInvalidation(any());
+    }
+
+    private BookSearchCache entry(String keyword, long createdAt) {
+        return BookSearchCache.builder()
+                .keyword(keyword)
+                .vector(new float[]{0.1f, 0.2f, 0.3f})
+                .hits(List.of())
+                .aiResponse(List.of())
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -15,7 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.cache.CacheManager;
+import com.nhnacademy.library.core.book.domain.BookSearchCache;
+import com.nhnacademy.library.core.book.repository.BookSearchCacheRepository;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
@@ -39,10 +40,7 @@ class SemanticCachingTest {
     private BookSearchService bookSearchService;
 
     @Autowired
-    private CacheManager cacheManager;
-
-    @Autowired
-    private org.springframework.context.ApplicationContext applicationContext;
+    private BookSearchCacheRepository cacheRepository;
 
     @MockitoBean
     private ChatModel chatModel;
@@ -71,7 +69,7 @@ class SemanticCachingTest {
         PageRequest pageable = PageRequest.of(0, 10);
 
         // 캐시 초기화
-        cacheManager.getCache("bookSearchCache").clear();
+        cacheRepository.deleteAll();
 
         // Mock 설정
         when(embeddingService.getEmbedding(keyword1)).thenReturn(vector1);
@@ -90,10 +88,8 @@ class SemanticCachingTest {
         
         // Then: 비동기 warm-up이 완료될 때까지 대기
         boolean cached = false;
-        // warm-up 과정에서 저장되는 캐시 키는 isWarmUp=true 상태임
-        BookSearchRequest expectedCacheKey1 = new BookSearchRequest(keyword1, null, SearchType.RAG, vector1, true);
         for (int i = 0; i < 50; i++) {
-            if (cacheManager.getCache("bookSearchCache").get(expectedCacheKey1) != null) {
+            if (cacheRepository.findByKeyword(keyword1).isPresent()) {
                 cached = true;
                 break;
             }
@@ -115,9 +111,8 @@ class SemanticCachingTest {
         bookSearchService.searchBooks(pageable, request3);
         
         // Then: 비동기 warm-up이 완료될 때까지 대기
-        BookSearchRequest expectedCacheKey3 = new BookSearchRequest(keyword3, null, SearchType.RAG, vector3, true);
         for (int i = 0; i < 50; i++) {
-            if (cacheManager.getCache("bookSearchCache").get(expectedCacheKey3) != null) {
+            if (cacheRepository.findByKeyword(keyword3).isPresent()) {
                 break;
             }
             Thread.sleep(100);
@@ -137,7 +132,7 @@ class SemanticCachingTest {
         BookSearchRequest request = new BookSearchRequest(keyword, null, SearchType.RAG, null);
         PageRequest pageable = PageRequest.of(0, 10);
 
-        cacheManager.getCache("bookSearchCache").clear();
+        cacheRepository.deleteAll();
         when(embeddingService.getEmbedding(keyword)).thenReturn(vector);
         
         BookSearchResponse mockResponseExp = new BookSearchResponse(1L, "123456", "테스트 도서", null, "저자", "출판사", 
@@ -150,9 +145,8 @@ class SemanticCachingTest {
         bookSearchService.searchBooks(pageable, request);
         
         // 캐시 생성 대기
-        BookSearchRequest cacheKey = new BookSearchRequest(keyword, null, SearchType.RAG, vector, true);
         for (int i = 0; i < 50; i++) {
-            if (cacheManager.getCache("bookSearchCache").get(cacheKey) != null) break;
+            if (cacheRepository.findByKeyword(keyword).isPresent()) break;
             Thread.sleep(100);
         }
         verify(chatModel, atLeastOnce()).call(anyString());
@@ -160,20 +154,12 @@ class SemanticCachingTest {
                 .filter(inv -> inv.getMethod().getName().equals("call"))
                 .count();
 
-        // 캐시 강제 만료 처리 (createdAt을 과거로 변경)
-        com.nhnacademy.library.core.book.dto.BookSearchResult cachedResult = (com.nhnacademy.library.core.book.dto.BookSearchResult) cacheManager.getCache("bookSearchCache").get(cacheKey).get();
-        // createdAt을 2분 전으로 설정 (TTL은 1분)
-        com.nhnacademy.library.core.book.dto.BookSearchResult expiredResult = new com.nhnacademy.library.core.book.dto.BookSearchResult(
-                cachedResult.getBooks(), cachedResult.getAiResponse(), System.currentTimeMillis() - 120000);
-        
-        // Redis 캐시 리포지토리에서도 만료 처리 (FindSimilarResultInCache는 이걸 먼저 봄)
-        for (com.nhnacademy.library.core.book.domain.BookSearchCache entry : ((com.nhnacademy.library.core.book.repository.BookSearchCacheRepository)applicationContext.getBean(com.nhnacademy.library.core.book.repository.BookSearchCacheRepository.class)).findAll()) {
+        // 캐시 강제 만료 처리 (createdAt을 2분 전으로 설정, TTL은 1분)
+        for (BookSearchCache entry : cacheRepository.findAll()) {
             if (entry.getKeyword().equals(keyword)) {
                 entry.setCreatedAt(System.currentTimeMillis() - 120000);
             }
         }
-        
-        cacheManager.getCache("bookSearchCache").put(cacheKey, expiredResult);
 
         // When 2: TTL 만료 후 다시 검색
         log.info("Searching after cache expiration...");
@@ -0,0 +1,55 @@
+package com.nhnacademy.library.core.book.service.cache;
+
+import com.nhnacademy.library.core.book.properties.WarmUpAdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WarmUpAdmissionFilter 단위 테스트
+ *
+ * <p>빈도 기준의 워밍업 허용 여부와 허용/거부 지표를 검증합니다.</p>
+ */
+@DisplayName("WarmUpAdmissionFilter 단위 테스트")
+class WarmUpAdmissionFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WarmUpAdmissionProperties properties = new WarmUpAdmissionProperties();
+
+    @Test
+    @DisplayName("정규화된 질의가 최소 빈도에 도달해야 워밍업을 허용해야 한다")
+    void admitsOnlyRepeatedQueries() {
+        // Given
+        WarmUpAdmissionFilter filter = new WarmUpAdmissionFilter(properties, meterRegistry);
+
+        // When
+        boolean first = filter.admit("Spring Boot 입문");
+        boolean second = filter.admit("  spring   boot 입문!! ");
+        boolean typo = filter.admit("sprnig boot 입문");
+
+        // Then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        assertThat(typo).isFalse();
+        assertThat(count("admitted")).isEqualTo(1);
+        assertThat(count("rejected")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터를 끄면 모든 질의를 허용해야 한다")
+    void admitsEverythingWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        WarmUpAdmissionFilter filter = new WarmUpAdmissionFilter(properties, meterRegistry);
+
+        // When & Then
+        assertThat(filter.admit("자바")).isTrue();
+        assertThat(count("admitted")).isEqualTo(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("warm-up.admission").tag("result", result).counter().count();
+    }
+}
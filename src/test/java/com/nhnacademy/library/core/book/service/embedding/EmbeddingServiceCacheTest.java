@@ -0,0 +1,119 @@
+package com.nhnacademy.library.core.book.service.embedding;
+
+import com.nhnacademy.library.core.book.properties.EmbeddingCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * EmbeddingService 질의 임베딩 캐시 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmbeddingService 질의 임베딩 캐시 테스트")
+class EmbeddingServiceCacheTest {
+
+    @Mock
+    private EmbeddingModel embeddingModel;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmbeddingService embeddingService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        embeddingService = new EmbeddingService(embeddingModel, "bge-m3", new EmbeddingCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("공백만 다른 동일 질의는 원격 임베딩을 한 번만 호출해야 한다")
+    void sameNormalizedTextCallsModelOnce() {
+        // Given
+        when(embeddingModel.embed("자바 입문")).thenReturn(new float[]{0.1f, 0.2f});
+
+        // When
+        float[] first = embeddingService.getEmbedding("자바 입문");
+        float[] second = embeddingService.getEmbedding("  자바   입문 ");
+
+        // Then
+        assertThat(second).containsExactly(first);
+        verify(embeddingModel, times(1)).embed(anyString());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "queryEmbedding").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 질의의 동시 캐시 미스는 원격 임베딩을 한 번만 호출해야 한다")
+    void concurrentMissesShareOneCall() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(embeddingModel.embed("자바")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new float[]{0.1f, 0.2f};
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            List<Future<float[]>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> embeddingService.getEmbedding("자바")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<float[]> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly(0.1f, 0.2f);
+            }
+            verify(embeddingModel, times(1)).embed(anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 임베딩 결과는 캐시하지 않아야 한다")
+    void emptyResultIsNotCached() {
+        // Given
+        when(embeddingModel.embed("자바")).thenReturn(null);
+
+        // When
+        embeddingService.getEmbedding("자바");
+        embeddingService.getEmbedding("자바");
+
+        // Then
+        verify(embeddingModel, times(2)).embed("자바");
+    }
+
+    @Test
+    @DisplayName("반환된 벡터를 수정해도 캐시된 값은 변하지 않아야 한다")
+    void cachedVectorIsDefensivelyCopied() {
+        // Given
+        when(embeddingModel.embed("자바")).thenReturn(new float[]{0.1f, 0.2f});
+
+        // When
+        embeddingService.getEmbedding("자바")[0] = 9.9f;
+
+        // Then
+        assertThat(embeddingService.getEmbedding("자바")).containsExactly(0.1f, 0.2f);
+    }
+}
@@ -1,5 +1,6 @@
 package com.nhnacademy.library.core.book.service.personalization.impl;
 
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
 import com.nhnacademy.library.core.book.repository.BookRepository;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
@@ -187,6 +189,42 @@ class PersonalizationServiceImplTest {
         assertThat(personalizedResults).hasSameSizeAs(results);
     }
 
+    @Test
+    @DisplayName("선호도 벡터와 유사한 도서가 앞으로 정렬되어야 한다")
+    void personalizedSearch_WithPreferenceVector_ReordersBySimilarity() {
+        // Given
+        List<SearchFeedback> feedbacks = List.of(
+            SearchFeedback.of(CHAT_ID, "query1", 10L, FeedbackType.GOOD),
+            SearchFeedback.of(CHAT_ID, "query2", 11L, FeedbackType.GOOD),
+            SearchFeedback.of(CHAT_ID, "query3", 12L, FeedbackType.GOOD)
+        );
+        when(feedbackRepository.findByChatIdOrderByCreatedAtDesc(CHAT_ID))
+            .thenReturn(feedbacks);
+        when(bookRepository.findEmbeddingsByIds(anyList()))
+            .thenReturn(List.of(new float[]{0.0f, 1.0f}, new float[]{0.0f, 1.0f}, new float[]{0.0f, 1.0f}));
+        when(bookRepository.findBookEmbeddingsByIds(anyList()))
+            .thenReturn(List.of(
+                new BookEmbedding(1L, new float[]{1.0f, 0.0f}),
+                new BookEmbedding(2L, new float[]{0.0f, 1.0f})
+            ));
+
+        List<BookSearchResponse> results = List.of(
+            createBookSearchResponse(1L, "Book 1"),
+            createBookSearchResponse(2L, "Book 2"),
+            createBookSearchResponse(3L, "Book 3")
+        );
+
+        // When
+        List<BookSearchResponse> personalizedResults =
+            personalizationService.personalizedSearch(results, CHAT_ID);
+
+        // Then (Book 2만 선호도와 같은 방향, Book 3은 임베딩 없음)
+        assertThat(personalizedResults).extracting(BookSearchResponse::getId)
+            .containsExactly(2L, 1L, 3L);
+        assertThat(personalizedResults.get(0).getSimilarity()).isCloseTo(1.0, within(1e-6));
+        verify(bookRepository).findBookEmbeddingsByIds(List.of(1L, 2L, 3L));
+    }
+
     @Test
     @DisplayName("캐시 무효화를 수행해야 한다")
     void evictUserPreferenceCache_ShouldSucceed() {
@@ -0,0 +1,86 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.properties.BookCardCacheProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BookCardCache 단위 테스트
+ *
+ * <p>캐시에 없는 도서만 조회하는지, 질의별 점수가 카드에 섞이지 않는지 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookCardCache 단위 테스트")
+class BookCardCacheTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private BookCardCache bookCardCache;
+
+    @BeforeEach
+    void setUp() {
+        bookCardCache = new BookCardCache(bookRepository, new BookCardCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 도서만 조회하고, 순위 순서와 질의별 점수로 채워야 한다")
+    void hydratesMissingBooksOnly() {
+        // Given
+        when(bookRepository.findSearchResponsesByIds(List.of(1L, 2L))).thenReturn(List.of(card(2L), card(1L)));
+        when(bookRepository.findSearchResponsesByIds(List.of(3L))).thenReturn(List.of(card(3L)));
+        bookCardCache.hydrate(List.of(new HybridSearchHit(1L, 0.03, 0.9), new HybridSearchHit(2L, 0.02, null)));
+
+        // When
+        List<BookSearchResponse> result = bookCardCache.hydrate(List.of(
+                new HybridSearchHit(3L, 0.05, null), new HybridSearchHit(1L, 0.01, 0.5)));
+
+        // Then
+        assertThat(result).extracting(BookSearchResponse::getId).containsExactly(3L, 1L);
+        assertThat(result).extracting(BookSearchResponse::getRrfScore).containsExactly(0.05, 0.01);
+        assertThat(result).extracting(BookSearchResponse::getSimilarity).containsExactly(null, 0.5);
+        assertThat(result.get(1).getReviewCount()).isEqualTo(1L);
+        verify(bookRepository, times(1)).findSearchResponsesByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 도서는 제외하고, 제거한 카드는 다시 조회해야 한다")
+    void dropsMissingBooksAndReloadsInvalidatedCards() {
+        // Given
+        when(bookRepository.findSearchResponsesByIds(List.of(1L, 9L))).thenReturn(List.of(card(1L)));
+        when(bookRepository.findSearchResponsesByIds(List.of(1L))).thenReturn(List.of(card(1L)));
+        List<BookSearchResponse> first = bookCardCache.hydrate(List.of(
+                new HybridSearchHit(1L, 0.03, null), new HybridSearchHit(9L, 0.02, null)));
+
+        // When
+        bookCardCache.invalidate(1L);
+        bookCardCache.hydrate(List.of(new HybridSearchHit(1L, 0.03, null)));
+
+        // Then
+        assertThat(first).extracting(BookSearchResponse::getId).containsExactly(1L);
+        verify(bookRepository, times(1)).findSearchResponsesByIds(List.of(1L));
+    }
+
+    private static BookSearchResponse card(Long id) {
+        return new BookSearchResponse(id, "isbn-" + id, "도서 " + id, null, "저자", "출판사",
+                BigDecimal.TEN, LocalDate.of(2024, 1, 1), null, "내용", null, null,
+                BigDecimal.valueOf(4.5), 1L, "요약");
+    }
+}
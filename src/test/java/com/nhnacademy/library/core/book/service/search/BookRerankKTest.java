@@ -5,6 +5,7 @@ import com.nhnacademy.library.core.book.service.embedding.EmbeddingService;
 import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
 
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
 import com.nhnacademy.library.core.book.repository.BookRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
@@ -14,7 +15,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -59,8 +59,9 @@ class BookRerankKTest {
         BookSearchResponse common = new BookSearchResponse(1L, "isbn1", "title1", null, "author1", "publisher1", null, null, null, "content1", 1.0);
         
         // any() 대신 matchers를 사용하여 모든 호출에 대해 common 반환
-        when(bookRepository.search(any(), any())).thenReturn(new PageImpl<>(List.of(common)));
-        when(bookRepository.vectorSearch(any(), any())).thenReturn(new PageImpl<>(List.of(common)));
+        when(bookRepository.findKeywordCandidates(any(), anyInt())).thenReturn(List.of(new SearchCandidate(1L, 1, null)));
+        when(bookRepository.findVectorCandidates(any(), anyInt())).thenReturn(List.of(new SearchCandidate(1L, 1, 1.0)));
+        when(bookRepository.findSearchResponsesByIds(anyList())).thenReturn(List.of(common));
 
         when(chatModel.call(anyString())).thenReturn("[]");
 
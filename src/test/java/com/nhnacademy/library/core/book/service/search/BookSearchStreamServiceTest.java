@@ -0,0 +1,163 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.BookSearchStreamEvent;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.properties.SearchTimeoutProperties;
+import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
+import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.search.strategy.HybridSearchStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BookSearchStreamService 단위 테스트
+ *
+ * <p>키워드 → 하이브리드 → 추천 항목 → AI 추천 순서로 단계별 결과를 전달하는지 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchStreamService 단위 테스트")
+class BookSearchStreamServiceTest {
+
+    @Mock
+    private HybridSearchStrategy hybridSearchStrategy;
+
+    @Mock
+    private SemanticCacheService semanticCacheService;
+
+    @Mock
+    private BookSearchCacheService bookSearchCacheService;
+
+    private BookSearchStreamService service;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final List<SearchCandidate> keywordCandidates = List.of(new SearchCandidate(1L, 1, null));
+    private final RrfService.Fusion fusion = new RrfService.Fusion(List.of(new HybridSearchHit(2L, 0.03, 0.9)), 1);
+    private final BookSearchResult keywordResult = new BookSearchResult(new PageImpl<>(List.of()), null);
+    private final BookSearchResult hybridResult = new BookSearchResult(new PageImpl<>(List.of()), null);
+    private final List<BookSearchStreamEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new BookSearchStreamService(hybridSearchStrategy, new RrfService(), semanticCacheService,
+                bookSearchCacheService, new SearchTimeoutProperties(), Runnable::run);
+    }
+
+    private void givenRetrieval(BookSearchRequest request) {
+        CompletableFuture<float[]> embedding = CompletableFuture.completedFuture(new float[]{0.1f});
+        CompletableFuture<List<SearchCandidate>> keywords = CompletableFuture.completedFuture(keywordCandidates);
+        when(hybridSearchStrategy.embedAsync(eq(request), any())).thenReturn(embedding);
+        when(hybridSearchStrategy.keywordCandidatesAsync(eq(request), any())).thenReturn(keywords);
+        when(hybridSearchStrategy.searchHitsAsync(eq(request), eq(keywords), eq(embedding), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(fusion));
+        when(hybridSearchStrategy.page(eq(pageable), argThat(f -> f != null && f != fusion))).thenReturn(keywordResult);
+        when(hybridSearchStrategy.page(pageable, fusion)).thenReturn(hybridResult);
+    }
+
+    @Test
+    @DisplayName("하이브리드 요청은 키워드 결과를 먼저, 병합 결과를 다음에 전달하고 AI 단계는 생략해야 한다")
+    void hybridStreamsKeywordThenFused() {
+        // Given
+        BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.HYBRID, null);
+        givenRetrieval(request);
+
+        // When
+        service.search(pageable, request, events::add).join();
+
+        // Then
+        assertThat(events).extracting(BookSearchStreamEvent::stage)
+                .containsExactly(BookSearchStreamEvent.Stage.KEYWORD, BookSearchStreamEvent.Stage.HYBRID);
+        assertThat(events.get(1).totalCount()).isEqualTo(hybridResult.getBooks().getTotalElements());
+        verify(bookSearchCacheService, never()).warmUpStreaming(any());
+    }
+
+    @Test
+    @DisplayName("RAG 요청은 캐시 미스 시 워밍업이 완성한 추천 항목을 하나씩 전달한 뒤 워밍업 결과를 AI 단계로 전달해야 한다")
+    void ragStreamsRecommendationsThenAiResultFromWarmUp() {
+        // Given
+        BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.RAG, null);
+        givenRetrieval(request);
+        BookAiRecommendationResponse first = recommendation(2L, 95);
+        BookAiRecommendationResponse second = recommendation(3L, 80);
+        BookSearchResult aiResult = new BookSearchResult(new PageImpl<>(List.of()), List.of(first, second));
+        when(semanticCacheService.findExactResult("자바")).thenReturn(Optional.empty());
+        when(semanticCacheService.findSimilarResult(any())).thenReturn(Optional.empty());
+        when(bookSearchCacheService.warmUpStreaming("자바")).thenReturn(new BookSearchCacheService.StreamingWarmUp(
+                CompletableFuture.completedFuture(aiResult), Flux.just(first, second)));
+        BookSearchResponse book2 = book(2L);
+        BookSearchResponse book3 = book(3L);
+        when(hybridSearchStrategy.hydrate(List.of(new HybridSearchHit(2L, 0.0, null)))).thenReturn(List.of(book2));
+        when(hybridSearchStrategy.hydrate(List.of(new HybridSearchHit(3L, 0.0, null)))).thenReturn(List.of(book3));
+
+        // When
+        service.search(pageable, request, events::add).join();
+
+        // Then
+        assertThat(events).extracting(BookSearchStreamEvent::stage).containsExactly(
+                BookSearchStreamEvent.Stage.KEYWORD, BookSearchStreamEvent.Stage.HYBRID,
+                BookSearchStreamEvent.Stage.RECOMMENDATION, BookSearchStreamEvent.Stage.RECOMMENDATION,
+                BookSearchStreamEvent.Stage.AI);
+        assertThat(events.get(2).books()).containsExactly(book2);
+        assertThat(events.get(2).aiResponse()).containsExactly(first);
+        assertThat(events.get(3).books()).containsExactly(book3);
+        assertThat(events.get(3).aiResponse()).containsExactly(second);
+        assertThat(events.get(4).aiResponse()).isSameAs(aiResult.getAiResponse());
+    }
+
+    @Test
+    @DisplayName("RAG 요청이 시맨틱 캐시에 있으면 워밍업 없이 AI 단계만 전달해야 한다")
+    void ragStreamsCachedAiResultWithoutWarmUp() {
+        // Given
+        BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.RAG, null);
+        givenRetrieval(request);
+        BookSearchResult aiResult = new BookSearchResult(new PageImpl<>(List.of()), List.of(recommendation(2L, 95)));
+        when(semanticCacheService.findExactResult("자바")).thenReturn(Optional.of(aiResult));
+
+        // When
+        service.search(pageable, request, events::add).join();
+
+        // Then
+        assertThat(events).extracting(BookSearchStreamEvent::stage).containsExactly(
+                BookSearchStreamEvent.Stage.KEYWORD, BookSearchStreamEvent.Stage.HYBRID, BookSearchStreamEvent.Stage.AI);
+        verify(bookSearchCacheService, never()).warmUpStreaming(any());
+    }
+
+    private static BookAiRecommendationResponse recommendation(Long id, int relevance) {
+        BookAiRecommendationResponse recommendation = new BookAiRecommendationResponse();
+        recommendation.setId(id);
+        recommendation.setRelevance(relevance);
+        recommendation.setWhy("추천 사유 " + id);
+        return recommendation;
+    }
+
+    private static BookSearchResponse book(Long id) {
+        return new BookSearchResponse(id, "isbn" + id, "도서" + id, null, "저자", null, null, null, null, "내용");
+    }
+}
@@ -9,7 +9,9 @@ import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
 
 import com.nhnacademy.library.core.book.dto.BookSearchRequest;
 import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
 import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.repository.BookSearchCacheRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -17,9 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,7 +46,7 @@ class BookThresholdTest {
     private ApplicationContext applicationContext;
 
     @Autowired
-    private CacheManager cacheManager;
+    private BookSearchCacheRepository cacheRepository;
 
     @MockitoBean
     private BookRepository bookRepository;
@@ -72,8 +72,11 @@ class BookThresholdTest {
                 .mapToObj(i -> new BookSearchResponse((long)i, "isbn"+i, "title"+i, null, "author"+i, "publisher"+i, null, null, null, "content"+i, 0.0))
                 .toList();
         
-        when(bookRepository.search(any(), any())).thenReturn(new PageImpl<>(keywordResults));
-        when(bookRepository.vectorSearch(any(), any())).thenReturn(new PageImpl<>(List.of()));
+        when(bookRepository.findKeywordCandidates(any(), anyInt())).thenReturn(keywordResults.stream()
+                .map(b -> new SearchCandidate(b.getId(), b.getId().intValue() + 1, null))
+                .toList());
+        when(bookRepository.findVectorCandidates(any(), anyInt())).thenReturn(List.of());
+        when(bookRepository.findSearchResponsesByIds(anyList())).thenReturn(keywordResults);
 
         when(chatModel.call(anyString())).thenReturn("[]");
 
@@ -92,8 +95,9 @@ class BookThresholdTest {
         // Given
         String keyword = "테스트_웜업_Fallback";
         when(embeddingService.getEmbedding(anyString())).thenReturn(new float[1024]);
-        when(bookRepository.search(any(), any())).thenReturn(new PageImpl<>(List.of(new BookSearchResponse(0L, "isbn0", "title0", null, "author0", "publisher0", null, null, null, "content0", 0.0))));
-        when(bookRepository.vectorSearch(any(), any())).thenReturn(new PageImpl<>(List.of()));
+        when(bookRepository.findKeywordCandidates(any(), anyInt())).thenReturn(List.of(new SearchCandidate(0L, 1, null)));
+        when(bookRepository.findVectorCandidates(any(), anyInt())).thenReturn(List.of());
+        when(bookRepository.findSearchResponsesByIds(anyList())).thenReturn(List.of(new BookSearchResponse(0L, "isbn0", "title0", null, "author0", "publisher0", null, null, null, "content0", 0.0)));
         when(chatModel.call(anyString())).thenReturn("[]");
 
         // When
@@ -114,13 +118,14 @@ class BookThresholdTest {
         
         BookSearchResponse commonBook = new BookSearchResponse(1L, "isbn1", "title1", null, "author1", "publisher1", null, null, null, "content1", 1.0);
         
-        when(bookRepository.search(any(), any())).thenReturn(new PageImpl<>(List.of(commonBook)));
-        when(bookRepository.vectorSearch(any(), any())).thenReturn(new PageImpl<>(List.of(commonBook)));
+        when(bookRepository.findKeywordCandidates(any(), anyInt())).thenReturn(List.of(new SearchCandidate(1L, 1, null)));
+        when(bookRepository.findVectorCandidates(any(), anyInt())).thenReturn(List.of(new SearchCandidate(1L, 1, 1.0)));
+        when(bookRepository.findSearchResponsesByIds(anyList())).thenReturn(List.of(commonBook));
 
         when(chatModel.call(anyString())).thenReturn("[]");
 
         // 캐시가 비어있는지 확인 (이전 테스트 영향 방지)
-        cacheManager.getCache("bookSearchCache").clear();
+        cacheRepository.deleteAll();
 
         // When & Then
         // BookSearchCacheService를 사용하여 warm-up을 수행하면 
@@ -0,0 +1,105 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RRF 병합 벤치마크 (기존 구현 vs {@link RrfService#fuse(int, List)})
+ *
+ * <p>키워드/벡터 두 목록에 각각 {@code candidates}개의 후보가 있고 절반 정도가 겹치는 상황에서,
+ * 검색 한 페이지(상위 24개)를 얻는 비용을 비교합니다.
+ * {@code legacyFuse}는 박싱된 {@link HashMap}에 점수를 누적하고 전체를 정렬하던 기존 구현입니다.</p>
+ *
+ * <p>실행 방법: IDE에서 {@link #main(String[])}을 실행하거나
+ * {@code mvn test-compile} 후 test classpath로 {@code org.openjdk.jmh.Main RrfServiceBenchmark -prof gc}를 실행합니다.
+ * {@code gc.alloc.rate.norm} 지표가 호출당 할당 바이트입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RrfServiceBenchmark {
+
+    private static final int TOP_K = 24;
+
+    @Param({"100", "1000", "10000"})
+    private int candidates;
+
+    private final RrfService rrfService = new RrfService();
+
+    private List<SearchCandidate> keywordCandidates;
+    private List<SearchCandidate> vectorCandidates;
+    private List<RrfService.RankedList> rankedLists;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keywordCandidates = new ArrayList<>(candidates);
+        vectorCandidates = new ArrayList<>(candidates);
+        for (int rank = 1; rank <= candidates; rank++) {
+            keywordCandidates.add(new SearchCandidate((long) random.nextInt(candidates * 2), rank, null));
+            vectorCandidates.add(new SearchCandidate((long) random.nextInt(candidates * 2), rank,
+                    1.0 - (double) rank / candidates));
+        }
+        rankedLists = List.of(RrfService.RankedList.of(keywordCandidates), RrfService.RankedList.of(vectorCandidates));
+    }
+
+    @Benchmark
+    public List<HybridSearchHit> legacyFuse() {
+        Map<Long, Double> rrfScores = new LinkedHashMap<>();
+        Map<Long, Double> similarities = new HashMap<>();
+
+        for (SearchCandidate candidate : keywordCandidates) {
+            rrfScores.merge(candidate.id(), 1.0 / (RrfService.RRF_K + candidate.rank()), Double::sum);
+        }
+        for (SearchCandidate candidate : vectorCandidates) {
+            rrfScores.merge(candidate.id(), 1.0 / (RrfService.RRF_K + candidate.rank()), Double::sum);
+            similarities.put(candidate.id(), candidate.score());
+        }
+
+        List<HybridSearchHit> hits = new ArrayList<>(rrfScores.size());
+        rrfScores.forEach((id, score) -> hits.add(new HybridSearchHit(id, score, similarities.get(id))));
+        hits.sort(Comparator.comparingDouble(HybridSearchHit::rrfScore).reversed());
+        return hits.subList(0, Math.min(TOP_K, hits.size()));
+    }
+
+    @Benchmark
+    public RrfService.Fusion fuse() {
+        return rrfService.fuse(TOP_K, rankedLists);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RrfServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * RrfService 단위 테스트
+ *
+ * <p>N개 순위 목록의 가중 RRF 점수 누적, 유사도 보존, 상위 K개 선택을 검증합니다.</p>
+ */
+@DisplayName("RrfService 단위 테스트")
+class RrfServiceTest {
+
+    private final RrfService rrfService = new RrfService();
+
+    @Test
+    @DisplayName("두 목록에 모두 포함된 도서는 순위별 점수를 합산하고 벡터 유사도를 보존해야 한다")
+    void fuseSumsScoresAndKeepsSimilarity() {
+        // Given
+        List<SearchCandidate> keyword = List.of(candidate(1L, 1, null), candidate(2L, 2, null));
+        List<SearchCandidate> vector = List.of(candidate(2L, 1, 0.9), candidate(3L, 2, 0.8));
+
+        // When
+        RrfService.Fusion fusion = rrfService.fuse(10, List.of(
+                RrfService.RankedList.of(keyword), RrfService.RankedList.of(vector)));
+
+        // Then
+        assertThat(fusion.totalCount()).isEqualTo(3);
+        assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactly(2L, 1L, 3L);
+        assertThat(fusion.hits().get(0).rrfScore()).isEqualTo(1.0 / 62 + 1.0 / 61);
+        assertThat(fusion.hits()).extracting(HybridSearchHit::similarity).containsExactly(0.9, null, 0.8);
+    }
+
+    @Test
+    @DisplayName("가중치가 큰 목록의 순위가 병합 순위에 더 크게 반영되어야 한다")
+    void fuseAppliesWeights() {
+        // Given
+        List<SearchCandidate> keyword = List.of(candidate(1L, 1, null));
+        List<SearchCandidate> vector = List.of(candidate(2L, 1, 0.5));
+
+        // When
+        RrfService.Fusion fusion = rrfService.fuse(10, List.of(
+                new RrfService.RankedList(keyword, 0.5), new RrfService.RankedList(vector, 2.0)));
+
+        // Then
+        assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactly(2L, 1L);
+        assertThat(fusion.hits().get(0).rrfScore()).isCloseTo(2.0 / 61, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("동점인 도서는 ID 오름차순으로 정렬해야 한다")
+    void fuseBreaksTiesById() {
+        // Given
+        List<SearchCandidate> first = List.of(candidate(9L, 1, null));
+        List<SearchCandidate> second = List.of(candidate(4L, 1, null));
+
+        // When
+        RrfService.Fusion fusion = rrfService.fuse(10, List.of(
+                RrfService.RankedList.of(first), RrfService.RankedList.of(second)));
+
+        // Then
+        assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactly(4L, 9L);
+    }
+
+    @Test
+    @DisplayName("상위 K개 선택 결과는 전체 정렬 결과의 앞부분과 같아야 한다")
+    void topKMatchesFullSort() {
+        // Given (세 개의 목록, 일부 ID 중복)
+        Random random = new Random(42);
+        List<RrfService.RankedList> lists = new ArrayList<>();
+        Map<Long, Double> expectedScores = new HashMap<>();
+        for (int list = 0; list < 3; list++) {
+            double weight = 0.5 + list;
+            List<SearchCandidate> candidates = new ArrayList<>();
+            for (int rank = 1; rank <= 1_000; rank++) {
+                long id = random.nextInt(2_000);
+                candidates.add(candidate(id, rank, null));
+                expectedScores.merge(id, weight / (RrfService.RRF_K + rank), Double::sum);
+            }
+            lists.add(new RrfService.RankedList(candidates, weight));
+        }
+        List<Long> expected = expectedScores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .limit(24)
+                .toList();
+
+        // When
+        RrfService.Fusion fusion = rrfService.fuse(24, lists);
+
+        // Then
+        assertThat(fusion.totalCount()).isEqualTo(expectedScores.size());
+        assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactlyElementsOf(expected);
+        assertThat(fusion.hits()).isSortedAccordingTo(
+                Comparator.comparingDouble(HybridSearchHit::rrfScore).reversed());
+    }
+
+    @Test
+    @DisplayName("topK가 0이거나 목록이 비어 있으면 빈 결과를 반환해야 한다")
+    void fuseEmpty() {
+        assertThat(rrfService.fuse(0, List.of(RrfService.RankedList.of(List.of(candidate(1L, 1, null)))))
+                .hits()).isEmpty();
+        assertThat(rrfService.fuse(10, List.of()).hits()).isEmpty();
+    }
+
+    private static SearchCandidate candidate(long id, int rank, Double score) {
+        return new SearchCandidate(id, rank, score);
+    }
+}
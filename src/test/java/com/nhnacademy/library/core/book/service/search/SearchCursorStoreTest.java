@@ -0,0 +1,47 @@
+package com.nhnacademy.library.core.book.service.search;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.properties.SearchCursorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchCursorStore 단위 테스트
+ *
+ * <p>커서가 발급한 질의(키워드, ISBN, 검색 유형)에서만 사용되는지 검증합니다.</p>
+ */
+@DisplayName("SearchCursorStore 단위 테스트")
+class SearchCursorStoreTest {
+
+    private final SearchCursorStore store = new SearchCursorStore(new SearchCursorProperties(), new SimpleMeterRegistry());
+    private final RrfService.Fusion fusion = new RrfService.Fusion(List.of(new HybridSearchHit(1L, 0.03, 0.9)), 1);
+
+    @Test
+    @DisplayName("같은 질의와 검색 유형의 커서는 발급한 병합 순위를 반환해야 한다")
+    void findReturnsFusionForSameQuery() {
+        // Given
+        BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.HYBRID, null);
+        String cursor = store.cursorFor(request, fusion);
+
+        // When & Then
+        assertThat(store.find(request.withCursor(cursor))).containsSame(fusion);
+    }
+
+    @Test
+    @DisplayName("다른 검색 유형의 요청에서는 같은 키워드라도 커서를 사용하지 않아야 한다")
+    void findIgnoresCursorOfOtherSearchType() {
+        // Given
+        String cursor = store.cursorFor(new BookSearchRequest("자바", null, SearchType.HYBRID, null), fusion);
+        BookSearchRequest ragRequest = new BookSearchRequest("자바", null, SearchType.RAG, null);
+
+        // When & Then
+        assertThat(store.find(ragRequest.withCursor(cursor))).isEmpty();
+    }
+}
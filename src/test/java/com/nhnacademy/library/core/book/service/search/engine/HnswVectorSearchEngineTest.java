@@ -0,0 +1,182 @@
+package com.nhnacademy.library.core.book.service.search.engine;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookEmbedding;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.event.BookEmbeddingUpdatedEvent;
+import com.nhnacademy.library.core.book.properties.VectorSearchProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingSnapshotService;
+import com.nhnacademy.library.core.book.util.EmbeddingSnapshot;
+import com.nhnacademy.library.core.book.util.EmbeddingSnapshotWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HnswVectorSearchEngine 단위 테스트
+ *
+ * <p>인덱스 적재(DB, 스냅샷), 임베딩 갱신 이벤트 반영, 적재 전 pgvector 대체 검색을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HnswVectorSearchEngine 단위 테스트")
+class HnswVectorSearchEngineTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private EmbeddingSnapshotService embeddingSnapshotService;
+
+    @TempDir
+    Path tempDir;
+
+    private HnswVectorSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        VectorSearchProperties properties = new VectorSearchProperties();
+        properties.setLoadBatchSize(2);
+        engine = new HnswVectorSearchEngine(bookRepository, properties, embeddingSnapshotService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 전에는 pgvector 검색으로 대체해야 한다")
+    void searchFallsBackToPgvectorBeforeLoad() {
+        // Given
+        BookSearchRequest request = request(new float[]{1.0f, 0.0f});
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookRepository.vectorSearch(pageable, request)).thenReturn(new PageImpl<>(List.of()));
+
+        // When
+        engine.search(pageable, request);
+
+        // Then
+        verify(bookRepository).vectorSearch(pageable, request);
+        verify(bookRepository, never()).findSearchResponsesByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("적재된 인덱스에서 유사도 순으로 해당 페이지의 도서만 조회해야 한다")
+    void searchUsesLoadedIndex() {
+        // Given (스냅샷 없음, 배치 크기 2로 키셋 페이징)
+        when(embeddingSnapshotService.openSnapshot()).thenReturn(Optional.empty());
+        when(bookRepository.findBookEmbeddingsAfter(eq(0L), any())).thenReturn(List.of(
+                new BookEmbedding(1L, new float[]{1.0f, 0.0f}),
+                new BookEmbedding(2L, new float[]{0.0f, 1.0f})));
+        when(bookRepository.findBookEmbeddingsAfter(eq(2L), any())).thenReturn(List.of(
+                new BookEmbedding(3L, new float[]{0.8f, 0.2f})));
+        engine.loadIndex();
+        when(bookRepository.findSearchResponsesByIds(List.of(3L))).thenReturn(List.of(response(3L)));
+
+        // When (두 번째 페이지, 페이지 크기 1)
+        Page<BookSearchResponse> page = engine.search(PageRequest.of(1, 1), request(new float[]{1.0f, 0.0f}));
+
+        // Then
+        assertThat(engine.isReady()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(BookSearchResponse::getId).containsExactly(3L);
+        assertThat(page.getContent().get(0).getSimilarity()).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("후보 조회는 도서 정보를 조회하지 않고 인덱스의 ID, 순위, 유사도만 반환해야 한다")
+    void searchCandidatesUsesIndexOnly() {
+        // Given
+        when(embeddingSnapshotService.openSnapshot()).thenReturn(Optional.empty());
+        when(bookRepository.findBookEmbeddingsAfter(eq(0L), any())).thenReturn(List.of(
+                new BookEmbedding(1L, new float[]{1.0f, 0.0f}),
+                new BookEmbedding(2L, new float[]{0.0f, 1.0f})));
+        when(bookRepository.findBookEmbeddingsAfter(eq(2L), any())).thenReturn(List.of());
+        engine.loadIndex();
+
+        // When
+        List<SearchCandidate> candidates = engine.searchCandidates(request(new float[]{0.0f, 1.0f}), 10);
+
+        // Then
+        assertThat(candidates).extracting(SearchCandidate::id).containsExactly(2L, 1L);
+        assertThat(candidates).extracting(SearchCandidate::rank).containsExactly(1, 2);
+        assertThat(candidates.get(0).score()).isGreaterThan(0.99);
+        verify(bookRepository, never()).findSearchResponsesByIds(anyList());
+        verify(bookRepository, never()).findVectorCandidates(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 적재한 뒤 스냅샷에 없는 도서만 DB에서 읽어야 한다")
+    void loadIndexFromSnapshotAndCatchUp() throws IOException {
+        // Given
+        Path path = tempDir.resolve("embeddings.bin");
+        try (EmbeddingSnapshotWriter writer = EmbeddingSnapshotWriter.create(path, 2)) {
+            writer.write(1L, new float[]{1.0f, 0.0f});
+            writer.write(2L, new float[]{0.0f, 1.0f});
+        }
+        when(embeddingSnapshotService.openSnapshot()).thenReturn(Optional.of(EmbeddingSnapshot.open(path)));
+        when(bookRepository.findEmbeddedBookIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(bookRepository.findBookEmbeddingsByIds(List.of(3L)))
+                .thenReturn(List.of(new BookEmbedding(3L, new float[]{0.6f, 0.8f})));
+        when(bookRepository.findSearchResponsesByIds(List.of(2L, 3L, 1L)))
+                .thenReturn(List.of(response(2L), response(3L), response(1L)));
+
+        // When
+        engine.loadIndex();
+        Page<BookSearchResponse> page = engine.search(PageRequest.of(0, 10), request(new float[]{0.0f, 1.0f}));
+
+        // Then
+        verify(bookRepository, never()).findBookEmbeddingsAfter(any(), any());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(BookSearchResponse::getId).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("임베딩 갱신 이벤트로 추가된 도서를 검색할 수 있어야 한다")
+    void embeddingUpdatedEventAddsToIndex() {
+        // Given
+        when(embeddingSnapshotService.openSnapshot()).thenReturn(Optional.empty());
+        when(bookRepository.findBookEmbeddingsAfter(eq(0L), any())).thenReturn(List.of());
+        engine.loadIndex();
+        engine.handleBookEmbeddingUpdated(new BookEmbeddingUpdatedEvent(
+                List.of(new BookEmbedding(7L, new float[]{0.0f, 1.0f}))));
+        when(bookRepository.findSearchResponsesByIds(List.of(7L))).thenReturn(List.of(response(7L)));
+
+        // When
+        Page<BookSearchResponse> page = engine.search(PageRequest.of(0, 10), request(new float[]{0.0f, 1.0f}));
+
+        // Then
+        assertThat(page.getContent()).extracting(BookSearchResponse::getId).containsExactly(7L);
+    }
+
+    private BookSearchRequest request(float[] vector) {
+        return new BookSearchRequest("keyword", null, SearchType.VECTOR, vector);
+    }
+
+    private BookSearchResponse response(Long id) {
+        return new BookSearchResponse(id, "isbn" + id, "title" + id, null, "author", "publisher",
+                BigDecimal.valueOf(10000), LocalDate.now(), null, null);
+    }
+}
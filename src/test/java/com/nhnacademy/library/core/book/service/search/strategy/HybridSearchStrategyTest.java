@@ -0,0 +1,366 @@
+package com.nhnacademy.library.core.book.service.search.strategy;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.dto.SearchCandidate;
+import com.nhnacademy.library.core.book.properties.BookCardCacheProperties;
+import com.nhnacademy.library.core.book.properties.HybridSearchProperties;
+import com.nhnacademy.library.core.book.properties.SearchCursorProperties;
+import com.nhnacademy.library.core.book.repository.BookRepository;
+import com.nhnacademy.library.core.book.service.embedding.EmbeddingService;
+import com.nhnacademy.library.core.book.service.search.BookCardCache;
+import com.nhnacademy.library.core.book.service.search.RrfService;
+import com.nhnacademy.library.core.book.service.search.SearchCursorStore;
+import com.nhnacademy.library.core.book.service.search.engine.VectorSearchEngine;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HybridSearchStrategy 단위 테스트
+ *
+ * <p>애플리케이션 병합 모드와 SQL 병합 모드의 조회 방식과 페이징, 순위 커서 재사용, 마감 시각 초과 시 부분 결과를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HybridSearchStrategy 단위 테스트")
+class HybridSearchStrategyTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private VectorSearchEngine vectorSearchEngine;
+
+    @Mock
+    private EmbeddingService embeddingService;
+
+    private HybridSearchProperties properties;
+    private HybridSearchStrategy strategy;
+
+    private final SearchCursorStore searchCursorStore =
+            new SearchCursorStore(new SearchCursorProperties(), new SimpleMeterRegistry());
+    private BookCardCache bookCardCache;
+
+    private final BookSearchRequest request =
+            new BookSearchRequest("자바", null, SearchType.HYBRID, new float[]{0.1f, 0.2f});
+
+    @BeforeEach
+    void setUp() {
+        properties = new HybridSearchProperties();
+        bookCardCache = new BookCardCache(bookRepository, new BookCardCacheProperties(), new SimpleMeterRegistry());
+        strategy = new HybridSearchStrategy(bookRepository, vectorSearchEngine, new RrfService(), Runnable::run, Runnable::run,
+                properties, embeddingService, searchCursorStore, bookCardCache);
+    }
+
+    @Test
+    @DisplayName("SQL 병합 모드는 RRF 순위로 페이징한 뒤 해당 페이지의 도서만 조회해야 한다")
+    void sqlModeHydratesOnlyRequestedPage() {
+        // Given
+        properties.setMode("sql");
+        List<HybridSearchHit> hits = List.of(
+                new HybridSearchHit(3L, 0.032, 0.9),
+                new HybridSearchHit(1L, 0.016, null),
+                new HybridSearchHit(2L, 0.015, 0.7)
+        );
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0)).thenReturn(hits);
+        when(bookRepository.findSearchResponsesByIds(List.of(3L, 1L)))
+                .thenReturn(List.of(response(3L), response(1L)));
+
+        // When
+        BookSearchResult result = strategy.search(PageRequest.of(0, 2), request);
+
+        // Then
+        assertThat(result.getBooks().getTotalElements()).isEqualTo(3);
+        List<BookSearchResponse> content = result.getBooks().getContent();
+        assertThat(content).extracting(BookSearchResponse::getId).containsExactly(3L, 1L);
+        assertThat(content).extracting(BookSearchResponse::getRrfScore).containsExactly(0.032, 0.016);
+        assertThat(content).extracting(BookSearchResponse::getSimilarity).containsExactly(0.9, null);
+        verify(bookRepository, never()).search(any(), any());
+        verify(vectorSearchEngine, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("SQL 병합 모드에서 요청 페이지가 후보 범위를 벗어나면 도서를 조회하지 않아야 한다")
+    void sqlModeOutOfRangePage() {
+        // Given
+        properties.setMode("sql");
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0))
+                .thenReturn(List.of(new HybridSearchHit(1L, 0.016, null)));
+
+        // When
+        BookSearchResult result = strategy.search(PageRequest.of(5, 10), request);
+
+        // Then
+        assertThat(result.getBooks().getContent()).isEmpty();
+        assertThat(result.getBooks().getTotalElements()).isEqualTo(1);
+        verify(bookRepository, never()).findSearchResponsesByIds(any());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 요청하면 후보 조회와 병합 없이 해당 페이지의 도서만 조회해야 한다")
+    void cursorServesNextPageWithoutRetrieval() {
+        // Given
+        properties.setMode("sql");
+        List<HybridSearchHit> hits = List.of(
+                new HybridSearchHit(3L, 0.032, 0.9),
+                new HybridSearchHit(1L, 0.016, null),
+                new HybridSearchHit(2L, 0.015, 0.7)
+        );
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0)).thenReturn(hits);
+        when(bookRepository.findSearchResponsesByIds(List.of(3L, 1L)))
+                .thenReturn(List.of(response(3L), response(1L)));
+        when(bookRepository.findSearchResponsesByIds(List.of(2L))).thenReturn(List.of(response(2L)));
+        BookSearchResult first = strategy.search(PageRequest.of(0, 2), request);
+
+        // When
+        BookSearchResult second = strategy.search(PageRequest.of(1, 2), request.withCursor(first.getCursor()));
+
+        // Then
+        assertThat(first.getCursor()).isNotBlank();
+        assertThat(second.getCursor()).isEqualTo(first.getCursor());
+        assertThat(second.getBooks().getContent()).extracting(BookSearchResponse::getId).containsExactly(2L);
+        assertThat(second.getBooks().getTotalElements()).isEqualTo(3);
+        verify(bookRepository, times(1)).findHybridSearchHits(any(), anyInt(), anyInt(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("다른 질의의 커서는 사용하지 않고 다시 검색해야 한다")
+    void cursorOfOtherQueryIsIgnored() {
+        // Given
+        properties.setMode("sql");
+        BookSearchRequest other = new BookSearchRequest("파이썬", null, SearchType.HYBRID, new float[]{0.1f, 0.2f});
+        when(bookRepository.findHybridSearchHits(any(), anyInt(), anyInt(), anyDouble(), anyDouble()))
+                .thenReturn(List.of());
+        String cursor = strategy.search(PageRequest.of(0, 2), request).getCursor();
+
+        // When
+        BookSearchResult result = strategy.search(PageRequest.of(1, 2), other.withCursor(cursor));
+
+        // Then
+        assertThat(result.getCursor()).isNotEqualTo(cursor);
+        verify(bookRepository, times(2)).findHybridSearchHits(any(), anyInt(), anyInt(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("애플리케이션 병합 모드는 ID/점수 후보만 조회해 병합하고, 해당 페이지의 도서만 조회해야 한다")
+    void applicationModeFusesCandidatesAndHydratesPage() {
+        // Given
+        properties.setCandidateSize(20);
+        when(bookRepository.findKeywordCandidates(request, 20)).thenReturn(List.of(
+                new SearchCandidate(1L, 1, null),
+                new SearchCandidate(2L, 2, null),
+                new SearchCandidate(4L, 3, null)
+        ));
+        when(vectorSearchEngine.searchCandidates(request, 20)).thenReturn(List.of(
+                new SearchCandidate(2L, 1, 0.9),
+                new SearchCandidate(3L, 2, 0.8)
+        ));
+        when(bookRepository.findSearchResponsesByIds(List.of(2L, 1L)))
+                .thenReturn(List.of(response(2L), response(1L)));
+
+        // When
+        BookSearchResult result = strategy.search(PageRequest.of(0, 2), request);
+
+        // Then
+        assertThat(result.getBooks().getTotalElements()).isEqualTo(4);
+        List<BookSearchResponse> content = result.getBooks().getContent();
+        assertThat(content).extracting(BookSearchResponse::getId).containsExactly(2L, 1L);
+        assertThat(content.get(0).getRrfScore()).isEqualTo(1.0 / 62 + 1.0 / 61);
+        assertThat(content.get(0).getSimilarity()).isEqualTo(0.9);
+        assertThat(content.get(1).getSimilarity()).isNull();
+        verify(bookRepository, never()).search(any(), any());
+        verify(vectorSearchEngine, never()).search(any(), any());
+        verify(bookRepository, never()).findHybridSearchHits(any(), anyInt(), anyInt(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("벡터가 없는 요청은 임베딩 생성과 키워드 후보 조회를 동시에 시작하고, 생성된 벡터로 벡터 후보를 조회해야 한다")
+    void embeddingOverlapsKeywordSearch() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        strategy = new HybridSearchStrategy(bookRepository, vectorSearchEngine, new RrfService(), executor, executor,
+                properties, embeddingService, searchCursorStore, bookCardCache);
+        BookSearchRequest keywordOnly = new BookSearchRequest("자바", null, SearchType.HYBRID, null);
+        float[] vector = {0.3f, 0.4f};
+        CountDownLatch keywordStarted = new CountDownLatch(1);
+
+        when(bookRepository.findKeywordCandidates(keywordOnly, 100)).thenAnswer(invocation -> {
+            keywordStarted.countDown();
+            return List.of(new SearchCandidate(1L, 1, null));
+        });
+        // 키워드 조회가 임베딩 완료를 기다리지 않고 시작되어야 임베딩이 반환됩니다.
+        when(embeddingService.getEmbedding("자바")).thenAnswer(invocation -> {
+            assertThat(keywordStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return vector;
+        });
+        when(vectorSearchEngine.searchCandidates(keywordOnly.withVector(vector), 100))
+                .thenReturn(List.of(new SearchCandidate(2L, 1, 0.9)));
+
+        try {
+            // When
+            RrfService.Fusion fusion = strategy.searchHits(keywordOnly, 10);
+
+            // Then
+            assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactly(1L, 2L);
+            assertThat(fusion.hits().get(1).similarity()).isEqualTo(0.9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("요청에 벡터가 있으면 임베딩을 다시 생성하지 않아야 한다")
+    void existingVectorSkipsEmbedding() {
+        // Given
+        when(bookRepository.findKeywordCandidates(request, 100)).thenReturn(List.of());
+        when(vectorSearchEngine.searchCandidates(request, 100)).thenReturn(List.of());
+
+        // When
+        RrfService.Fusion fusion = strategy.searchHits(request, 10);
+
+        // Then
+        assertThat(fusion.hits()).isEmpty();
+        verify(embeddingService, never()).getEmbedding(any());
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 임베딩이 끝나지 않으면 키워드 후보만으로 결과를 반환해야 한다")
+    void deadlineReturnsKeywordOnlyResults() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        strategy = new HybridSearchStrategy(bookRepository, vectorSearchEngine, new RrfService(), executor, executor,
+                properties, embeddingService, searchCursorStore, bookCardCache);
+        BookSearchRequest keywordOnly = new BookSearchRequest("자바", null, SearchType.HYBRID, null);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(bookRepository.findKeywordCandidates(keywordOnly, 100))
+                .thenReturn(List.of(new SearchCandidate(1L, 1, null), new SearchCandidate(2L, 2, null)));
+        when(embeddingService.getEmbedding("자바")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new float[]{0.3f, 0.4f};
+        });
+        when(bookRepository.findSearchResponsesByIds(List.of(1L, 2L)))
+                .thenReturn(List.of(response(1L), response(2L)));
+
+        try {
+            // When
+            BookSearchResult result = strategy.search(PageRequest.of(0, 10), keywordOnly,
+                    SearchDeadline.after(Duration.ofMillis(200)));
+
+            // Then
+            assertThat(result.getBooks().getContent()).extracting(BookSearchResponse::getId).containsExactly(1L, 2L);
+            assertThat(result.getBooks().getContent()).extracting(BookSearchResponse::getSimilarity)
+                    .containsOnlyNulls();
+            verify(vectorSearchEngine, never()).searchCandidates(any(), anyInt());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 병합 모드에서 마감 시각을 넘겨 쿼리 타임아웃이 발생하면 예외 대신 빈 부분 결과를 반환해야 한다")
+    void sqlModeQueryTimeoutReturnsPartialResult() {
+        // Given (JDBC 쿼리 타임아웃은 초 단위로 올림되므로 마감 시각 이후에 발생)
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        strategy = new HybridSearchStrategy(bookRepository, vectorSearchEngine, new RrfService(), executor, executor,
+                properties, embeddingService, searchCursorStore, bookCardCache);
+        properties.setMode("sql");
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        });
+
+        try {
+            // When
+            BookSearchResult result = strategy.search(PageRequest.of(0, 10), request,
+                    SearchDeadline.after(Duration.ofMillis(100)));
+
+            // Then
+            assertThat(result.getBooks().getContent()).isEmpty();
+            assertThat(result.getCursor()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 병합 모드에서 마감 시각 전에 실패한 쿼리는 부분 결과로 숨기지 않고 예외를 전달해야 한다")
+    void sqlModeFailureBeforeDeadlinePropagates() {
+        // Given
+        properties.setMode("sql");
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When & Then
+        assertThatThrownBy(() -> strategy.search(PageRequest.of(0, 10), request,
+                SearchDeadline.after(Duration.ofSeconds(5))))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    @DisplayName("SQL 병합 모드에서 SQL이 마감 시각까지 끝나지 않으면 이미 조회한 키워드 후보로 순위를 만들어야 한다")
+    void sqlModeFallsBackToKeywordCandidates() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        strategy = new HybridSearchStrategy(bookRepository, vectorSearchEngine, new RrfService(), executor, executor,
+                properties, embeddingService, searchCursorStore, bookCardCache);
+        properties.setMode("sql");
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookRepository.findHybridSearchHits(request, 100, RrfService.RRF_K, 1.0, 1.0)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        SearchDeadline deadline = SearchDeadline.after(Duration.ofMillis(100));
+        CompletableFuture<List<SearchCandidate>> keywordCandidates = CompletableFuture.completedFuture(
+                List.of(new SearchCandidate(2L, 1, null), new SearchCandidate(1L, 2, null)));
+
+        try {
+            // When
+            RrfService.Fusion fusion = strategy.searchHitsAsync(request, keywordCandidates,
+                    CompletableFuture.completedFuture(request.vector()), 10, deadline).join();
+
+            // Then
+            assertThat(fusion.hits()).extracting(HybridSearchHit::id).containsExactly(2L, 1L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static BookSearchResponse response(Long id) {
+        return new BookSearchResponse(id, "isbn-" + id, "도서 " + id, null, "저자", "출판사",
+                BigDecimal.TEN, LocalDate.of(2024, 1, 1), null, "내용");
+    }
+}
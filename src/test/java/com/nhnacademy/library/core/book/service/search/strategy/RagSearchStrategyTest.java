@@ -0,0 +1,204 @@
+package com.nhnacademy.library.core.book.service.search.strategy;
+
+import com.nhnacademy.library.core.book.domain.SearchType;
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchRequest;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResult;
+import com.nhnacademy.library.core.book.dto.HybridSearchHit;
+import com.nhnacademy.library.core.book.properties.RagSearchProperties;
+import com.nhnacademy.library.core.book.service.ai.AiRecommendationService;
+import com.nhnacademy.library.core.book.service.cache.BookSearchCacheService;
+import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
+import com.nhnacademy.library.core.book.service.search.RrfService;
+import com.nhnacademy.library.core.book.util.SearchDeadline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * RagSearchStrategy 단위 테스트
+ *
+ * <p>캐시 미스 시 인라인 대기 예산 안에서 AI 추천 결과를 기다리는 동작과, 캐시 히트 시 검색을 생략하는 동작,
+ * 워밍업이 검증된 추천 항목을 스트리밍으로 전달하고 결과를 캐시에 저장하는 동작을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RagSearchStrategy 단위 테스트")
+class RagSearchStrategyTest {
+
+    @Mock
+    private HybridSearchStrategy hybridSearchStrategy;
+
+    @Mock
+    private SemanticCacheService semanticCacheService;
+
+    @Mock
+    private AiRecommendationService aiRecommendationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookSearchCacheService bookSearchCacheService;
+
+    private RagSearchProperties properties;
+    private RagSearchStrategy strategy;
+
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final BookSearchRequest request = new BookSearchRequest("자바", null, SearchType.RAG, null);
+    private final RrfService.Fusion fusion = new RrfService.Fusion(List.of(), 0);
+    private final BookSearchResult hybridResult = new BookSearchResult(new PageImpl<>(List.of()), null);
+
+    @BeforeEach
+    void setUp() {
+        properties = new RagSearchProperties();
+        properties.setInlineWaitMs(200);
+        strategy = new RagSearchStrategy(hybridSearchStrategy, semanticCacheService, aiRecommendationService,
+                eventPublisher, bookSearchCacheService, properties);
+
+        // 키워드 일치 캐시 히트 테스트에서는 사용되지 않는 스텁입니다.
+        float[] vector = {0.1f, 0.2f};
+        lenient().when(hybridSearchStrategy.embedAsync(eq(request), any()))
+                .thenReturn(CompletableFuture.completedFuture(vector));
+        lenient().when(hybridSearchStrategy.rankingAsync(eq(request), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(fusion));
+        // 워밍업 테스트에서는 캐시를 조회하지 않습니다.
+        lenient().when(semanticCacheService.findExactResult("자바")).thenReturn(Optional.empty());
+        lenient().when(semanticCacheService.findSimilarResult(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 AI 추천이 대기 예산 안에 끝나면 AI 검증 결과를 반환해야 한다")
+    void returnsAiResultWithinInlineBudget() {
+        // Given
+        BookSearchResult aiResult = new BookSearchResult(new PageImpl<>(List.of()), List.of());
+        when(bookSearchCacheService.warmUp("자바")).thenReturn(CompletableFuture.completedFuture(aiResult));
+
+        // When
+        BookSearchResult result = strategy.search(pageable, request);
+
+        // Then
+        assertThat(result.getAiResponse()).isSameAs(aiResult.getAiResponse());
+        assertThat(result.getCreatedAt()).isEqualTo(aiResult.getCreatedAt());
+        verify(hybridSearchStrategy, never()).page(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher, aiRecommendationService);
+    }
+
+    @Test
+    @DisplayName("AI 추천이 대기 예산을 넘기면 하이브리드 결과를 반환하고, 워밍업 이벤트를 다시 발행하지 않아야 한다")
+    void fallsBackToHybridWhenBudgetExceeded() {
+        // Given (완료되지 않는 워밍업)
+        CompletableFuture<BookSearchResult> inFlight = new CompletableFuture<>();
+        when(bookSearchCacheService.warmUp("자바")).thenReturn(inFlight);
+        when(hybridSearchStrategy.page(eq(pageable), eq(request), eq(fusion), any())).thenReturn(hybridResult);
+
+        // When
+        BookSearchResult result = strategy.search(pageable, request);
+
+        // Then
+        assertThat(result).isSameAs(hybridResult);
+        assertThat(inFlight).isNotDone();
+        verifyNoInteractions(eventPublisher, aiRecommendationService);
+    }
+
+    @Test
+    @DisplayName("캐시 히트 시 캐시된 전체 순위에서 요청 페이지만 잘라 전체 건수와 함께 반환해야 한다")
+    void cacheHitSlicesCachedRanking() {
+        // Given (전체 순위 3권)
+        BookSearchResult cached = new BookSearchResult(
+                new PageImpl<>(List.of(response(1L), response(2L), response(3L))), List.of());
+        when(semanticCacheService.findSimilarResult(any())).thenReturn(Optional.of(cached));
+
+        // When
+        BookSearchResult result = strategy.search(PageRequest.of(1, 2), request);
+
+        // Then
+        assertThat(result.getBooks().getContent()).extracting(BookSearchResponse::getId).containsExactly(3L);
+        assertThat(result.getBooks().getTotalElements()).isEqualTo(3);
+        assertThat(result.getBooks().getNumber()).isEqualTo(1);
+        verifyNoInteractions(eventPublisher, aiRecommendationService, bookSearchCacheService);
+    }
+
+    @Test
+    @DisplayName("키워드 일치 캐시 히트 시 질의 임베딩 생성과 후보 조회를 시작하지 않아야 한다")
+    void exactHitSkipsEmbeddingAndRetrieval() {
+        // Given
+        BookSearchResult cached = new BookSearchResult(new PageImpl<>(List.of(response(1L))), List.of());
+        when(semanticCacheService.findExactResult("자바")).thenReturn(Optional.of(cached));
+
+        // When
+        BookSearchResult result = strategy.search(pageable, request);
+
+        // Then
+        assertThat(result.getBooks().getContent()).extracting(BookSearchResponse::getId).containsExactly(1L);
+        verifyNoInteractions(hybridSearchStrategy, eventPublisher, aiRecommendationService, bookSearchCacheService);
+        verify(semanticCacheService, never()).findSimilarResult(any());
+    }
+
+    @Test
+    @DisplayName("워밍업은 검증을 통과한 추천 항목만 생성되는 즉시 전달하고, 응답이 끝나면 검증된 순위를 캐시에 저장해야 한다")
+    void warmUpStreamsApprovedRecommendationsAndCachesResult() {
+        // Given (LLM이 relevance 90, 30인 추천 항목을 순서대로 완성)
+        float[] vector = {0.1f, 0.2f};
+        BookSearchRequest warmUpRequest = new BookSearchRequest("자바", null, SearchType.RAG, vector, true);
+        List<HybridSearchHit> hits = List.of(new HybridSearchHit(1L, 0.05, 0.9), new HybridSearchHit(2L, 0.04, 0.8));
+        List<BookSearchResponse> candidates = List.of(response(1L), response(2L));
+        when(hybridSearchStrategy.embedAsync(eq(warmUpRequest), any()))
+                .thenReturn(CompletableFuture.completedFuture(vector));
+        when(hybridSearchStrategy.searchHitsAsync(eq(warmUpRequest), any(), anyInt(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new RrfService.Fusion(hits, 2)));
+        when(hybridSearchStrategy.hydrate(hits)).thenReturn(candidates);
+        BookAiRecommendationResponse approved = recommendation(1L, 90);
+        BookAiRecommendationResponse rejected = recommendation(2L, 30);
+        when(aiRecommendationService.recommendStream(eq("자바"), eq(candidates), any()))
+                .thenReturn(Flux.just(approved, rejected));
+        List<BookAiRecommendationResponse> streamed = new ArrayList<>();
+
+        // When
+        BookSearchResult result = strategy.warmUp(warmUpRequest, SearchDeadline.none(), streamed::add);
+
+        // Then
+        assertThat(streamed).containsExactly(approved);
+        assertThat(result.getBooks().getContent()).extracting(BookSearchResponse::getId).containsExactly(1L);
+        assertThat(result.getAiResponse()).containsExactly(approved, rejected);
+        verify(semanticCacheService).save(warmUpRequest, result);
+        verify(aiRecommendationService, never()).recommend(any(), any(), any());
+    }
+
+    private static BookAiRecommendationResponse recommendation(Long id, int relevance) {
+        BookAiRecommendationResponse recommendation = new BookAiRecommendationResponse();
+        recommendation.setId(id);
+        recommendation.setRelevance(relevance);
+        return recommendation;
+    }
+
+    private static BookSearchResponse response(Long id) {
+        return new BookSearchResponse(id, "isbn-" + id, "도서 " + id, null, "저자", "출판사",
+                BigDecimal.TEN, LocalDate.of(2024, 1, 1), null, "내용");
+    }
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountMinSketch 단위 테스트
+ */
+@DisplayName("CountMinSketch 단위 테스트")
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("빈도 추정치는 실제 증가 횟수보다 작지 않아야 한다")
+    void frequencyIsNeverUnderestimated() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(64, 1_000_000);
+
+        // When (카운터 수보다 많은 키로 충돌 유도)
+        for (int i = 0; i < 500; i++) {
+            for (int j = 0; j <= i % 5; j++) {
+                sketch.increment("query-" + i);
+            }
+        }
+
+        // Then
+        for (int i = 0; i < 500; i++) {
+            assertThat(sketch.frequency("query-" + i)).isGreaterThanOrEqualTo(i % 5 + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("String.hashCode()가 같은 키도 서로의 빈도에 영향을 주지 않아야 한다")
+    void sameStringHashCodeDoesNotShareCounters() {
+        // Given ("Aa"와 "BB"는 hashCode가 같습니다)
+        CountMinSketch sketch = new CountMinSketch(4_096, 1_000_000);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("Aa");
+        }
+
+        // Then
+        assertThat(sketch.frequency("Aa")).isEqualTo(3);
+        assertThat(sketch.frequency("BB")).isZero();
+    }
+
+    @Test
+    @DisplayName("충돌이 적으면 빈도를 정확히 추정해야 한다")
+    void frequencyIsExactWithoutCollisions() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(4_096, 1_000_000);
+
+        // When
+        sketch.increment("자바");
+        sketch.increment("자바");
+        int estimate = sketch.increment("자바");
+
+        // Then
+        assertThat(estimate).isEqualTo(3);
+        assertThat(sketch.frequency("자바")).isEqualTo(3);
+        assertThat(sketch.frequency("파이썬")).isZero();
+    }
+
+    @Test
+    @DisplayName("증가 횟수가 창 크기에 도달하면 모든 빈도를 절반으로 줄여야 한다")
+    void countersDecayAfterSampleSize() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(4_096, 10);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("자바");
+        }
+        sketch.increment("파이썬");
+
+        // When (10번째 증가에서 감쇠)
+        sketch.increment("파이썬");
+
+        // Then
+        assertThat(sketch.frequency("자바")).isEqualTo(4);
+        assertThat(sketch.frequency("파이썬")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * EmbeddingSnapshot 단위 테스트
+ *
+ * <p>스냅샷 파일 작성 후 메모리 매핑으로 다시 읽을 수 있는지 검증합니다.</p>
+ */
+@DisplayName("EmbeddingSnapshot 단위 테스트")
+class EmbeddingSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 ID와 벡터를 같은 순서로 읽을 수 있어야 한다")
+    void writeAndReadRoundTrip() throws IOException {
+        // Given (작성기 내부 버퍼 크기를 넘도록 여러 행 기록)
+        Path path = tempDir.resolve("embeddings.bin");
+        int dimension = 1024;
+        int rows = 300;
+        try (EmbeddingSnapshotWriter writer = EmbeddingSnapshotWriter.create(path, dimension)) {
+            for (int row = 0; row < rows; row++) {
+                writer.write(1_000L + row, vectorOf(dimension, row));
+            }
+        }
+
+        // When
+        EmbeddingSnapshot snapshot = EmbeddingSnapshot.open(path);
+
+        // Then
+        assertThat(snapshot.size()).isEqualTo(rows);
+        assertThat(snapshot.dimension()).isEqualTo(dimension);
+        assertThat(snapshot.createdAt()).isPositive();
+        assertThat(snapshot.id(0)).isEqualTo(1_000L);
+        assertThat(snapshot.id(rows - 1)).isEqualTo(1_000L + rows - 1);
+
+        FloatBuffer vector = snapshot.vector(123);
+        assertThat(vector.remaining()).isEqualTo(dimension);
+        assertThat(vector.get(0)).isEqualTo(123.0f);
+        assertThat(vector.get(dimension - 1)).isEqualTo(123.0f + (dimension - 1) * 0.001f);
+
+        float[] copied = new float[dimension];
+        snapshot.copyVector(299, copied);
+        assertThat(copied).containsExactly(vectorOf(dimension, 299));
+
+        float[] query = new float[dimension];
+        query[0] = 1.0f;
+        assertThat(snapshot.dot(7, query)).isCloseTo(7.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("형식이 다른 파일은 열 수 없어야 한다")
+    void invalidFileThrowsException() throws IOException {
+        // Given
+        Path path = tempDir.resolve("invalid.bin");
+        Files.write(path, new byte[64]);
+
+        // When & Then
+        assertThatThrownBy(() -> EmbeddingSnapshot.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 기록할 수 없어야 한다")
+    void writeDimensionMismatchThrowsException() throws IOException {
+        // Given
+        try (EmbeddingSnapshotWriter writer = EmbeddingSnapshotWriter.create(tempDir.resolve("e.bin"), 3)) {
+            // When & Then
+            assertThatThrownBy(() -> writer.write(1L, new float[]{1.0f}))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static float[] vectorOf(int dimension, int row) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = row + d * 0.001f;
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * FloatVectorMatrix 단위 테스트
+ *
+ * <p>행별 유사도 계산과 상위 k개 조회(순차/병렬)를 검증합니다.</p>
+ */
+@DisplayName("FloatVectorMatrix 단위 테스트")
+class FloatVectorMatrixTest {
+
+    @Test
+    @DisplayName("행별 유사도는 VectorUtils 코사인 유사도와 같아야 한다")
+    void scoresMatchCosineSimilarity() {
+        // Given
+        float[] row1 = {1.0f, 2.0f, 3.0f};
+        float[] row2 = {3.0f, 2.0f, 1.0f};
+        float[] zero = {0.0f, 0.0f, 0.0f};
+        FloatVectorMatrix matrix = FloatVectorMatrix.builder(3)
+                .add(10L, row1)
+                .add(20L, row2)
+                .add(30L, zero)
+                .build();
+        float[] query = {1.0f, 1.0f, 2.0f};
+
+        // When
+        double[] scores = matrix.scores(query);
+
+        // Then
+        assertThat(matrix.size()).isEqualTo(3);
+        assertThat(matrix.id(1)).isEqualTo(20L);
+        assertThat(scores[0]).isCloseTo(VectorUtils.calculateCosineSimilarity(query, row1), within(1e-6));
+        assertThat(scores[1]).isCloseTo(VectorUtils.calculateCosineSimilarity(query, row2), within(1e-6));
+        assertThat(scores[2]).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 행 중 유사도가 높은 순으로 최대 k개를 반환해야 한다")
+    void topKAppliesThresholdAndLimit() {
+        // Given
+        FloatVectorMatrix matrix = FloatVectorMatrix.builder(2)
+                .add(1L, new float[]{1.0f, 0.0f})
+                .add(2L, new float[]{0.9f, 0.1f})
+                .add(3L, new float[]{0.0f, 1.0f})
+                .add(4L, new float[]{0.7f, 0.3f})
+                .build();
+
+        // When
+        List<FloatVectorMatrix.Match> matches = matrix.topK(new float[]{1.0f, 0.0f}, 2, 0.5);
+
+        // Then
+        assertThat(matches).extracting(FloatVectorMatrix.Match::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("병렬 계산 결과는 전체 정렬 결과의 상위 k개와 같아야 한다")
+    void parallelTopKMatchesExhaustiveSort() {
+        // Given
+        Random random = new Random(42);
+        int rows = FloatVectorMatrix.PARALLEL_THRESHOLD * 3 + 17;
+        FloatVectorMatrix.Builder builder = FloatVectorMatrix.builder(32);
+        for (long id = 0; id < rows; id++) {
+            builder.add(id, randomVector(random, 32));
+        }
+        FloatVectorMatrix matrix = builder.build();
+        float[] query = randomVector(random, 32);
+
+        // When
+        List<FloatVectorMatrix.Match> matches = matrix.topK(query, 10, -1.0, new ForkJoinPool(4));
+
+        // Then
+        double[] scores = matrix.scores(query);
+        List<Integer> expected = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            expected.add(row);
+        }
+        expected.sort(Comparator.comparingDouble((Integer row) -> scores[row]).reversed());
+        assertThat(matches).extracting(match -> (int) match.id())
+                .containsExactlyElementsOf(expected.subList(0, 10));
+    }
+
+    @Test
+    @DisplayName("차원이 다른 행이나 질의는 예외가 발생해야 한다")
+    void dimensionMismatchThrowsException() {
+        // Given
+        FloatVectorMatrix.Builder builder = FloatVectorMatrix.builder(3);
+        FloatVectorMatrix matrix = FloatVectorMatrix.builder(3).add(1L, new float[]{1.0f, 0.0f, 0.0f}).build();
+
+        // When & Then
+        assertThatThrownBy(() -> builder.add(1L, new float[]{1.0f}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> matrix.topK(new float[]{1.0f}, 1, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static float[] randomVector(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
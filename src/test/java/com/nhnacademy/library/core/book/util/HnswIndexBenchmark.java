@@ -0,0 +1,120 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시맨틱 캐시 조회 벤치마크 (선형 탐색 vs HNSW)
+ *
+ * <p>캐시 항목 수(1k, 10k, 100k)별로 1024차원 벡터에 대한 top-1 조회 시간을 비교합니다.
+ * 질의 벡터는 저장된 벡터에 작은 노이즈를 더해 0.98 임계값 이상의 항목이 존재하도록 생성합니다.</p>
+ *
+ * <p>실행 방법: IDE에서 {@link #main(String[])}을 실행하거나
+ * {@code mvn test-compile} 후 test classpath로 {@code org.openjdk.jmh.Main HnswIndexBenchmark}를 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class HnswIndexBenchmark {
+
+    private static final int DIMENSION = 1024;
+    private static final int QUERY_COUNT = 128;
+    private static final double SIMILARITY_THRESHOLD = 0.98;
+    private static final float QUERY_NOISE = 0.005f;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private float[][] vectors;
+    private float[][] queries;
+    private HnswIndex<Integer> index;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new float[size][];
+        index = new HnswIndex<>();
+        for (int i = 0; i < size; i++) {
+            vectors[i] = randomVector(random);
+            index.add(i, vectors[i]);
+        }
+
+        queries = new float[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            float[] base = vectors[random.nextInt(size)];
+            float[] query = new float[DIMENSION];
+            for (int d = 0; d < DIMENSION; d++) {
+                query[d] = base[d] + (float) random.nextGaussian() * QUERY_NOISE;
+            }
+            queries[i] = query;
+        }
+    }
+
+    /**
+     * 기존 SemanticCacheService 방식: 모든 항목과 코사인 유사도를 계산합니다.
+     */
+    @Benchmark
+    public int linearScan() {
+        float[] query = nextQuery();
+        int best = -1;
+        double bestSimilarity = SIMILARITY_THRESHOLD;
+        for (int i = 0; i < vectors.length; i++) {
+            double similarity = VectorUtils.calculateCosineSimilarity(query, vectors[i]);
+            if (similarity >= bestSimilarity) {
+                bestSimilarity = similarity;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int hnswSearch() {
+        List<HnswIndex.Neighbor<Integer>> neighbors = index.search(nextQuery(), 1);
+        if (neighbors.isEmpty() || neighbors.get(0).similarity() < SIMILARITY_THRESHOLD) {
+            return -1;
+        }
+        return neighbors.get(0).key();
+    }
+
+    private float[] nextQuery() {
+        cursor = (cursor + 1) % QUERY_COUNT;
+        return queries[cursor];
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HnswIndexBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
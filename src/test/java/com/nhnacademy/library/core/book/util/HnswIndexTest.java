@@ -0,0 +1,146 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HnswIndex 단위 테스트
+ *
+ * <p>근사 최근접 이웃 검색, 삭제, 대체 동작을 검증합니다.</p>
+ */
+@DisplayName("HnswIndex 단위 테스트")
+class HnswIndexTest {
+
+    private static final int DIMENSION = 64;
+
+    @Test
+    @DisplayName("가장 유사한 벡터를 top-1으로 반환해야 한다")
+    void searchReturnsMostSimilarVector() {
+        // Given
+        HnswIndex<String> index = new HnswIndex<>();
+        index.add("a", new float[]{1.0f, 0.0f, 0.0f});
+        index.add("b", new float[]{0.0f, 1.0f, 0.0f});
+        index.add("c", new float[]{0.0f, 0.0f, 1.0f});
+
+        // When
+        List<HnswIndex.Neighbor<String>> neighbors = index.search(new float[]{0.1f, 0.9f, 0.0f}, 1);
+
+        // Then
+        assertThat(neighbors).hasSize(1);
+        assertThat(neighbors.get(0).key()).isEqualTo("b");
+        assertThat(neighbors.get(0).similarity()).isGreaterThan(0.99);
+    }
+
+    @Test
+    @DisplayName("삭제된 벡터는 검색 결과에 포함되지 않아야 한다")
+    void removedVectorIsNotReturned() {
+        // Given
+        HnswIndex<String> index = new HnswIndex<>();
+        index.add("a", new float[]{1.0f, 0.0f});
+        index.add("b", new float[]{0.9f, 0.1f});
+
+        // When
+        index.remove("a");
+        List<HnswIndex.Neighbor<String>> neighbors = index.search(new float[]{1.0f, 0.0f}, 2);
+
+        // Then
+        assertThat(neighbors).extracting(HnswIndex.Neighbor::key).containsExactly("b");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 추가하면 기존 벡터를 대체해야 한다")
+    void addWithSameKeyReplacesVector() {
+        // Given
+        HnswIndex<String> index = new HnswIndex<>();
+        index.add("a", new float[]{1.0f, 0.0f});
+
+        // When
+        index.add("a", new float[]{0.0f, 1.0f});
+        List<HnswIndex.Neighbor<String>> neighbors = index.search(new float[]{0.0f, 1.0f}, 1);
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(neighbors.get(0).similarity()).isGreaterThan(0.99);
+    }
+
+    @Test
+    @DisplayName("같은 키를 반복해서 대체하거나 삭제 후 추가해도 삭제 표시된 노드가 쌓이지 않아야 한다")
+    void repeatedReplaceAndRemoveKeepsGraphBounded() {
+        // Given
+        HnswIndex<String> index = new HnswIndex<>();
+        index.add("other", new float[]{0.0f, 1.0f});
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            index.add("a", new float[]{1.0f, i * 0.001f});
+            if (i % 100 == 0) {
+                index.remove("a");
+            }
+        }
+        List<HnswIndex.Neighbor<String>> neighbors = index.search(new float[]{1.0f, 1.0f}, 2);
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nodeCount()).isLessThanOrEqualTo(2 * index.size() + 1);
+        assertThat(neighbors).extracting(HnswIndex.Neighbor::key).containsExactlyInAnyOrder("a", "other");
+    }
+
+    @Test
+    @DisplayName("영 벡터와 차원이 다른 질의는 빈 결과를 반환해야 한다")
+    void invalidQueryReturnsEmpty() {
+        // Given
+        HnswIndex<String> index = new HnswIndex<>();
+        index.add("a", new float[]{1.0f, 0.0f, 0.0f});
+
+        // When & Then
+        assertThat(index.search(new float[]{0.0f, 0.0f, 0.0f}, 1)).isEmpty();
+        assertThat(index.search(new float[]{1.0f, 0.0f}, 1)).isEmpty();
+        assertThat(index.search(null, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대량의 벡터에서도 노이즈가 섞인 질의의 원본 벡터를 찾아야 한다")
+    void highRecallOnNoisyQueries() {
+        // Given
+        Random random = new Random(7);
+        int size = 2000;
+        float[][] vectors = new float[size][DIMENSION];
+        HnswIndex<Integer> index = new HnswIndex<>();
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d < DIMENSION; d++) {
+                vectors[i][d] = (float) random.nextGaussian();
+            }
+            index.add(i, vectors[i]);
+        }
+
+        // 절반을 삭제하여 삭제 표시된 노드를 거치는 탐색도 함께 검증
+        for (int i = 0; i < size; i += 2) {
+            index.remove(i);
+        }
+
+        // When
+        int hits = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            int target = 1 + 2 * random.nextInt(size / 2);
+            float[] query = vectors[target].clone();
+            for (int d = 0; d < DIMENSION; d++) {
+                query[d] += (float) random.nextGaussian() * 0.05f;
+            }
+            List<HnswIndex.Neighbor<Integer>> neighbors = index.search(query, 1);
+            if (!neighbors.isEmpty() && neighbors.get(0).key() == target) {
+                hits++;
+            }
+        }
+
+        // Then
+        assertThat(index.size()).isEqualTo(size / 2);
+        assertThat(hits).isGreaterThanOrEqualTo(95);
+    }
+}
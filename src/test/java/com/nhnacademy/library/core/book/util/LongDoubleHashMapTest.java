@@ -0,0 +1,76 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LongDoubleHashMap 단위 테스트
+ */
+@DisplayName("LongDoubleHashMap 단위 테스트")
+class LongDoubleHashMapTest {
+
+    @Test
+    @DisplayName("같은 키에 더한 값은 누적되어야 한다")
+    void addToAccumulates() {
+        // Given
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+
+        // When
+        map.addTo(7L, 1.5);
+        double result = map.addTo(7L, 2.0);
+
+        // Then
+        assertThat(result).isEqualTo(3.5);
+        assertThat(map.getOrDefault(7L, 0.0)).isEqualTo(3.5);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("putIfAbsent는 이미 있는 키의 값을 바꾸지 않아야 한다")
+    void putIfAbsentKeepsExisting() {
+        // Given
+        LongDoubleHashMap map = new LongDoubleHashMap(4);
+        map.putIfAbsent(1L, 0.9);
+
+        // When
+        boolean added = map.putIfAbsent(1L, 0.1);
+
+        // Then
+        assertThat(added).isFalse();
+        assertThat(map.getOrDefault(1L, 0.0)).isEqualTo(0.9);
+        assertThat(map.containsKey(2L)).isFalse();
+        assertThat(map.getOrDefault(2L, -1.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘어 재해싱되어도 모든 항목을 슬롯 순회로 조회할 수 있어야 한다")
+    void rehashKeepsAllEntries() {
+        // Given
+        LongDoubleHashMap map = new LongDoubleHashMap(2);
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // When (음수, 0, 큰 값 포함)
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(5_000) - 2_500L + (i % 7 == 0 ? Long.MAX_VALUE / 2 : 0);
+            map.addTo(key, 1.0);
+            expected.merge(key, 1.0, Double::sum);
+        }
+
+        // Then
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<Long, Double> actual = new HashMap<>();
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.isOccupied(slot)) {
+                actual.put(map.keyAt(slot), map.valueAt(slot));
+            }
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SearchDeadline 단위 테스트
+ */
+@DisplayName("SearchDeadline 단위 테스트")
+class SearchDeadlineTest {
+
+    @Test
+    @DisplayName("제한 없는 마감 시각은 만료되지 않고 future를 그대로 반환해야 한다")
+    void noneIsUnbounded() {
+        // Given
+        SearchDeadline deadline = SearchDeadline.ofMillis(0);
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        // When & Then
+        assertThat(deadline.isBounded()).isFalse();
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isEqualTo(Long.MAX_VALUE);
+        assertThat(deadline.orElse(future, "fallback")).isSameAs(future);
+    }
+
+    @Test
+    @DisplayName("쿼리 타임아웃은 남은 시간을 초 단위로 올림하되 최소 1초여야 한다")
+    void queryTimeoutSeconds() {
+        assertThat(SearchDeadline.after(Duration.ofMillis(2_500)).queryTimeoutSeconds()).isEqualTo(3);
+        assertThat(SearchDeadline.after(Duration.ZERO).queryTimeoutSeconds()).isEqualTo(1);
+        assertThat(SearchDeadline.after(Duration.ZERO).isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마감 시각까지 완료되지 않은 future는 fallback으로 완료되어야 한다")
+    void orElseCompletesWithFallback() {
+        // Given
+        SearchDeadline deadline = SearchDeadline.after(Duration.ofMillis(50));
+
+        // When
+        List<Long> result = deadline.orElse(new CompletableFuture<List<Long>>(), List.of()).join();
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(deadline.isExpired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("bind로 감싼 작업은 다른 스레드에서도 같은 마감 시각을 current()로 조회해야 한다")
+    void bindPropagatesToOtherThreads() {
+        // Given
+        SearchDeadline deadline = SearchDeadline.after(Duration.ofSeconds(5));
+
+        // When
+        SearchDeadline seen = CompletableFuture.supplyAsync(deadline.bind(SearchDeadline::current)).join();
+
+        // Then
+        assertThat(seen).isSameAs(deadline);
+        assertThat(SearchDeadline.current().isBounded()).isFalse();
+    }
+}
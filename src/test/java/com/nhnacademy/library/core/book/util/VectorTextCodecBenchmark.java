@@ -0,0 +1,97 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * pgvector 텍스트 변환 벤치마크 (기존 구현 vs {@link VectorTextCodec})
+ *
+ * <p>1024차원 임베딩 하나를 기준으로, {@code vectorSearch}의 질의 벡터 바인딩(인코딩)과
+ * {@code findBookEmbeddingsByIds}/엔티티 로딩의 행별 변환(디코딩) 비용을 비교합니다.
+ * {@code legacy*}는 {@code split}/{@code Float.parseFloat} 기반의 기존 구현입니다.</p>
+ *
+ * <p>실행 방법: IDE에서 {@link #main(String[])}을 실행하거나
+ * {@code mvn test-compile} 후 test classpath로 {@code org.openjdk.jmh.Main VectorTextCodecBenchmark -prof gc}를 실행합니다.
+ * {@code gc.alloc.rate.norm} 지표가 호출당 할당 바이트입니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorTextCodecBenchmark {
+
+    private static final int DIMENSION = 1024;
+
+    private float[] vector;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian() * 0.05f;
+        }
+        text = VectorTextCodec.encode(vector);
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < vector.length; i++) {
+            sb.append(vector[i]);
+            if (i < vector.length - 1) {
+                sb.append(",");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String encode() {
+        return VectorTextCodec.encode(vector);
+    }
+
+    @Benchmark
+    public float[] legacyDecode() {
+        String cleanData = text.substring(1, text.length() - 1);
+        String[] parts = cleanData.split(",");
+        float[] result = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Float.parseFloat(parts[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public float[] decode() {
+        return VectorTextCodec.decode(text);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VectorTextCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * VectorTextCodec 단위 테스트
+ *
+ * <p>pgvector 텍스트 표현의 인코딩/디코딩 결과가 기존 {@code Float.toString}/{@code Float.parseFloat}과
+ * 비트 단위로 일치하는지 검증합니다.</p>
+ */
+@DisplayName("VectorTextCodec 단위 테스트")
+class VectorTextCodecTest {
+
+    @Test
+    @DisplayName("벡터를 대괄호와 쉼표로 구분된 문자열로 인코딩해야 한다")
+    void encode() {
+        // Given
+        float[] vector = {1.0f, -0.5f, 1.0E-10f};
+
+        // When
+        String text = VectorTextCodec.encode(vector);
+
+        // Then
+        assertThat(text).isEqualTo("[1.0,-0.5,1.0E-10]");
+    }
+
+    @Test
+    @DisplayName("빈 벡터는 []로 인코딩하고 다시 길이 0인 배열로 디코딩해야 한다")
+    void emptyVector() {
+        assertThat(VectorTextCodec.encode(new float[0])).isEqualTo("[]");
+        assertThat(VectorTextCodec.decode("[]")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pgvector가 반환하는 형식(공백, 지수 표기, 정수)을 디코딩해야 한다")
+    void decodePgvectorFormats() {
+        // When
+        float[] vector = VectorTextCodec.decode("[1, -2.5,3e-05 ,4E+2,0,-0,.25,7.]");
+
+        // Then
+        assertThat(vector).containsExactly(1.0f, -2.5f, 3e-05f, 400.0f, 0.0f, -0.0f, 0.25f, 7.0f);
+        assertThat(Float.floatToRawIntBits(vector[5])).isEqualTo(Float.floatToRawIntBits(-0.0f));
+    }
+
+    @Test
+    @DisplayName("무작위 벡터를 인코딩 후 디코딩하면 원래 값과 비트 단위로 같아야 한다")
+    void roundTripRandomVectors() {
+        // Given
+        Random random = new Random(42);
+        float[] vector = new float[100_000];
+        for (int i = 0; i < vector.length; i++) {
+            // 정규분포, 아주 작은 값, 아주 큰 값, 임의 비트 패턴을 섞어 다양한 지수 범위를 검증합니다.
+            vector[i] = switch (i % 4) {
+                case 0 -> (float) random.nextGaussian() * 0.05f;
+                case 1 -> (float) (random.nextGaussian() * 1e-30);
+                case 2 -> (float) (random.nextGaussian() * 1e30);
+                default -> randomFiniteFloat(random);
+            };
+        }
+
+        // When
+        float[] decoded = VectorTextCodec.decode(VectorTextCodec.encode(vector));
+
+        // Then
+        assertThat(decoded).hasSize(vector.length);
+        for (int i = 0; i < vector.length; i++) {
+            assertThat(Float.floatToRawIntBits(decoded[i]))
+                    .as("element %d (%s)", i, vector[i])
+                    .isEqualTo(Float.floatToRawIntBits(vector[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("Float.toString으로 표현하지 않은 긴 10진수도 Float.parseFloat과 같은 값으로 디코딩해야 한다")
+    void decodeMatchesFloatParseFloat() {
+        // Given
+        Random random = new Random(7);
+        String[] tokens = new String[10_000];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = Double.toString(random.nextGaussian() * Math.pow(10, random.nextInt(20) - 10));
+        }
+
+        // When
+        float[] decoded = VectorTextCodec.decode("[" + String.join(",", tokens) + "]");
+
+        // Then
+        for (int i = 0; i < tokens.length; i++) {
+            assertThat(decoded[i]).as(tokens[i]).isEqualTo(Float.parseFloat(tokens[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 원소가 있으면 NumberFormatException이 발생해야 한다")
+    void decodeInvalidElement() {
+        assertThatThrownBy(() -> VectorTextCodec.decode("[1.0,abc]"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> VectorTextCodec.decode("[1.0,,2.0]"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> VectorTextCodec.decode("[1.0e]"))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("null 벡터를 인코딩하면 예외가 발생해야 한다")
+    void encodeNull() {
+        assertThatThrownBy(() -> VectorTextCodec.encode(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static float randomFiniteFloat(Random random) {
+        while (true) {
+            float value = Float.intBitsToFloat(random.nextInt());
+            if (Float.isFinite(value)) {
+                return value;
+            }
+        }
+    }
+}
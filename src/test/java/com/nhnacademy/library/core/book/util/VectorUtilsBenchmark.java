@@ -0,0 +1,114 @@
+package com.nhnacademy.library.core.book.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벡터 연산 커널 벤치마크 (스칼라 vs Vector API)
+ *
+ * <p>1024차원 float 벡터에 대해 코사인 유사도, 정규화 벡터 코사인(내적), 평균 벡터 계산 시간을 비교합니다.
+ * {@code legacyCosine}은 커널 도입 이전의 {@code Math.pow} 기반 구현입니다.</p>
+ *
+ * <p>실행 방법: IDE에서 {@link #main(String[])}을 실행하거나
+ * {@code mvn test-compile} 후 test classpath로 {@code org.openjdk.jmh.Main VectorUtilsBenchmark}를 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorUtilsBenchmark {
+
+    private static final int DIMENSION = 1024;
+    private static final int AVERAGE_VECTOR_COUNT = 20;
+
+    @Param({"scalar", "simd"})
+    private String kernel;
+
+    private VectorKernels kernels;
+    private float[] a;
+    private float[] b;
+    private float[] normalizedA;
+    private float[] normalizedB;
+    private float[][] history;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kernels = "simd".equals(kernel) ? new SimdVectorKernels() : new ScalarVectorKernels();
+
+        Random random = new Random(42);
+        a = randomVector(random);
+        b = randomVector(random);
+        normalizedA = VectorUtils.normalize(a);
+        normalizedB = VectorUtils.normalize(b);
+        history = new float[AVERAGE_VECTOR_COUNT][];
+        for (int i = 0; i < AVERAGE_VECTOR_COUNT; i++) {
+            history[i] = randomVector(random);
+        }
+    }
+
+    @Benchmark
+    public double legacyCosine() {
+        double dotProduct = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+            normA += Math.pow(a[i], 2);
+            normB += Math.pow(b[i], 2);
+        }
+        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    @Benchmark
+    public double cosine() {
+        return kernels.cosine(a, b);
+    }
+
+    @Benchmark
+    public double normalizedCosine() {
+        return kernels.dot(normalizedA, normalizedB);
+    }
+
+    @Benchmark
+    public float[] averageVector() {
+        float[] result = new float[DIMENSION];
+        for (float[] vector : history) {
+            kernels.addInPlace(result, vector);
+        }
+        kernels.divideInPlace(result, history.length);
+        return result;
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int d = 0; d < DIMENSION; d++) {
+            vector[d] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VectorUtilsBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
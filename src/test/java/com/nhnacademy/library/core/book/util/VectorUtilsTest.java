@@ -5,15 +5,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * VectorUtils 단위 테스트
  *
- * <p>코사인 유사도와 평균 벡터 계산을 검증합니다.</p>
+ * <p>코사인 유사도, 정규화, 평균 벡터 계산과 스칼라/SIMD 커널 간 결과 일치를 검증합니다.</p>
  */
 @DisplayName("VectorUtils 단위 테스트")
 class VectorUtilsTest {
@@ -186,4 +188,61 @@ class VectorUtilsTest {
         // Then (유사한 벡터이므로 높은 유사도)
         assertThat(similarity).isGreaterThan(0.9);
     }
+
+    @Test
+    @DisplayName("정규화된 벡터의 크기는 1이고 코사인 유사도는 원본과 같아야 한다")
+    void normalizedVectorCosineSimilarity() {
+        // Given
+        float[] vector1 = {1.0f, 2.0f, 3.0f};
+        float[] vector2 = {3.0f, 2.0f, 1.0f};
+
+        // When
+        float[] normalized1 = VectorUtils.normalize(vector1);
+        float[] normalized2 = VectorUtils.normalize(vector2);
+
+        // Then
+        assertThat(VectorUtils.l2Norm(normalized1)).isCloseTo(1.0, within(1e-6));
+        assertThat(VectorUtils.calculateNormalizedCosineSimilarity(normalized1, normalized2))
+            .isCloseTo(VectorUtils.calculateCosineSimilarity(vector1, vector2), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("영 벡터는 정규화할 수 없으므로 null을 반환해야 한다")
+    void zeroVectorNormalizeReturnsNull() {
+        assertThat(VectorUtils.normalize(new float[]{0.0f, 0.0f})).isNull();
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터의 내적 계산 시 예외가 발생해야 한다")
+    void differentDimensionsDotProductThrowsException() {
+        assertThatThrownBy(() -> VectorUtils.dotProduct(new float[]{1.0f}, new float[]{1.0f, 2.0f}))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("SIMD 커널과 스칼라 커널의 결과가 오차 범위 내에서 같아야 한다")
+    void simdKernelsMatchScalarKernels() {
+        // Given (벡터 레인 수로 나누어떨어지지 않는 차원으로 나머지 처리까지 검증)
+        Random random = new Random(7);
+        float[] vector1 = new float[1027];
+        float[] vector2 = new float[1027];
+        for (int i = 0; i < vector1.length; i++) {
+            vector1[i] = (float) random.nextGaussian();
+            vector2[i] = (float) random.nextGaussian();
+        }
+        VectorKernels scalar = new ScalarVectorKernels();
+        VectorKernels simd = new SimdVectorKernels();
+
+        // When
+        float[] scalarSum = vector1.clone();
+        float[] simdSum = vector1.clone();
+        scalar.addInPlace(scalarSum, vector2);
+        simd.addInPlace(simdSum, vector2);
+
+        // Then
+        assertThat(simd.dot(vector1, vector2)).isCloseTo(scalar.dot(vector1, vector2), within(1e-3));
+        assertThat(simd.cosine(vector1, vector2)).isCloseTo(scalar.cosine(vector1, vector2), within(1e-6));
+        assertThat(simd.squaredNorm(vector1)).isCloseTo(scalar.squaredNorm(vector1), within(1e-2));
+        assertThat(simdSum).containsExactly(scalarSum);
+    }
 }
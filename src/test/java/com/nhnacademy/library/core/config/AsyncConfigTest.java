@@ -0,0 +1,127 @@
+package com.nhnacademy.library.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AsyncConfig 단위 테스트
+ *
+ * <p>작업 종류별 Executor의 스레드 종류, 거부 정책과 지표 노출을 검증합니다.</p>
+ */
+@DisplayName("AsyncConfig 단위 테스트")
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncExecutorProperties properties = new AsyncExecutorProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("워밍업 Executor는 포화 시 작업을 거부하고 거부 횟수와 대기 큐 크기를 지표로 노출해야 한다")
+    void warmUpExecutorRejectsAndCountsRejections() throws InterruptedException {
+        // Given (스레드 1개, 대기 큐 1개)
+        properties.setWarmUp(new AsyncExecutorProperties.Pool(1, 1, 1, true));
+        executor = (ThreadPoolTaskExecutor) asyncConfig.warmUpExecutor(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // When
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(this::awaitRelease);
+
+        // Then
+        assertThatThrownBy(() -> executor.execute(this::awaitRelease))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "warm-up").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "warm-up").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 설정이 켜진 Executor는 가상 스레드에서 작업을 실행해야 한다")
+    void embeddingExecutorUsesVirtualThreads() throws InterruptedException {
+        // Given
+        Executor embeddingExecutor = asyncConfig.embeddingExecutor(properties, meterRegistry);
+        executor = (ThreadPoolTaskExecutor) embeddingExecutor;
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        embeddingExecutor.execute(() -> {
+            thread.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get().isVirtual()).isTrue();
+        assertThat(thread.get().getName()).startsWith("embedding-");
+    }
+
+    @Test
+    @DisplayName("검색 DB 조회 Executor는 포화 시 호출 스레드에서 작업을 실행해야 한다")
+    void retrievalExecutorRunsOnCallerWhenSaturated() throws InterruptedException {
+        // Given
+        properties.setRetrieval(new AsyncExecutorProperties.Pool(1, 1, 0, false));
+        executor = (ThreadPoolTaskExecutor) asyncConfig.searchRetrievalExecutor(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        // Then
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "search-retrieval").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기본 Executor도 대기 큐 크기와 거부 횟수를 지표로 노출해야 한다")
+    void taskExecutorExposesMetrics() {
+        // Given
+        executor = (ThreadPoolTaskExecutor) asyncConfig.taskExecutor(properties, meterRegistry);
+
+        // When & Then
+        assertThat(executor.getThreadNamePrefix()).isEqualTo("task-");
+        assertThat(meterRegistry.get("executor.queued").tag("name", "task").gauge().value()).isZero();
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "task").counter().count()).isZero();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
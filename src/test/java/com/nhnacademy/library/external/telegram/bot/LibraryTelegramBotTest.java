@@ -1,7 +1,11 @@
 package com.nhnacademy.library.external.telegram.bot;
 
+import com.nhnacademy.library.core.book.dto.BookAiRecommendationResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchResponse;
+import com.nhnacademy.library.core.book.dto.BookSearchStreamEvent;
 import com.nhnacademy.library.core.book.service.cache.SemanticCacheService;
-import com.nhnacademy.library.core.book.service.search.BookSearchService;
+import com.nhnacademy.library.core.book.service.personalization.PersonalizationService;
+import com.nhnacademy.library.core.book.service.search.BookSearchStreamService;
 import com.nhnacademy.library.external.telegram.config.TelegramBotProperties;
 import com.nhnacademy.library.external.telegram.handler.CallbackQueryHandler;
 import com.nhnacademy.library.external.telegram.keyboard.TelegramKeyboardFactory;
@@ -10,13 +14,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,7 +41,9 @@ class LibraryTelegramBotTest {
     @Mock
     private TelegramBotProperties properties;
     @Mock
-    private BookSearchService bookSearchService;
+    private BookSearchStreamService bookSearchStreamService;
+    @Mock
+    private PersonalizationService personalizationService;
     @Mock
     private SemanticCacheService semanticCacheService;
     @Mock
@@ -47,8 +61,8 @@ class LibraryTelegramBotTest {
         lenient().when(properties.getUsername()).thenReturn("test_bot");
 
         DefaultBotOptions options = new DefaultBotOptions();
-        bot = new LibraryTelegramBot(properties, options, bookSearchService, semanticCacheService,
-                                      callbackQueryHandler, keyboardFactory, feedbackService);
+        bot = new LibraryTelegramBot(properties, options, bookSearchStreamService, personalizationService,
+                                      semanticCacheService, callbackQueryHandler, keyboardFactory, feedbackService);
     }
 
     @Test
@@ -123,6 +137,45 @@ class LibraryTelegramBotTest {
         assertThat(update.hasMessage()).isFalse();
     }
 
+    @Test
+    @DisplayName("검색 시 개인화된 하이브리드 결과를 먼저 보내고, AI 추천은 도착한 순서대로 한 건씩 보내야 한다")
+    void testSearchSendsHybridThenStreamedRecommendations() throws Exception {
+        // Given (키워드 → 병합 → 추천 항목 → AI 단계, AI 단계의 추천은 이미 보낸 항목)
+        LibraryTelegramBot spyBot = spy(bot);
+        doReturn(null).when(spyBot).execute(any(SendMessage.class));
+        BookSearchResponse book = new BookSearchResponse(1L, "isbn", "자바의 정석", null, "남궁성",
+                null, null, null, null, "내용");
+        BookAiRecommendationResponse recommendation = new BookAiRecommendationResponse();
+        recommendation.setId(1L);
+        recommendation.setRelevance(90);
+        recommendation.setWhy("자바 입문서로 적합합니다.");
+        when(personalizationService.personalizedSearch(List.of(book), 12345L)).thenReturn(List.of(book));
+        when(bookSearchStreamService.search(any(), any(), any())).thenAnswer(invocation -> {
+            Consumer<BookSearchStreamEvent> listener = invocation.getArgument(2);
+            listener.accept(new BookSearchStreamEvent(BookSearchStreamEvent.Stage.KEYWORD, List.of(book), 1, null));
+            listener.accept(new BookSearchStreamEvent(BookSearchStreamEvent.Stage.HYBRID, List.of(book), 1, null));
+            listener.accept(BookSearchStreamEvent.recommendation(book, recommendation));
+            listener.accept(new BookSearchStreamEvent(BookSearchStreamEvent.Stage.AI, List.of(book), 1,
+                    List.of(recommendation)));
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // When
+        spyBot.onUpdateReceived(createUpdateWithMessage("자바", 12345L));
+
+        // Then (헤더, 도서, 추천 사유, 추천 도서 순으로 전송되고 AI 단계의 추천은 다시 보내지 않음)
+        ArgumentCaptor<SendMessage> sent = ArgumentCaptor.forClass(SendMessage.class);
+        verify(spyBot, atLeastOnce()).execute(sent.capture());
+        assertThat(sent.getAllValues()).extracting(SendMessage::getText)
+                .filteredOn(text -> !text.isBlank())
+                .satisfiesExactly(
+                        header -> assertThat(header).contains("\"자바\" 검색 결과"),
+                        hybridBook -> assertThat(hybridBook).startsWith("1. 자바의 정석"),
+                        reason -> assertThat(reason).contains("AI 추천 1").contains("자바 입문서로 적합합니다."),
+                        recommendedBook -> assertThat(recommendedBook).startsWith("1. 자바의 정석"));
+        verify(callbackQueryHandler).setRecentQuery(eq(12345L), eq("자바"));
+    }
+
     /**
      * 테스트용 Update 객체 생성
      */